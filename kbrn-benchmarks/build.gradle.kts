@@ -0,0 +1,47 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":kbrn"))
+    jmh(project(":kbrn-jackson"))
+    jmh(project(":kbrn-vector"))
+}
+
+// kbrn-vector 모듈 (Vector API) 을 함께 측정하므로 벤치마크는 Java 21 로 빌드한다.
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+// kbrn 모듈의 테스트 데이터 (kbrn_sample.csv) 를 벤치마크 코퍼스로 재사용
+sourceSets {
+    named("jmh") {
+        resources.srcDir(project(":kbrn").file("src/test/resources"))
+    }
+}
+
+// 릴리스 간 비교를 위해 결과를 버전별 JSON 파일로 남긴다.
+// 예) ./gradlew :kbrn-benchmarks:jmh -PjmhIncludes=KbrnUtilsBenchmark
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    jvmArgsAppend.addAll(vectorModule)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/kbrn-${project.version}.json"))
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+// 벤치마크 모듈은 배포하지 않는다.
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
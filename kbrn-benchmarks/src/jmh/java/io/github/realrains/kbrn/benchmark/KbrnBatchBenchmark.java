@@ -0,0 +1,70 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KbrnUtils;
+import io.github.realrains.kbrn.vector.KbrnBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KbrnBatch} 의 Vector API 경로와 스칼라 경로, {@link KbrnUtils#checksumOf(CharSequence)} 반복의
+ * 검증번호 계산 성능을 비교합니다. 결과는 번호 하나당 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnBatchBenchmark {
+
+    private static final int COUNT = KbrnCorpus.SIZE;
+
+    private byte[] bodies;
+    private String[] bodyStrings;
+    private byte[] out;
+
+    @Setup
+    public void setUp() {
+        String[] plains = KbrnCorpus.valid(false);
+        bodies = new byte[COUNT * KbrnBatch.BODY_LENGTH];
+        bodyStrings = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            bodyStrings[i] = plains[i].substring(0, KbrnBatch.BODY_LENGTH);
+            for (int j = 0; j < KbrnBatch.BODY_LENGTH; j++) {
+                bodies[i * KbrnBatch.BODY_LENGTH + j] = (byte) bodyStrings[i].charAt(j);
+            }
+        }
+        out = new byte[COUNT];
+        if (!KbrnBatch.isVectorized()) {
+            System.err.println("Vector API is not available; KbrnBatch.checksums runs the scalar path");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] vector() {
+        KbrnBatch.checksums(bodies, COUNT, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] scalar() {
+        KbrnBatch.scalarChecksums(bodies, COUNT, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] checksumOf() {
+        for (int i = 0; i < COUNT; i++) {
+            out[i] = (byte) KbrnUtils.checksumOf(bodyStrings[i]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.BusinessEntityType;
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KBRN} 객체 생성 ({@link KbrnCache} 사용 포함) 과 접근자, {@link BusinessEntityType} 조회 성능을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KbrnBenchmark {
+
+    @State(Scope.Thread)
+    public static class Inputs {
+
+        @Param({ "VALID", "MIXED" })
+        public KbrnCorpus.Kind corpus;
+
+        private String[] values;
+        private KbrnCache cache;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            values = KbrnCorpus.of(corpus);
+            cache = new KbrnCache(KbrnCorpus.SIZE * 4);
+        }
+
+        String next() {
+            return values[index++ & KbrnCorpus.MASK];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Instances {
+
+        private KBRN[] kbrns;
+        private long[] longs;
+        private String[] codes;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            String[] values = KbrnCorpus.valid(true);
+            kbrns = new KBRN[KbrnCorpus.SIZE];
+            longs = new long[KbrnCorpus.SIZE];
+            codes = new String[KbrnCorpus.SIZE];
+            for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+                kbrns[i] = KBRN.valueOf(values[i]);
+                longs[i] = kbrns[i].toLong();
+                codes[i] = String.format("%02d", i % 100);
+            }
+        }
+
+        int nextIndex() {
+            return index++ & KbrnCorpus.MASK;
+        }
+    }
+
+    /**
+     * 유효하지 않은 입력에 대해서는 예외 처리 비용까지 함께 측정합니다.
+     */
+    @Benchmark
+    public KBRN valueOf(Inputs inputs) {
+        try {
+            return KBRN.valueOf(inputs.next());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 유효하지 않은 입력에 대해서도 예외를 만들지 않으므로 {@link #valueOf(Inputs)} 와 비교합니다.
+     */
+    @Benchmark
+    public Optional<KBRN> tryParse(Inputs inputs) {
+        return KBRN.tryParse(inputs.next());
+    }
+
+    /**
+     * 코퍼스 전체가 캐시에 들어가므로 첫 순회 이후에는 모두 캐시에서 반환됩니다.
+     */
+    @Benchmark
+    public KBRN cachedValueOf(Inputs inputs) {
+        try {
+            return inputs.cache.valueOf(inputs.next());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String delimitedValue(Instances instances) {
+        return instances.kbrns[instances.nextIndex()].delimitedValue();
+    }
+
+    /**
+     * 문자열 표현이 아직 보관되지 않은 새 객체에서 처음 만드는 비용을 측정합니다.
+     */
+    @Benchmark
+    public String delimitedValueFirstCall(Instances instances) {
+        return KBRN.fromLong(instances.longs[instances.nextIndex()]).delimitedValue();
+    }
+
+    @Benchmark
+    public String plainValue(Instances instances) {
+        return instances.kbrns[instances.nextIndex()].plainValue();
+    }
+
+    @Benchmark
+    public String toStringValue(Instances instances) {
+        return instances.kbrns[instances.nextIndex()].toString();
+    }
+
+    @Benchmark
+    public BusinessEntityType businessEntityType(Instances instances) {
+        return instances.kbrns[instances.nextIndex()].businessEntityType();
+    }
+
+    @Benchmark
+    public BusinessEntityType businessEntityTypeOf(Instances instances) {
+        return BusinessEntityType.of(instances.codes[instances.nextIndex()]);
+    }
+
+    @Benchmark
+    public BusinessEntityType businessEntityTypeOfInt(Instances instances) {
+        return BusinessEntityType.of(instances.nextIndex() % 100);
+    }
+
+    @Benchmark
+    public BusinessEntityType businessEntityTypeOfChars(Instances instances) {
+        String code = instances.codes[instances.nextIndex()];
+        return BusinessEntityType.of(code.charAt(0), code.charAt(1));
+    }
+
+    /**
+     * 조회 테이블 도입 전의 구현 (부분 문자열 + {@code Integer.parseInt} + 범위 비교) 을 기준선으로 측정합니다.
+     */
+    @Benchmark
+    public BusinessEntityType businessEntityTypeLegacy(Instances instances) {
+        return legacyOf(instances.kbrns[instances.nextIndex()].businessEntityTypeCode());
+    }
+
+    @Benchmark
+    public BusinessEntityType businessEntityTypeOfLegacy(Instances instances) {
+        return legacyOf(instances.codes[instances.nextIndex()]);
+    }
+
+    private static BusinessEntityType legacyOf(String value) {
+        try {
+            int code = Integer.parseInt(value);
+            if (code >= 1 && code <= 79) {
+                return BusinessEntityType.INDIVIDUAL_TAXABLE;
+            }
+            if (code >= 90 && code <= 99) {
+                return BusinessEntityType.INDIVIDUAL_TAX_EXEMPT;
+            }
+            if (code == 81 || code == 86 || code == 87 || code == 88) {
+                return BusinessEntityType.FOR_PROFIT_CORPORATE_HQ;
+            }
+            if (code == 82) {
+                return BusinessEntityType.NON_PROFIT_CORPORATION;
+            }
+            if (code == 85) {
+                return BusinessEntityType.FOR_PROFIT_CORPORATE_BRANCH;
+            }
+            return BusinessEntityType.UNDEFINED;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cannot convert to BusinessType: " + value);
+        }
+    }
+}
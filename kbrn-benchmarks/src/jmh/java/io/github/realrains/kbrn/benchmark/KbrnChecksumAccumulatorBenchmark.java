@@ -0,0 +1,70 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KbrnChecksumAccumulator;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 숫자를 하나씩 입력하면서 매번 검증하는 경우를 {@link KbrnChecksumAccumulator} 와 입력된 문자열로
+ * {@link KbrnUtils#checksumOf(CharSequence)} 와 {@link KbrnUtils#isValid(String)} 를 다시 호출하는 방식으로 비교합니다.
+ * 결과는 번호 하나 (10자리 입력과 한 번의 취소 후 재입력) 당 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnChecksumAccumulatorBenchmark {
+
+    private final KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+
+    private String[] values;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        values = KbrnCorpus.valid(false);
+    }
+
+    @Benchmark
+    public int accumulator() {
+        String value = values[index++ & KbrnCorpus.MASK];
+        accumulator.reset();
+        int checksum = 0;
+        for (int i = 0; i < value.length(); i++) {
+            accumulator.append(value.charAt(i) - '0');
+            if (i == 5) {
+                accumulator.undo();
+                accumulator.append(value.charAt(i) - '0');
+            }
+            if (accumulator.length() >= 9) {
+                checksum += accumulator.expectedChecksum();
+            }
+        }
+        return accumulator.isValid() ? checksum : -1;
+    }
+
+    @Benchmark
+    public int recompute() {
+        String value = values[index++ & KbrnCorpus.MASK];
+        StringBuilder builder = new StringBuilder(10);
+        int checksum = 0;
+        for (int i = 0; i < value.length(); i++) {
+            builder.append(value.charAt(i));
+            if (i == 5) {
+                builder.setLength(builder.length() - 1);
+                builder.append(value.charAt(i));
+            }
+            if (builder.length() >= 9) {
+                checksum += KbrnUtils.checksumOf(builder.subSequence(0, 9)) - '0';
+            }
+        }
+        return KbrnUtils.isValid(builder.toString()) ? checksum : -1;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnColumnCodec;
+import io.github.realrains.kbrn.KbrnGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정렬된 사업자등록번호 100만 개를 {@link KbrnColumnCodec} 으로 압축한 열과 구분자 형식 문자열 배열로 저장한 열의
+ * 전체 읽기, 포함 여부 조회, 구간 검색 성능을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KbrnColumnCodecBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private final KbrnColumnCodec codec = new KbrnColumnCodec();
+    private final long[] batch = new long[SIZE];
+
+    private byte[] column;
+    private String[] strings;
+    private long[] probes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        KbrnGenerator generator = new KbrnGenerator();
+        Random random = new Random(42L);
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = generator.valueAt(random.nextInt(1_000_000_000));
+        }
+        Arrays.sort(values);
+        column = codec.encode(values);
+        strings = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            strings[i] = KBRN.fromLong(values[i]).delimitedValue();
+        }
+        // 절반은 포함된 값, 절반은 포함되지 않은 값
+        probes = new long[KbrnCorpus.SIZE];
+        for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+            probes[i] = i % 2 == 0 ? values[random.nextInt(SIZE)] : generator.valueAt(random.nextInt(1_000_000_000));
+        }
+    }
+
+    @Benchmark
+    public int decode() {
+        return codec.decode(column, batch, 0);
+    }
+
+    @Benchmark
+    public int decodeStrings() {
+        for (int i = 0; i < SIZE; i++) {
+            batch[i] = KBRN.valueOf(strings[i]).toLong();
+        }
+        return SIZE;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean contains() {
+        return codec.contains(column, probes[index++ & KbrnCorpus.MASK]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsStrings() {
+        return Arrays.binarySearch(strings, KBRN.fromLong(probes[index++ & KbrnCorpus.MASK]).delimitedValue()) >= 0;
+    }
+
+    @Benchmark
+    public int range() {
+        long from = probes[index++ & KbrnCorpus.MASK];
+        return codec.forEachInRange(column, from, from + 10_000_000L, value -> { });
+    }
+
+    @Benchmark
+    public int rangeStrings() {
+        long from = probes[index++ & KbrnCorpus.MASK];
+        long to = from + 10_000_000L;
+        int count = 0;
+        for (String value : strings) {
+            long number = KBRN.valueOf(value).toLong();
+            if (number >= from && number < to) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.realrains.kbrn.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 데이터
+ * <p>
+ * {@code kbrn_sample.csv} 의 실제 사업자등록번호를 바탕으로 유효한 값, 유효하지 않은 값, 그리고 두 가지가 섞인 값을
+ * 기본 형식과 구분자 형식으로 고르게 만들어 냅니다. 매 실행마다 같은 결과를 얻도록 고정된 시드를 사용합니다.
+ */
+final class KbrnCorpus {
+
+    /**
+     * 코퍼스의 크기. 인덱스를 비트 마스크로 순환시킬 수 있도록 2의 거듭제곱을 사용합니다.
+     */
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    /**
+     * MIXED 코퍼스에서 유효하지 않은 값의 비율 (%)
+     */
+    private static final int INVALID_RATIO = 30;
+    private static final long SEED = 42L;
+
+    enum Kind {
+        /**
+         * 형식과 체크섬이 모두 올바른 값
+         */
+        VALID,
+        /**
+         * 체크섬, 길이, 문자, 구분자 위치 중 하나가 잘못된 값
+         */
+        INVALID,
+        /**
+         * 유효한 값과 유효하지 않은 값이 섞인 값
+         */
+        MIXED
+    }
+
+    private KbrnCorpus() { throw new UnsupportedOperationException("Cannot be instantiated"); }
+
+    /**
+     * 지정한 종류의 입력 데이터를 {@link #SIZE} 개 생성합니다.
+     *
+     * @param kind 입력 데이터 종류
+     * @return 기본 형식과 구분자 형식이 섞인 사업자등록번호 문자열 배열
+     */
+    static String[] of(Kind kind) {
+        List<String> samples = samples();
+        Random random = new Random(SEED);
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String sample = samples.get(i % samples.size());
+            String value = random.nextBoolean() ? sample : sample.replace("-", "");
+            switch (kind) {
+                case VALID:
+                    values[i] = value;
+                    break;
+                case INVALID:
+                    values[i] = corrupt(value, random);
+                    break;
+                default:
+                    values[i] = random.nextInt(100) < INVALID_RATIO ? corrupt(value, random) : value;
+                    break;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 유효한 사업자등록번호 {@link #SIZE} 개를 지정한 형식으로 생성합니다.
+     *
+     * @param delimited {@code true} 이면 구분자 형식, {@code false} 이면 기본 형식
+     * @return 사업자등록번호 문자열 배열
+     */
+    static String[] valid(boolean delimited) {
+        List<String> samples = samples();
+        String[] values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String sample = samples.get(i % samples.size());
+            values[i] = delimited ? sample : sample.replace("-", "");
+        }
+        return values;
+    }
+
+    /**
+     * {@code kbrn_sample.csv} 에 포함된 구분자 형식의 사업자등록번호 목록을 반환합니다.
+     *
+     * @return 사업자등록번호 문자열 목록
+     */
+    static List<String> samples() {
+        InputStream is = Objects.requireNonNull(KbrnCorpus.class.getResourceAsStream("/kbrn_sample.csv"));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            List<String> samples = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    samples.add(line.trim());
+                }
+            }
+            return samples;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String corrupt(String value, Random random) {
+        char[] chars = value.toCharArray();
+        int last = chars.length - 1;
+        switch (random.nextInt(4)) {
+            case 0: // 체크섬
+                chars[last] = (char) ('0' + (chars[last] - '0' + 1) % 10);
+                return new String(chars);
+            case 1: // 길이
+                return value.substring(0, last);
+            case 2: // 문자
+                chars[random.nextInt(3)] = 'A';
+                return new String(chars);
+            default: // 구분자 위치
+                return value.indexOf('-') < 0
+                    ? value.substring(0, 2) + '-' + value.substring(2)
+                    : value.substring(0, 2) + '-' + value.substring(2, 3) + value.substring(4);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnCorrector;
+import io.github.realrains.kbrn.KbrnSet;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 숫자 하나를 잘못 입력하거나 이웃한 두 숫자를 바꿔 입력한 사업자등록번호에 대해 후보를 제안하는 성능을
+ * {@link KbrnCorrector} 와 후보 문자열을 모두 만들어 {@link KbrnUtils#isValid(String)} 로 확인하는 방식으로 비교합니다.
+ * 결과는 입력 하나당 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnCorrectorBenchmark {
+
+    private final long[] suggestions = new long[KbrnCorrector.MAX_SUGGESTIONS];
+
+    private KbrnCorrector corrector;
+    private KbrnCorrector indexedCorrector;
+    private String[] typos;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] values = KbrnCorpus.valid(false);
+        KbrnSet known = new KbrnSet();
+        for (String value : values) {
+            known.add(KBRN.valueOf(value));
+        }
+        corrector = new KbrnCorrector();
+        indexedCorrector = new KbrnCorrector(known::contains);
+
+        Random random = new Random(42L);
+        typos = new String[KbrnCorpus.SIZE];
+        for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+            String typo;
+            do {
+                typo = typo(values[i], random);
+            } while (KbrnUtils.isValid(typo));
+            typos[i] = i % 2 == 0 ? typo : typo.substring(0, 3) + '-' + typo.substring(3, 5) + '-' + typo.substring(5);
+        }
+    }
+
+    private static String typo(String value, Random random) {
+        char[] chars = value.toCharArray();
+        int i = random.nextInt(chars.length - 1);
+        if (random.nextBoolean()) {
+            chars[i] = (char) ('0' + (chars[i] - '0' + 1 + random.nextInt(9)) % 10);
+        } else {
+            char c = chars[i];
+            chars[i] = chars[i + 1];
+            chars[i + 1] = c;
+        }
+        return new String(chars);
+    }
+
+    @Benchmark
+    public int suggest() {
+        return corrector.suggest(typos[index++ & KbrnCorpus.MASK], suggestions);
+    }
+
+    @Benchmark
+    public int suggestWithIndex() {
+        return indexedCorrector.suggest(typos[index++ & KbrnCorpus.MASK], suggestions);
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        String plain = typos[index++ & KbrnCorpus.MASK].replace("-", "");
+        List<String> candidates = new ArrayList<>();
+        char[] chars = plain.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char original = chars[i];
+            for (char c = '0'; c <= '9'; c++) {
+                chars[i] = c;
+                String candidate = new String(chars);
+                if (c != original && KbrnUtils.isValid(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            chars[i] = original;
+        }
+        for (int i = 0; i < chars.length - 1; i++) {
+            char[] swapped = plain.toCharArray();
+            swapped[i] = chars[i + 1];
+            swapped[i + 1] = chars[i];
+            String candidate = new String(swapped);
+            if (swapped[i] != swapped[i + 1] && KbrnUtils.isValid(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates.size();
+    }
+}
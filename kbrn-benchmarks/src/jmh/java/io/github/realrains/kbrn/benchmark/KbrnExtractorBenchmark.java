@@ -0,0 +1,74 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KbrnExtractor;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 약 1 MB 의 텍스트에서 사업자등록번호를 찾는 성능을 {@link KbrnExtractor} 와 정규식 + {@link KbrnUtils#isValid(String)}
+ * 방식으로 비교합니다. 결과는 텍스트 전체를 한 번 검색하는 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KbrnExtractorBenchmark {
+
+    private static final Pattern PATTERN = Pattern.compile("(?<!\\d)(?:\\d{3}-\\d{2}-\\d{5}|\\d{10})(?!\\d)");
+    private static final String[] FILLERS = {
+        "공급가액 1,250,000원 부가세 125,000원, ",
+        "담당자 연락처 010-1234-5678 / 팩스 02-123-4567. ",
+        "Invoice #2024-000123 issued on 2024-03-15 for order 77812. ",
+        "사업자등록번호: "
+    };
+
+    private final KbrnExtractor extractor = new KbrnExtractor();
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        String[] values = KbrnCorpus.of(KbrnCorpus.Kind.MIXED);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < 1 << 20; i++) {
+            builder.append(FILLERS[i % FILLERS.length]);
+            if (i % FILLERS.length == FILLERS.length - 1) {
+                builder.append(values[i & KbrnCorpus.MASK]).append('\n');
+            }
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public long extract() {
+        return extractor.extract(text, (start, end, value) -> { });
+    }
+
+    @Benchmark
+    public long extractReader() throws IOException {
+        return extractor.extract(new StringReader(text), (start, end, value) -> { });
+    }
+
+    @Benchmark
+    public long regex() {
+        long count = 0;
+        Matcher matcher = PATTERN.matcher(text);
+        while (matcher.find()) {
+            if (KbrnUtils.isValid(matcher.group())) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
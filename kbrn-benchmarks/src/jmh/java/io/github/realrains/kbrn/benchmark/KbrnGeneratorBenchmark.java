@@ -0,0 +1,74 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.BusinessEntityType;
+import io.github.realrains.kbrn.KbrnGenerator;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * 유효한 사업자등록번호를 만드는 성능을 {@link KbrnGenerator} 와 임의의 10자리 숫자를 만들어
+ * {@link KbrnUtils#isValid(String)} 로 걸러내는 방식으로 비교합니다. 결과는 번호 하나당 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnGeneratorBenchmark {
+
+    private static final int COUNT = 1 << 16;
+
+    private final KbrnGenerator generator = new KbrnGenerator();
+    private final KbrnGenerator corporateGenerator = new KbrnGenerator()
+        .entityTypes(BusinessEntityType.FOR_PROFIT_CORPORATE_HQ);
+
+    private long seed;
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long sequential() {
+        long from = (seed++ * COUNT) % (generator.size() - COUNT);
+        return StreamSupport.longStream(generator.spliterator(from, from + COUNT), false).sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long random() {
+        return StreamSupport.longStream(generator.randomSpliterator(COUNT, seed++), false).sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long randomParallel() {
+        return StreamSupport.longStream(generator.randomSpliterator(COUNT, seed++), true).sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long randomCorporate() {
+        return StreamSupport.longStream(corporateGenerator.randomSpliterator(COUNT, seed++), false).sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long bruteForce() {
+        Random random = new Random(seed++);
+        long sum = 0;
+        for (int count = 0; count < COUNT; ) {
+            String value = String.format("%010d", (long) (random.nextDouble() * 10_000_000_000L));
+            if (KbrnUtils.isValid(value)) {
+                sum += Long.parseLong(value);
+                count++;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.realrains.kbrn.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.realrain.kbrn.jackson.KbrnModule;
+import io.github.realrains.kbrn.KBRN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KbrnModule} 을 등록한 {@link ObjectMapper} 의 직렬화/역직렬화 성능을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnJacksonBenchmark {
+
+    public static class Company {
+        public String name;
+        public KBRN kbrn;
+    }
+
+    private ObjectWriter kbrnWriter;
+    private ObjectReader kbrnReader;
+    private ObjectWriter companyWriter;
+    private ObjectReader companyReader;
+    private ObjectWriter numericWriter;
+    private ObjectReader numericReader;
+
+    private KBRN[] kbrns;
+    private long[] longs;
+    private String[] kbrnJsons;
+    private String[] numericJsons;
+    private byte[][] kbrnJsonBytes;
+    private Company[] companies;
+    private String[] companyJsons;
+    private int index;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new KbrnModule());
+        kbrnWriter = mapper.writerFor(KBRN.class);
+        kbrnReader = mapper.readerFor(KBRN.class);
+        companyWriter = mapper.writerFor(Company.class);
+        companyReader = mapper.readerFor(Company.class);
+        ObjectMapper numericMapper = new ObjectMapper().registerModule(KbrnModule.numeric());
+        numericWriter = numericMapper.writerFor(KBRN.class);
+        numericReader = numericMapper.readerFor(KBRN.class);
+
+        String[] values = KbrnCorpus.of(KbrnCorpus.Kind.VALID);
+        kbrns = new KBRN[KbrnCorpus.SIZE];
+        longs = new long[KbrnCorpus.SIZE];
+        kbrnJsons = new String[KbrnCorpus.SIZE];
+        numericJsons = new String[KbrnCorpus.SIZE];
+        kbrnJsonBytes = new byte[KbrnCorpus.SIZE][];
+        companies = new Company[KbrnCorpus.SIZE];
+        companyJsons = new String[KbrnCorpus.SIZE];
+        for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+            kbrns[i] = KBRN.valueOf(values[i]);
+            longs[i] = kbrns[i].toLong();
+            numericJsons[i] = Long.toString(longs[i]);
+            kbrnJsons[i] = '"' + values[i] + '"';
+            kbrnJsonBytes[i] = kbrnJsons[i].getBytes(StandardCharsets.UTF_8);
+            companies[i] = new Company();
+            companies[i].name = "Company " + i;
+            companies[i].kbrn = kbrns[i];
+            companyJsons[i] = companyWriter.writeValueAsString(companies[i]);
+        }
+    }
+
+    private int nextIndex() {
+        return index++ & KbrnCorpus.MASK;
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return kbrnWriter.writeValueAsString(kbrns[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte[] serializeBytes() throws JsonProcessingException {
+        return kbrnWriter.writeValueAsBytes(kbrns[nextIndex()]);
+    }
+
+    /**
+     * 문자열 표현이 보관되지 않은 새 객체 (예: 데이터베이스에서 숫자 값으로 읽은 번호) 를 직렬화합니다.
+     */
+    @Benchmark
+    public byte[] serializeBytesFromLong() throws JsonProcessingException {
+        return kbrnWriter.writeValueAsBytes(KBRN.fromLong(longs[nextIndex()]));
+    }
+
+    @Benchmark
+    public KBRN deserialize() throws JsonProcessingException {
+        return kbrnReader.readValue(kbrnJsons[nextIndex()]);
+    }
+
+    /**
+     * UTF-8 바이트 입력에서 역직렬화합니다. 파서의 문자 버퍼를 직접 검증하므로 중간 문자열이 만들어지지 않습니다.
+     */
+    @Benchmark
+    public KBRN deserializeBytes() throws IOException {
+        return kbrnReader.readValue(kbrnJsonBytes[nextIndex()]);
+    }
+
+    @Benchmark
+    public String serializeNumeric() throws JsonProcessingException {
+        return numericWriter.writeValueAsString(kbrns[nextIndex()]);
+    }
+
+    @Benchmark
+    public KBRN deserializeNumeric() throws JsonProcessingException {
+        return numericReader.readValue(numericJsons[nextIndex()]);
+    }
+
+    @Benchmark
+    public Company roundTrip() throws JsonProcessingException {
+        int i = nextIndex();
+        return companyReader.readValue(companyWriter.writeValueAsString(companies[i]));
+    }
+
+    @Benchmark
+    public Company deserializeObject() throws JsonProcessingException {
+        return companyReader.readValue(companyJsons[nextIndex()]);
+    }
+}
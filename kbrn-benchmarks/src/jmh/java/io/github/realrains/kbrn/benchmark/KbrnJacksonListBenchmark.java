@@ -0,0 +1,88 @@
+package io.github.realrains.kbrn.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.realrain.kbrn.jackson.KbrnModule;
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnList;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사업자등록번호 JSON 배열을 {@link KbrnList} 와 {@code List<KBRN>} 으로 직렬화/역직렬화하는 성능을 비교합니다.
+ * 메모리 할당량은 {@code -prof gc} 로 함께 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KbrnJacksonListBenchmark {
+
+    @Param({ "10000" })
+    public int size;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private ObjectWriter kbrnListWriter;
+    private ObjectReader kbrnListReader;
+
+    private List<KBRN> list;
+    private KbrnList kbrnList;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new KbrnModule());
+        TypeReference<List<KBRN>> listType = new TypeReference<List<KBRN>>() {};
+        listWriter = mapper.writerFor(listType);
+        listReader = mapper.readerFor(listType);
+        kbrnListWriter = mapper.writerFor(KbrnList.class);
+        kbrnListReader = mapper.readerFor(KbrnList.class);
+
+        Random random = new Random(42L);
+        list = new ArrayList<>(size);
+        kbrnList = new KbrnList(size);
+        for (int i = 0; i < size; i++) {
+            String body = String.format("%09d", random.nextInt(1_000_000_000));
+            KBRN kbrn = KBRN.valueOf(body + KbrnUtils.checksumOf(body));
+            list.add(kbrn);
+            kbrnList.add(kbrn);
+        }
+        json = kbrnListWriter.writeValueAsBytes(kbrnList);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] serializeKbrnList() throws JsonProcessingException {
+        return kbrnListWriter.writeValueAsBytes(kbrnList);
+    }
+
+    @Benchmark
+    public List<KBRN> deserializeList() throws IOException {
+        return listReader.readValue(json);
+    }
+
+    @Benchmark
+    public KbrnList deserializeKbrnList() throws IOException {
+        return kbrnListReader.readValue(json);
+    }
+}
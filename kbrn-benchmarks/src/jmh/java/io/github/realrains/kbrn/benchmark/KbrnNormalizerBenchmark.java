@@ -0,0 +1,77 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KbrnFormat;
+import io.github.realrains.kbrn.KbrnNormalizer;
+import io.github.realrains.kbrn.KbrnUtils;
+import io.github.realrains.kbrn.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KbrnNormalizer} 와 원소마다 {@link KbrnUtils#toPlainFormat(String)} 을 호출하고 예외를 잡는 방식의
+ * 정규화 성능을 비교합니다. 결과는 번호 하나당 시간입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnNormalizerBenchmark {
+
+    private static final int COUNT = KbrnCorpus.SIZE;
+
+    @Param({ "VALID", "MIXED" })
+    public KbrnCorpus.Kind corpus;
+
+    private final KbrnNormalizer normalizer = new KbrnNormalizer(KbrnFormat.PLAIN);
+
+    private String[] values;
+    private String[] out;
+    private ValidationResult[] results;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        values = KbrnCorpus.of(corpus);
+        out = new String[COUNT];
+        results = new ValidationResult[COUNT];
+        bytes = new byte[COUNT * KbrnFormat.PLAIN.length()];
+    }
+
+    /**
+     * 형식이 올바르지 않은 값마다 예외가 발생하는 기준선입니다. 체크섬은 검증하지 않습니다.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] toPlainFormat() {
+        for (int i = 0; i < COUNT; i++) {
+            try {
+                out[i] = KbrnUtils.toPlainFormat(values[i]);
+            } catch (IllegalArgumentException e) {
+                out[i] = null;
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] normalizeToStrings() {
+        normalizer.normalize(values, out, results);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] normalizeToBytes() {
+        normalizer.normalize(values, bytes, 0, results);
+        return bytes;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnSet;
+import io.github.realrains.kbrn.KbrnUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KbrnSet} 과 {@code HashSet<KBRN>} 의 조회 성능을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class KbrnSetBenchmark {
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private KbrnSet kbrnSet;
+    private Set<KBRN> hashSet;
+    private KBRN[] probes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        kbrnSet = new KbrnSet(size);
+        hashSet = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            KBRN kbrn = randomKbrn(random);
+            kbrnSet.add(kbrn);
+            hashSet.add(kbrn);
+        }
+        // 절반은 포함된 값, 절반은 포함되지 않은 값
+        KBRN[] members = hashSet.toArray(new KBRN[0]);
+        probes = new KBRN[KbrnCorpus.SIZE];
+        for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+            probes[i] = i % 2 == 0 ? members[random.nextInt(members.length)] : randomKbrn(random);
+        }
+    }
+
+    private static KBRN randomKbrn(Random random) {
+        String body = String.format("%09d", random.nextInt(1_000_000_000));
+        return KBRN.valueOf(body + KbrnUtils.checksumOf(body));
+    }
+
+    @Benchmark
+    public boolean kbrnSetContains() {
+        return kbrnSet.contains(probes[index++ & KbrnCorpus.MASK]);
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return hashSet.contains(probes[index++ & KbrnCorpus.MASK]);
+    }
+}
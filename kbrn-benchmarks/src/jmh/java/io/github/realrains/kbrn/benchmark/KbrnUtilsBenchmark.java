@@ -0,0 +1,116 @@
+package io.github.realrains.kbrn.benchmark;
+
+import io.github.realrains.kbrn.KbrnUtils;
+import io.github.realrains.kbrn.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KbrnUtils} 의 검증, 체크섬 계산, 형식 변환 성능을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KbrnUtilsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Inputs {
+
+        @Param({ "VALID", "INVALID", "MIXED" })
+        public KbrnCorpus.Kind corpus;
+
+        private String[] values;
+        private byte[][] bytes;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            values = KbrnCorpus.of(corpus);
+            bytes = new byte[KbrnCorpus.SIZE][];
+            for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+                bytes[i] = values[i].getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        String next() {
+            return values[index++ & KbrnCorpus.MASK];
+        }
+
+        byte[] nextBytes() {
+            return bytes[index++ & KbrnCorpus.MASK];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ValidInputs {
+
+        private String[] plains;
+        private String[] delimiteds;
+        private String[] bodies;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            plains = KbrnCorpus.valid(false);
+            delimiteds = KbrnCorpus.valid(true);
+            bodies = new String[KbrnCorpus.SIZE];
+            for (int i = 0; i < KbrnCorpus.SIZE; i++) {
+                bodies[i] = plains[i].substring(0, 9);
+            }
+        }
+
+        int nextIndex() {
+            return index++ & KbrnCorpus.MASK;
+        }
+    }
+
+    @Benchmark
+    public boolean isValid(Inputs inputs) {
+        return KbrnUtils.isValid(inputs.next());
+    }
+
+    @Benchmark
+    public ValidationResult validate(Inputs inputs) {
+        return KbrnUtils.validate(inputs.next());
+    }
+
+    @Benchmark
+    public boolean isValidBytes(Inputs inputs) {
+        byte[] bytes = inputs.nextBytes();
+        return KbrnUtils.isValid(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long parseBytes(Inputs inputs) {
+        byte[] bytes = inputs.nextBytes();
+        return KbrnUtils.parse(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public boolean isValidFormat(Inputs inputs) {
+        return KbrnUtils.isValidFormat(inputs.next());
+    }
+
+    @Benchmark
+    public char checksumOf(ValidInputs inputs) {
+        return KbrnUtils.checksumOf(inputs.bodies[inputs.nextIndex()]);
+    }
+
+    @Benchmark
+    public String toDelimitedFormat(ValidInputs inputs) {
+        return KbrnUtils.toDelimitedFormat(inputs.plains[inputs.nextIndex()]);
+    }
+
+    @Benchmark
+    public String toPlainFormat(ValidInputs inputs) {
+        return KbrnUtils.toPlainFormat(inputs.delimiteds[inputs.nextIndex()]);
+    }
+}
@@ -3,40 +3,95 @@ package io.github.realrain.kbrn.jackson;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.type.LogicalType;
 import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnUtils;
 
 import java.io.IOException;
 
 /**
  * Jackson deserializer for KBRN objects.
  * Deserializes string values to KBRN objects.
+ * <p>
+ * The value is validated directly on the parser's character buffer, so no intermediate
+ * {@code String} is created for valid input.
+ * <p>
+ * JSON numbers are rejected by default. When created with {@code acceptNumbers}, integer values written by
+ * {@link KbrnNumberSerializer} are read as well, in addition to strings.
  */
-public class KbrnDeserializer extends JsonDeserializer<KBRN> {
+public class KbrnDeserializer extends StdScalarDeserializer<KBRN> {
+    
+    private final boolean acceptNumbers;
+    
+    /**
+     * Creates a deserializer that only accepts string values.
+     */
+    public KbrnDeserializer() {
+        this(false);
+    }
+    
+    /**
+     * Creates a deserializer that optionally accepts JSON integer values as well as strings.
+     *
+     * @param acceptNumbers whether integer values such as {@code 1208147521} are accepted
+     */
+    public KbrnDeserializer(boolean acceptNumbers) {
+        super(KBRN.class);
+        this.acceptNumbers = acceptNumbers;
+    }
     
     @Override
     public KBRN deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
         JsonToken currentToken = p.getCurrentToken();
         
         if (currentToken == JsonToken.VALUE_STRING) {
-            String value = p.getText();
-            if (value == null || value.isEmpty()) {
+            int length = p.getTextLength();
+            if (length == 0) {
                 return null;
             }
-            try {
-                return KBRN.valueOf(value);
-            } catch (IllegalArgumentException e) {
-                throw new IOException("Invalid KBRN value: " + value, e);
+            long value = KbrnUtils.parse(p.getTextCharacters(), p.getTextOffset(), length);
+            if (value < 0) {
+                String text = p.getText();
+                throw InvalidFormatException.from(p, "Invalid KBRN value: " + text, text, KBRN.class);
             }
+            return KBRN.fromLong(value);
+        } else if (currentToken == JsonToken.VALUE_NUMBER_INT && acceptNumbers) {
+            return deserializeNumber(p);
         } else if (currentToken == JsonToken.VALUE_NULL) {
             return null;
         } else {
-            throw new IOException("Expected string value for KBRN, but got: " + currentToken);
+            String expected = acceptNumbers ? "string or integer value" : "string value";
+            throw MismatchedInputException.from(p, KBRN.class, "Expected " + expected + " for KBRN, but got: " + currentToken);
         }
     }
     
+    private static KBRN deserializeNumber(JsonParser p) throws IOException {
+        JsonParser.NumberType type = p.getNumberType();
+        if (type == JsonParser.NumberType.INT || type == JsonParser.NumberType.LONG) {
+            try {
+                return KBRN.fromLong(p.getLongValue());
+            } catch (IllegalArgumentException e) {
+                // reported as InvalidFormatException below
+            }
+        }
+        throw InvalidFormatException.from(p, "Invalid KBRN value: " + p.getText(), p.getNumberValue(), KBRN.class);
+    }
+    
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+    
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Textual;
+    }
+    
     @Override
     public Class<KBRN> handledType() {
         return KBRN.class;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package io.github.realrain.kbrn.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import io.github.realrains.kbrn.KBRN;
+
+import java.io.IOException;
+
+/**
+ * Jackson key deserializer for KBRN objects.
+ * Reads map keys in either the plain or the delimited format.
+ *
+ * @see KbrnKeySerializer
+ */
+public class KbrnKeyDeserializer extends KeyDeserializer {
+    
+    @Override
+    public Object deserializeKey(String key, DeserializationContext ctxt) throws IOException {
+        try {
+            return KBRN.valueOf(key);
+        } catch (IllegalArgumentException e) {
+            throw ctxt.weirdKeyException(KBRN.class, key, "Invalid KBRN value");
+        }
+    }
+}
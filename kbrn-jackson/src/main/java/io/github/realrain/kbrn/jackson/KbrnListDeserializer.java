@@ -0,0 +1,108 @@
+package io.github.realrain.kbrn.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnList;
+
+import java.io.IOException;
+
+/**
+ * Jackson deserializer for {@link KbrnList}.
+ * Reads a JSON array straight into the list: each element is validated on the parser's character buffer
+ * and stored as a primitive, so no {@code KBRN} or {@code String} is created per element.
+ * <p>
+ * JSON numbers are rejected by default. When created with {@code acceptNumbers}, integer elements written by
+ * {@link KbrnListSerializer#numeric()} are read as well, in addition to strings.
+ *
+ * @see KbrnListSerializer
+ */
+public class KbrnListDeserializer extends StdDeserializer<KbrnList> {
+    
+    private final boolean acceptNumbers;
+    
+    /**
+     * Creates a deserializer that only accepts string elements.
+     */
+    public KbrnListDeserializer() {
+        this(false);
+    }
+    
+    /**
+     * Creates a deserializer that optionally accepts JSON integer elements as well as strings.
+     *
+     * @param acceptNumbers whether integer elements such as {@code 1208147521} are accepted
+     */
+    public KbrnListDeserializer(boolean acceptNumbers) {
+        super(KbrnList.class);
+        this.acceptNumbers = acceptNumbers;
+    }
+    
+    @Override
+    public KbrnList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            throw MismatchedInputException.from(p, KbrnList.class, "Expected array for KbrnList, but got: " + p.getCurrentToken());
+        }
+        KbrnList list = new KbrnList();
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_STRING) {
+                try {
+                    list.add(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                } catch (IllegalArgumentException e) {
+                    throw invalidValue(p, p.getText());
+                }
+            } else if (token == JsonToken.VALUE_NUMBER_INT && acceptNumbers) {
+                if (!addNumber(list, p)) {
+                    throw invalidValue(p, p.getNumberValue());
+                }
+            } else {
+                String expected = acceptNumbers ? "string or integer value" : "string value";
+                throw MismatchedInputException.from(p, KbrnList.class, "Expected " + expected + " for KBRN element, but got: " + token);
+            }
+        }
+        return list;
+    }
+    
+    private static boolean addNumber(KbrnList list, JsonParser p) throws IOException {
+        JsonParser.NumberType type = p.getNumberType();
+        if (type != JsonParser.NumberType.INT && type != JsonParser.NumberType.LONG) {
+            return false;
+        }
+        try {
+            list.add(p.getLongValue());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    private static InvalidFormatException invalidValue(JsonParser p, Object value) throws IOException {
+        return InvalidFormatException.from(p, "Invalid KBRN value: " + p.getText(), value, KBRN.class);
+    }
+    
+    @Override
+    public KbrnList getEmptyValue(DeserializationContext ctxt) {
+        return new KbrnList();
+    }
+    
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+    
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Collection;
+    }
+    
+    @Override
+    public Class<KbrnList> handledType() {
+        return KbrnList.class;
+    }
+}
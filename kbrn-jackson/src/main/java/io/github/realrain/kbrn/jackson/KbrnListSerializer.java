@@ -0,0 +1,88 @@
+package io.github.realrain.kbrn.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.realrains.kbrn.KbrnFormat;
+import io.github.realrains.kbrn.KbrnList;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Jackson serializer for {@link KbrnList}.
+ * Writes the list as a JSON array without creating a {@code KBRN} or {@code String} per element;
+ * each element is formatted into a single buffer reused for the whole array.
+ *
+ * @see KbrnListDeserializer
+ */
+public class KbrnListSerializer extends StdSerializer<KbrnList> {
+    
+    private final KbrnFormat format;
+    private final boolean numbers;
+    
+    /**
+     * Creates a serializer that writes elements in the delimited format (e.g. {@code "120-81-47521"}).
+     */
+    public KbrnListSerializer() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a serializer that writes elements in the given string format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnListSerializer(KbrnFormat format) {
+        this(Objects.requireNonNull(format, "format"), false);
+    }
+    
+    private KbrnListSerializer(KbrnFormat format, boolean numbers) {
+        super(KbrnList.class);
+        this.format = format;
+        this.numbers = numbers;
+    }
+    
+    /**
+     * Creates a serializer that writes elements as JSON numbers (e.g. {@code 1208147521}).
+     *
+     * @return a serializer using the numeric wire format
+     * @see KbrnNumberSerializer
+     */
+    public static KbrnListSerializer numeric() {
+        return new KbrnListSerializer(KbrnFormat.PLAIN, true);
+    }
+    
+    @Override
+    public void serialize(KbrnList value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        int size = value.size();
+        gen.writeStartArray(value, size);
+        if (numbers) {
+            for (int i = 0; i < size; i++) {
+                gen.writeNumber(value.getLong(i));
+            }
+        } else if (gen instanceof UTF8JsonGenerator) {
+            byte[] bytes = new byte[format.length()];
+            for (int i = 0; i < size; i++) {
+                gen.writeRawUTF8String(bytes, 0, value.writeTo(i, bytes, 0, format));
+            }
+        } else {
+            char[] chars = new char[format.length()];
+            for (int i = 0; i < size; i++) {
+                gen.writeString(chars, 0, value.writeTo(i, chars, 0, format));
+            }
+        }
+        gen.writeEndArray();
+    }
+    
+    @Override
+    public boolean isEmpty(SerializerProvider provider, KbrnList value) {
+        return value.isEmpty();
+    }
+    
+    @Override
+    public Class<KbrnList> handledType() {
+        return KbrnList.class;
+    }
+}
@@ -1,11 +1,19 @@
 package io.github.realrain.kbrn.jackson;
 
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
+import io.github.realrains.kbrn.KbrnList;
 
 /**
  * Jackson module for KBRN serialization and deserialization support.
+ * <p>
+ * Registers value and map key (de)serializers, plus array (de)serializers for {@link KbrnList} that read and
+ * write JSON arrays without creating an object per element. Values are written as strings in the delimited
+ * format by default; use {@link #KbrnModule(KbrnFormat)} to write the plain format, or {@link #numeric()} to
+ * write JSON numbers. Strings in either format are always accepted on input.
  * 
  * <p>Usage example:</p>
  * <pre>{@code
@@ -18,16 +26,53 @@ import io.github.realrains.kbrn.KBRN;
  * 
  * // Deserialization
  * KBRN deserialized = mapper.readValue("\"1208147521\"", KBRN.class);
+ * 
+ * // Map keys
+ * String map = mapper.writeValueAsString(Map.of(kbrn, 1)); // {"120-81-47521":1}
  * }</pre>
  */
 public class KbrnModule extends SimpleModule {
     
     private static final String NAME = "KbrnModule";
     
+    /**
+     * Creates a module that writes values and map keys in the delimited format (e.g. {@code "120-81-47521"}).
+     */
     public KbrnModule() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a module that writes values and map keys in the given string format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnModule(KbrnFormat format) {
+        this(new KbrnSerializer(format), new KbrnListSerializer(format), false, format);
+    }
+    
+    private KbrnModule(JsonSerializer<KBRN> serializer, KbrnListSerializer listSerializer, boolean acceptNumbers,
+                       KbrnFormat keyFormat) {
         super(NAME, Version.unknownVersion());
         
-        addSerializer(KBRN.class, new KbrnSerializer());
-        addDeserializer(KBRN.class, new KbrnDeserializer());
+        addSerializer(KBRN.class, serializer);
+        addDeserializer(KBRN.class, new KbrnDeserializer(acceptNumbers));
+        addKeySerializer(KBRN.class, new KbrnKeySerializer(keyFormat));
+        addKeyDeserializer(KBRN.class, new KbrnKeyDeserializer());
+        addSerializer(KbrnList.class, listSerializer);
+        addDeserializer(KbrnList.class, new KbrnListDeserializer(acceptNumbers));
+    }
+    
+    /**
+     * Creates a module that writes values as JSON numbers (e.g. {@code 1208147521}) and reads both numbers and
+     * strings. Map keys are written in the plain format, since JSON field names are always strings.
+     * <p>
+     * Leading zeros are not preserved in the number, so only use this format between services that read it
+     * back with this module.
+     *
+     * @return a module using the numeric wire format
+     */
+    public static KbrnModule numeric() {
+        return new KbrnModule(new KbrnNumberSerializer(), KbrnListSerializer.numeric(), true, KbrnFormat.PLAIN);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package io.github.realrain.kbrn.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import io.github.realrains.kbrn.KBRN;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes KBRN objects as JSON numbers.
+ * <p>
+ * The value is {@link KBRN#toLong()}, so leading zeros are dropped (e.g. {@code 0000000015} is written as
+ * {@code 15}). A number is shorter than the quoted string and is parsed without character validation, which
+ * makes it a good fit for service-to-service payloads. Read it back with a {@link KbrnDeserializer} that
+ * accepts numbers.
+ *
+ * @see KbrnModule#numeric()
+ */
+public class KbrnNumberSerializer extends StdScalarSerializer<KBRN> {
+    
+    /**
+     * Creates a serializer that writes {@link KBRN#toLong()} values.
+     */
+    public KbrnNumberSerializer() {
+        super(KBRN.class);
+    }
+    
+    @Override
+    public void serialize(KBRN value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.toLong());
+        }
+    }
+    
+    @Override
+    public Class<KBRN> handledType() {
+        return KBRN.class;
+    }
+}
@@ -1,24 +1,56 @@
 package io.github.realrain.kbrn.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
 
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * Jackson serializer for KBRN objects.
  * Serializes KBRN objects to their string representation.
+ * <p>
+ * The value is written from a small digit buffer instead of a per-call {@code String}. A KBRN only
+ * contains ASCII digits and hyphens, so UTF-8 JSON output receives the encoded bytes directly through
+ * {@link JsonGenerator#writeRawUTF8String(byte[], int, int)} and skips escaping altogether.
+ *
+ * @see KbrnNumberSerializer
  */
-public class KbrnSerializer extends JsonSerializer<KBRN> {
+public class KbrnSerializer extends StdScalarSerializer<KBRN> {
+    
+    private final KbrnFormat format;
+    
+    /**
+     * Creates a serializer that writes the delimited format (e.g. {@code "120-81-47521"}).
+     */
+    public KbrnSerializer() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a serializer that writes the given format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnSerializer(KbrnFormat format) {
+        super(KBRN.class);
+        this.format = Objects.requireNonNull(format, "format");
+    }
     
     @Override
     public void serialize(KBRN value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value == null) {
             gen.writeNull();
+        } else if (gen instanceof UTF8JsonGenerator) {
+            byte[] bytes = new byte[format.length()];
+            gen.writeRawUTF8String(bytes, 0, value.writeTo(bytes, 0, format));
         } else {
-            gen.writeString(value.delimitedValue());
+            char[] chars = new char[format.length()];
+            gen.writeString(chars, 0, value.writeTo(chars, 0, format));
         }
     }
     
@@ -26,4 +58,4 @@ public class KbrnSerializer extends JsonSerializer<KBRN> {
     public Class<KBRN> handledType() {
         return KBRN.class;
     }
-}
\ No newline at end of file
+}
@@ -16,9 +16,14 @@
  * // 역직렬화
  * KBRN deserialized = mapper.readValue("\"1208147521\"", KBRN.class);
  * }</pre>
+ * <p>
+ * {@code Map<KBRN, ?>} 의 키도 함께 지원하며, 출력 형식은 {@code new KbrnModule(KbrnFormat.PLAIN)} 이나
+ * 숫자로 출력하는 {@code KbrnModule.numeric()} 으로 바꿀 수 있습니다.
  * 
  * @see io.github.realrain.kbrn.jackson.KbrnModule
  * @see io.github.realrain.kbrn.jackson.KbrnSerializer
  * @see io.github.realrain.kbrn.jackson.KbrnDeserializer
+ * @see io.github.realrain.kbrn.jackson.KbrnKeySerializer
+ * @see io.github.realrain.kbrn.jackson.KbrnKeyDeserializer
  */
 package io.github.realrain.kbrn.jackson;
\ No newline at end of file
@@ -0,0 +1,33 @@
+plugins {
+    id("java-library")
+}
+
+dependencies {
+    api(project(":kbrn"))
+
+    // Jackson 3.x (tools.jackson 패키지). Jackson 2.x 는 kbrn-jackson 모듈을 사용한다.
+    // 3.0.0 ~ 3.2.x 에서 KbrnModuleTest 를 통과하는 것을 확인했으며, 확인하지 않은 3.3 이후는 허용하지 않는다.
+    api("tools.jackson.core:jackson-databind") {
+        version {
+            strictly("[3.0.0, 3.2.999]")
+            prefer("3.0.0")
+        }
+    }
+
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+// Jackson 3 은 Java 17 이상을 요구하므로 이 모듈만 Java 17 로 빌드한다.
+// 코어 모듈 (kbrn) 은 계속 Java 11 을 대상으로 한다.
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+    withJavadocJar()
+    withSourcesJar()
+}
@@ -0,0 +1,96 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+import tools.jackson.databind.exc.InvalidFormatException;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.type.LogicalType;
+
+/**
+ * Jackson deserializer for KBRN objects.
+ * Deserializes string values to KBRN objects.
+ * <p>
+ * The value is validated directly on the parser's character buffer, so no intermediate
+ * {@code String} is created for valid input.
+ * <p>
+ * JSON numbers are rejected by default. When created with {@code acceptNumbers}, integer values written by
+ * {@link KbrnNumberSerializer} are read as well, in addition to strings.
+ */
+public class KbrnDeserializer extends StdScalarDeserializer<KBRN> {
+    
+    private final boolean acceptNumbers;
+    
+    /**
+     * Creates a deserializer that only accepts string values.
+     */
+    public KbrnDeserializer() {
+        this(false);
+    }
+    
+    /**
+     * Creates a deserializer that optionally accepts JSON integer values as well as strings.
+     *
+     * @param acceptNumbers whether integer values such as {@code 1208147521} are accepted
+     */
+    public KbrnDeserializer(boolean acceptNumbers) {
+        super(KBRN.class);
+        this.acceptNumbers = acceptNumbers;
+    }
+    
+    @Override
+    public KBRN deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        JsonToken currentToken = p.currentToken();
+        
+        if (currentToken == JsonToken.VALUE_STRING) {
+            int length = p.getStringLength();
+            if (length == 0) {
+                return null;
+            }
+            long value = KbrnUtils.parse(p.getStringCharacters(), p.getStringOffset(), length);
+            if (value < 0) {
+                String text = p.getString();
+                throw InvalidFormatException.from(p, "Invalid KBRN value: " + text, text, KBRN.class);
+            }
+            return KBRN.fromLong(value);
+        } else if (currentToken == JsonToken.VALUE_NUMBER_INT && acceptNumbers) {
+            return deserializeNumber(p);
+        } else if (currentToken == JsonToken.VALUE_NULL) {
+            return null;
+        } else {
+            String expected = acceptNumbers ? "string or integer value" : "string value";
+            throw MismatchedInputException.from(p, KBRN.class, "Expected " + expected + " for KBRN, but got: " + currentToken);
+        }
+    }
+    
+    private static KBRN deserializeNumber(JsonParser p) throws JacksonException {
+        JsonParser.NumberType type = p.getNumberType();
+        if (type == JsonParser.NumberType.INT || type == JsonParser.NumberType.LONG) {
+            try {
+                return KBRN.fromLong(p.getLongValue());
+            } catch (IllegalArgumentException e) {
+                // reported as InvalidFormatException below
+            }
+        }
+        throw InvalidFormatException.from(p, "Invalid KBRN value: " + p.getString(), p.getNumberValue(), KBRN.class);
+    }
+    
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+    
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Textual;
+    }
+    
+    @Override
+    public Class<KBRN> handledType() {
+        return KBRN.class;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.KeyDeserializer;
+
+/**
+ * Jackson key deserializer for KBRN objects.
+ * Reads map keys in either the plain or the delimited format.
+ *
+ * @see KbrnKeySerializer
+ */
+public class KbrnKeyDeserializer extends KeyDeserializer {
+    
+    @Override
+    public Object deserializeKey(String key, DeserializationContext ctxt) throws JacksonException {
+        try {
+            return KBRN.valueOf(key);
+        } catch (IllegalArgumentException e) {
+            throw ctxt.weirdKeyException(KBRN.class, key, "Invalid KBRN value");
+        }
+    }
+}
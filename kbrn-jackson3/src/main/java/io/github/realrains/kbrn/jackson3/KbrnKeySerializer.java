@@ -0,0 +1,49 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Objects;
+
+/**
+ * Jackson key serializer for KBRN objects.
+ * Writes map keys such as {@code Map<KBRN, ?>} as field names in the given string format
+ * instead of falling back to {@link KBRN#toString()}.
+ *
+ * @see KbrnKeyDeserializer
+ */
+public class KbrnKeySerializer extends StdSerializer<KBRN> {
+    
+    private final KbrnFormat format;
+    
+    /**
+     * Creates a key serializer that writes the delimited format (e.g. {@code "120-81-47521"}).
+     */
+    public KbrnKeySerializer() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a key serializer that writes the given format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnKeySerializer(KbrnFormat format) {
+        super(KBRN.class);
+        this.format = Objects.requireNonNull(format, "format");
+    }
+    
+    @Override
+    public void serialize(KBRN value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        gen.writeName(format == KbrnFormat.PLAIN ? value.plainValue() : value.delimitedValue());
+    }
+    
+    @Override
+    public Class<KBRN> handledType() {
+        return KBRN.class;
+    }
+}
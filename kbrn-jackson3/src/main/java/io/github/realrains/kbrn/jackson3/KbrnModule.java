@@ -0,0 +1,82 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
+import io.github.realrains.kbrn.KbrnList;
+import tools.jackson.core.Version;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson 3 module for KBRN serialization and deserialization support.
+ * <p>
+ * This is the Jackson 3 ({@code tools.jackson}) counterpart of the {@code kbrn-jackson} module for Jackson 2,
+ * with the same options and wire formats.
+ * <p>
+ * Registers value and map key (de)serializers, plus array (de)serializers for {@link KbrnList} that read and
+ * write JSON arrays without creating an object per element. Values are written as strings in the delimited
+ * format by default; use {@link #KbrnModule(KbrnFormat)} to write the plain format, or {@link #numeric()} to
+ * write JSON numbers. Strings in either format are always accepted on input.
+ * 
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * JsonMapper mapper = JsonMapper.builder()
+ *         .addModule(new KbrnModule())
+ *         .build();
+ * 
+ * // Serialization
+ * KBRN kbrn = KBRN.valueOf("120-81-47521");
+ * String json = mapper.writeValueAsString(kbrn); // "120-81-47521"
+ * 
+ * // Deserialization
+ * KBRN deserialized = mapper.readValue("\"1208147521\"", KBRN.class);
+ * 
+ * // Map keys
+ * String map = mapper.writeValueAsString(Map.of(kbrn, 1)); // {"120-81-47521":1}
+ * }</pre>
+ */
+public class KbrnModule extends SimpleModule {
+    
+    private static final String NAME = "KbrnModule";
+    
+    /**
+     * Creates a module that writes values and map keys in the delimited format (e.g. {@code "120-81-47521"}).
+     */
+    public KbrnModule() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a module that writes values and map keys in the given string format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnModule(KbrnFormat format) {
+        this(new KbrnSerializer(format), new KbrnListSerializer(format), false, format);
+    }
+    
+    private KbrnModule(ValueSerializer<KBRN> serializer, KbrnListSerializer listSerializer, boolean acceptNumbers,
+                       KbrnFormat keyFormat) {
+        super(NAME, Version.unknownVersion());
+        
+        addSerializer(KBRN.class, serializer);
+        addDeserializer(KBRN.class, new KbrnDeserializer(acceptNumbers));
+        addKeySerializer(KBRN.class, new KbrnKeySerializer(keyFormat));
+        addKeyDeserializer(KBRN.class, new KbrnKeyDeserializer());
+        addSerializer(KbrnList.class, listSerializer);
+        addDeserializer(KbrnList.class, new KbrnListDeserializer(acceptNumbers));
+    }
+    
+    /**
+     * Creates a module that writes values as JSON numbers (e.g. {@code 1208147521}) and reads both numbers and
+     * strings. Map keys are written in the plain format, since JSON field names are always strings.
+     * <p>
+     * Leading zeros are not preserved in the number, so only use this format between services that read it
+     * back with this module.
+     *
+     * @return a module using the numeric wire format
+     */
+    public static KbrnModule numeric() {
+        return new KbrnModule(new KbrnNumberSerializer(), KbrnListSerializer.numeric(), true, KbrnFormat.PLAIN);
+    }
+}
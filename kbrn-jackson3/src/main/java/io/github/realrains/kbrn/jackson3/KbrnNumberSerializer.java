@@ -0,0 +1,41 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Jackson serializer that writes KBRN objects as JSON numbers.
+ * <p>
+ * The value is {@link KBRN#toLong()}, so leading zeros are dropped (e.g. {@code 0000000015} is written as
+ * {@code 15}). A number is shorter than the quoted string and is parsed without character validation, which
+ * makes it a good fit for service-to-service payloads. Read it back with a {@link KbrnDeserializer} that
+ * accepts numbers.
+ *
+ * @see KbrnModule#numeric()
+ */
+public class KbrnNumberSerializer extends StdScalarSerializer<KBRN> {
+    
+    /**
+     * Creates a serializer that writes {@link KBRN#toLong()} values.
+     */
+    public KbrnNumberSerializer() {
+        super(KBRN.class);
+    }
+    
+    @Override
+    public void serialize(KBRN value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.toLong());
+        }
+    }
+    
+    @Override
+    public Class<KBRN> handledType() {
+        return KBRN.class;
+    }
+}
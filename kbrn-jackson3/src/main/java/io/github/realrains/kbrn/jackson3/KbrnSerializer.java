@@ -0,0 +1,61 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.UTF8JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.util.Objects;
+
+/**
+ * Jackson serializer for KBRN objects.
+ * Serializes KBRN objects to their string representation.
+ * <p>
+ * The value is written from a small digit buffer instead of a per-call {@code String}. A KBRN only
+ * contains ASCII digits and hyphens, so UTF-8 JSON output receives the encoded bytes directly through
+ * {@link JsonGenerator#writeRawUTF8String(byte[], int, int)} and skips escaping altogether.
+ *
+ * @see KbrnNumberSerializer
+ */
+public class KbrnSerializer extends StdScalarSerializer<KBRN> {
+    
+    private final KbrnFormat format;
+    
+    /**
+     * Creates a serializer that writes the delimited format (e.g. {@code "120-81-47521"}).
+     */
+    public KbrnSerializer() {
+        this(KbrnFormat.DELIMITED);
+    }
+    
+    /**
+     * Creates a serializer that writes the given format.
+     *
+     * @param format the string format to write
+     */
+    public KbrnSerializer(KbrnFormat format) {
+        super(KBRN.class);
+        this.format = Objects.requireNonNull(format, "format");
+    }
+    
+    @Override
+    public void serialize(KBRN value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (gen instanceof UTF8JsonGenerator) {
+            byte[] bytes = new byte[format.length()];
+            gen.writeRawUTF8String(bytes, 0, value.writeTo(bytes, 0, format));
+        } else {
+            char[] chars = new char[format.length()];
+            gen.writeString(chars, 0, value.writeTo(chars, 0, format));
+        }
+    }
+    
+    @Override
+    public Class<KBRN> handledType() {
+        return KBRN.class;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Jackson 3 직렬화/역직렬화 지원 모듈
+ * <p>
+ * 이 패키지는 Jackson 3 ({@code tools.jackson}) 을 사용하여 KBRN 객체를 JSON으로 직렬화하고
+ * JSON에서 KBRN 객체로 역직렬화하는 기능을 제공합니다. Jackson 2 를 사용하는 경우 {@code kbrn-jackson} 모듈을 사용하세요.
+ * 
+ * <p>사용 예시:
+ * <pre>{@code
+ * JsonMapper mapper = JsonMapper.builder()
+ *         .addModule(new KbrnModule())
+ *         .build();
+ * 
+ * // 직렬화
+ * KBRN kbrn = KBRN.valueOf("120-81-47521");
+ * String json = mapper.writeValueAsString(kbrn); // "120-81-47521"
+ * 
+ * // 역직렬화
+ * KBRN deserialized = mapper.readValue("\"1208147521\"", KBRN.class);
+ * }</pre>
+ * <p>
+ * {@code Map<KBRN, ?>} 의 키도 함께 지원하며, 출력 형식은 {@code new KbrnModule(KbrnFormat.PLAIN)} 이나
+ * 숫자로 출력하는 {@code KbrnModule.numeric()} 으로 바꿀 수 있습니다.
+ * 
+ * @see io.github.realrains.kbrn.jackson3.KbrnModule
+ * @see io.github.realrains.kbrn.jackson3.KbrnSerializer
+ * @see io.github.realrains.kbrn.jackson3.KbrnDeserializer
+ * @see io.github.realrains.kbrn.jackson3.KbrnKeySerializer
+ * @see io.github.realrains.kbrn.jackson3.KbrnKeyDeserializer
+ */
+package io.github.realrains.kbrn.jackson3;
\ No newline at end of file
@@ -0,0 +1,362 @@
+package io.github.realrains.kbrn.jackson3;
+
+import io.github.realrains.kbrn.KBRN;
+import io.github.realrains.kbrn.KbrnFormat;
+import io.github.realrains.kbrn.KbrnList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.exc.InvalidFormatException;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.type.LogicalType;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KbrnModuleTest {
+    
+    private JsonMapper mapper;
+    
+    @BeforeEach
+    void setUp() {
+        mapper = JsonMapper.builder()
+                .addModule(new KbrnModule())
+                .build();
+    }
+    
+    @Test
+    @DisplayName("Should serialize KBRN to string")
+    void testSerialization() {
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+        String json = mapper.writeValueAsString(kbrn);
+        
+        assertThat(json).isEqualTo("\"120-81-47521\"");
+    }
+    
+    @Test
+    @DisplayName("Should serialize KBRN without delimiter to plain format")
+    void testSerializationPlainFormat() {
+        KBRN kbrn = KBRN.valueOf("1208147521");
+        String json = mapper.writeValueAsString(kbrn);
+        
+        assertThat(json).isEqualTo("\"120-81-47521\"");
+    }
+    
+    @Test
+    @DisplayName("Should serialize null KBRN to null")
+    void testSerializationNull() {
+        String json = mapper.writeValueAsString((KBRN) null);
+        
+        assertThat(json).isEqualTo("null");
+    }
+    
+    @Test
+    @DisplayName("Should serialize KBRN to bytes, writers and token buffers alike")
+    void testSerializationOutputTargets() {
+        KBRN[] kbrns = { KBRN.valueOf("120-81-47521"), KBRN.fromLong(2208162517L), null };
+        String expected = "[\"120-81-47521\",\"220-81-62517\",null]";
+        
+        assertThat(new String(mapper.writeValueAsBytes(kbrns), StandardCharsets.UTF_8)).isEqualTo(expected);
+        StringWriter writer = new StringWriter();
+        mapper.writeValue(writer, kbrns);
+        assertThat(writer.toString()).isEqualTo(expected);
+        assertThat(mapper.convertValue(kbrns[1], String.class)).isEqualTo("220-81-62517");
+    }
+    
+    @Test
+    @DisplayName("Should deserialize string to KBRN")
+    void testDeserialization() {
+        String json = "\"120-81-47521\"";
+        KBRN kbrn = mapper.readValue(json, KBRN.class);
+        
+        assertThat(kbrn).isNotNull();
+        assertThat(kbrn.delimitedValue()).isEqualTo("120-81-47521");
+    }
+    
+    @Test
+    @DisplayName("Should deserialize plain format string to KBRN")
+    void testDeserializationPlainFormat() {
+        String json = "\"1208147521\"";
+        KBRN kbrn = mapper.readValue(json, KBRN.class);
+        
+        assertThat(kbrn).isNotNull();
+        assertThat(kbrn.plainValue()).isEqualTo("1208147521");
+    }
+    
+    @Test
+    @DisplayName("Should deserialize null to null KBRN")
+    void testDeserializationNull() {
+        String json = "null";
+        KBRN kbrn = mapper.readValue(json, KBRN.class);
+        
+        assertThat(kbrn).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should deserialize empty string to null")
+    void testDeserializationEmptyString() {
+        String json = "\"\"";
+        KBRN kbrn = mapper.readValue(json, KBRN.class);
+        
+        assertThat(kbrn).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should throw exception for invalid KBRN format")
+    void testDeserializationInvalidFormat() {
+        String json = "\"123-45-67890\"";
+        
+        assertThatThrownBy(() -> mapper.readValue(json, KBRN.class))
+                .isInstanceOf(JacksonException.class)
+                .hasMessageContaining("Invalid KBRN value");
+    }
+    
+    @Test
+    @DisplayName("Should throw exception for non-string JSON value")
+    void testDeserializationNonString() {
+        String json = "123";
+        
+        assertThatThrownBy(() -> mapper.readValue(json, KBRN.class))
+                .isInstanceOf(JacksonException.class)
+                .hasMessageContaining("Expected string value for KBRN");
+    }
+    
+    @Test
+    @DisplayName("Should throw InvalidFormatException carrying the rejected value")
+    void testDeserializationInvalidFormatException() {
+        String json = "\"120-81-47522\"";
+        
+        assertThatThrownBy(() -> mapper.readValue(json, KBRN.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .satisfies(e -> {
+                    assertThat(((InvalidFormatException) e).getValue()).isEqualTo("120-81-47522");
+                    assertThat(((InvalidFormatException) e).getTargetType()).isEqualTo(KBRN.class);
+                });
+    }
+    
+    @Test
+    @DisplayName("Should throw MismatchedInputException for non-string JSON value")
+    void testDeserializationNonStringException() {
+        String json = "[\"120-81-47521\"]";
+        
+        assertThatThrownBy(() -> mapper.readValue(json, KBRN.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+    
+    @Test
+    @DisplayName("Should deserialize escaped and streamed string values")
+    void testDeserializationFromStream() {
+        String json = "[\"120\\u002d81-47521\", \"2208162517\", \"220-81-62517\"]";
+        
+        KBRN[] fromString = mapper.readValue(json, KBRN[].class);
+        KBRN[] fromBytes = mapper.readValue(json.getBytes(StandardCharsets.UTF_8), KBRN[].class);
+        KBRN[] fromReader = mapper.readValue(new StringReader(json), KBRN[].class);
+        
+        KBRN[] expected = {
+                KBRN.valueOf("120-81-47521"), KBRN.valueOf("220-81-62517"), KBRN.valueOf("220-81-62517")
+        };
+        assertThat(fromString).containsExactly(expected);
+        assertThat(fromBytes).containsExactly(expected);
+        assertThat(fromReader).containsExactly(expected);
+    }
+    
+    @Test
+    @DisplayName("Should serialize and deserialize in object context")
+    void testSerializationDeserializationInObject() {
+        TestDto dto = new TestDto();
+        dto.name = "Test Company";
+        dto.kbrn = KBRN.valueOf("120-81-47521");
+        
+        String json = mapper.writeValueAsString(dto);
+        assertThat(json).contains("\"name\":\"Test Company\"");
+        assertThat(json).contains("\"kbrn\":\"120-81-47521\"");
+        
+        TestDto deserialized = mapper.readValue(json, TestDto.class);
+        assertThat(deserialized.name).isEqualTo("Test Company");
+        assertThat(deserialized.kbrn).isEqualTo(KBRN.valueOf("120-81-47521"));
+    }
+    
+    @Test
+    @DisplayName("Should handle null KBRN in object context")
+    void testNullKbrnInObject() {
+        TestDto dto = new TestDto();
+        dto.name = "Test Company";
+        dto.kbrn = null;
+        
+        String json = mapper.writeValueAsString(dto);
+        assertThat(json).contains("\"kbrn\":null");
+        
+        TestDto deserialized = mapper.readValue(json, TestDto.class);
+        assertThat(deserialized.name).isEqualTo("Test Company");
+        assertThat(deserialized.kbrn).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should serialize and deserialize KBRN map keys")
+    void testMapKeys() {
+        Map<KBRN, Integer> map = new LinkedHashMap<>();
+        map.put(KBRN.valueOf("1208147521"), 1);
+        map.put(KBRN.valueOf("220-81-62517"), 2);
+        
+        String json = mapper.writeValueAsString(map);
+        assertThat(json).isEqualTo("{\"120-81-47521\":1,\"220-81-62517\":2}");
+        
+        Map<KBRN, Integer> deserialized = mapper.readValue("{\"1208147521\":1,\"220-81-62517\":2}",
+                new TypeReference<Map<KBRN, Integer>>() {});
+        assertThat(deserialized).isEqualTo(map);
+    }
+    
+    @Test
+    @DisplayName("Should throw InvalidFormatException for invalid map key")
+    void testMapKeyInvalid() {
+        String json = "{\"120-81-47522\":1}";
+        
+        assertThatThrownBy(() -> mapper.readValue(json, new TypeReference<Map<KBRN, Integer>>() {}))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Invalid KBRN value");
+    }
+    
+    @Test
+    @DisplayName("Should serialize values and keys in plain format when configured")
+    void testPlainFormatModule() {
+        JsonMapper plainMapper = JsonMapper.builder().addModule(new KbrnModule(KbrnFormat.PLAIN)).build();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+        
+        assertThat(plainMapper.writeValueAsString(kbrn)).isEqualTo("\"1208147521\"");
+        assertThat(new String(plainMapper.writeValueAsBytes(kbrn), StandardCharsets.UTF_8)).isEqualTo("\"1208147521\"");
+        assertThat(plainMapper.writeValueAsString(Collections.singletonMap(kbrn, 1))).isEqualTo("{\"1208147521\":1}");
+        assertThat(plainMapper.readValue("\"120-81-47521\"", KBRN.class)).isEqualTo(kbrn);
+    }
+    
+    @Test
+    @DisplayName("Should serialize and deserialize numeric wire format")
+    void testNumericModule() {
+        JsonMapper numericMapper = JsonMapper.builder().addModule(KbrnModule.numeric()).build();
+        TestDto dto = new TestDto();
+        dto.name = "Test Company";
+        dto.kbrn = KBRN.valueOf("120-81-47521");
+        
+        String json = numericMapper.writeValueAsString(dto);
+        assertThat(json).isEqualTo("{\"kbrn\":1208147521,\"name\":\"Test Company\"}");
+        assertThat(numericMapper.readValue(json, TestDto.class).kbrn).isEqualTo(dto.kbrn);
+        assertThat(numericMapper.readValue("\"120-81-47521\"", KBRN.class)).isEqualTo(dto.kbrn);
+        assertThat(numericMapper.writeValueAsString(Collections.singletonMap(dto.kbrn, 1))).isEqualTo("{\"1208147521\":1}");
+    }
+    
+    @Test
+    @DisplayName("Should restore leading zeros from numeric wire format")
+    void testNumericModuleLeadingZeros() {
+        JsonMapper numericMapper = JsonMapper.builder().addModule(KbrnModule.numeric()).build();
+        KBRN kbrn = KBRN.fromLong(15L);
+        
+        assertThat(numericMapper.writeValueAsString(kbrn)).isEqualTo("15");
+        assertThat(numericMapper.readValue("15", KBRN.class).plainValue()).isEqualTo("0000000015");
+    }
+    
+    @Test
+    @DisplayName("Should throw InvalidFormatException for invalid numeric value")
+    void testNumericModuleInvalid() {
+        JsonMapper numericMapper = JsonMapper.builder().addModule(KbrnModule.numeric()).build();
+        
+        assertThatThrownBy(() -> numericMapper.readValue("1208147522", KBRN.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Invalid KBRN value");
+        assertThatThrownBy(() -> numericMapper.readValue("12345678901234567890", KBRN.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> numericMapper.readValue("-1", KBRN.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> numericMapper.readValue("1.5", KBRN.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+    
+    @Test
+    @DisplayName("Should serialize and deserialize KbrnList as a JSON array")
+    void testKbrnList() {
+        KbrnList list = new KbrnList();
+        list.add(KBRN.valueOf("1208147521"));
+        list.add(2208162517L);
+        String expected = "[\"120-81-47521\",\"220-81-62517\"]";
+        
+        assertThat(mapper.writeValueAsString(list)).isEqualTo(expected);
+        assertThat(new String(mapper.writeValueAsBytes(list), StandardCharsets.UTF_8)).isEqualTo(expected);
+        
+        KbrnList fromString = mapper.readValue("[\"1208147521\", \"220-81-62517\"]", KbrnList.class);
+        KbrnList fromBytes = mapper.readValue(expected.getBytes(StandardCharsets.UTF_8), KbrnList.class);
+        assertThat(fromString.toLongArray()).containsExactly(1208147521L, 2208162517L);
+        assertThat(fromBytes.toLongArray()).containsExactly(1208147521L, 2208162517L);
+        assertThat(mapper.readValue("[]", KbrnList.class).isEmpty()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should handle KbrnList in object context")
+    void testKbrnListInObject() {
+        ListDto dto = new ListDto();
+        dto.kbrns = new KbrnList();
+        dto.kbrns.add(1208147521L);
+        
+        String json = mapper.writeValueAsString(dto);
+        assertThat(json).isEqualTo("{\"kbrns\":[\"120-81-47521\"]}");
+        assertThat(mapper.readValue(json, ListDto.class).kbrns.toLongArray()).containsExactly(1208147521L);
+        assertThat(mapper.readValue("{\"kbrns\":null}", ListDto.class).kbrns).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should throw exception for invalid KbrnList elements")
+    void testKbrnListInvalid() {
+        assertThatThrownBy(() -> mapper.readValue("[\"120-81-47521\", \"120-81-47522\"]", KbrnList.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Invalid KBRN value");
+        assertThatThrownBy(() -> mapper.readValue("[null]", KbrnList.class))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> mapper.readValue("[1208147521]", KbrnList.class))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> mapper.readValue("\"1208147521\"", KbrnList.class))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("Expected array for KbrnList");
+    }
+    
+    @Test
+    @DisplayName("Should serialize and deserialize KbrnList in numeric wire format")
+    void testKbrnListNumeric() {
+        JsonMapper numericMapper = JsonMapper.builder().addModule(KbrnModule.numeric()).build();
+        KbrnList list = new KbrnList();
+        list.add(1208147521L);
+        list.add(15L);
+        
+        assertThat(numericMapper.writeValueAsString(list)).isEqualTo("[1208147521,15]");
+        assertThat(numericMapper.readValue("[1208147521, \"000-00-00015\"]", KbrnList.class).toLongArray())
+                .containsExactly(1208147521L, 15L);
+        assertThatThrownBy(() -> numericMapper.readValue("[1208147522]", KbrnList.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+    
+    @Test
+    @DisplayName("Should expose cachable scalar deserializers with logical types")
+    void testDeserializerHints() {
+        assertThat(new KbrnDeserializer().isCachable()).isTrue();
+        assertThat(new KbrnDeserializer().logicalType()).isEqualTo(LogicalType.Textual);
+        assertThat(new KbrnDeserializer().handledType()).isEqualTo(KBRN.class);
+        assertThat(new KbrnListDeserializer().isCachable()).isTrue();
+        assertThat(new KbrnListDeserializer().logicalType()).isEqualTo(LogicalType.Collection);
+        assertThat(new KbrnSerializer().handledType()).isEqualTo(KBRN.class);
+    }
+    
+    static class TestDto {
+        public String name;
+        public KBRN kbrn;
+    }
+    
+    static class ListDto {
+        public KbrnList kbrns;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+plugins {
+    id("java-library")
+}
+
+dependencies {
+    api(project(":kbrn"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.0")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+// Vector API (jdk.incubator.vector) 는 Java 16 이상에서만 제공되므로 이 모듈만 Java 21 로 빌드한다.
+// 코어 모듈 (kbrn) 은 계속 Java 11 을 대상으로 한다.
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+    withJavadocJar()
+    withSourcesJar()
+}
+
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+tasks.withType<Javadoc>().configureEach {
+    (options as StandardJavadocDocletOptions).addStringOption("-add-modules", "jdk.incubator.vector")
+}
+
+tasks.test {
+    useJUnitPlatform()
+    jvmArgs(vectorModule)
+}
+
+// 스칼라 경로도 함께 검증하기 위해 Vector API 모듈 없이 한 번 더 실행한다.
+val scalarTest by tasks.registering(Test::class) {
+    useJUnitPlatform()
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+}
+
+tasks.check {
+    dependsOn(scalarTest)
+}
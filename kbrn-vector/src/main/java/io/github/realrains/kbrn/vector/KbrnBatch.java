@@ -0,0 +1,102 @@
+package io.github.realrains.kbrn.vector;
+
+import io.github.realrains.kbrn.KbrnUtils;
+
+import java.util.Objects;
+
+/**
+ * 사업자등록번호 앞 9자리에 대한 검증번호를 일괄로 계산하는 유틸리티 클래스
+ * <p>
+ * 실행 환경에서 Vector API ({@code jdk.incubator.vector}) 를 사용할 수 있으면 여러 번호를 레인 단위로 묶어
+ * 한 번에 계산하고, 그렇지 않으면 스칼라 경로로 계산합니다. 두 경로의 결과는 항상 같습니다.
+ * Vector API 를 사용하려면 JVM 을 {@code --add-modules jdk.incubator.vector} 옵션과 함께 실행해야 합니다.
+ *
+ * @see KbrnUtils#checksumOf(CharSequence)
+ */
+public final class KbrnBatch {
+
+    /**
+     * 사업자등록번호 앞 9자리의 길이
+     */
+    public static final int BODY_LENGTH = 9;
+
+    private static final int[] CHECKSUM_WEIGHTS = { 1, 3, 7, 1, 3, 7, 1, 3, 5 };
+    private static final boolean VECTORIZED = isVectorApiAvailable();
+
+    private KbrnBatch() { throw new UnsupportedOperationException("Cannot be instantiated"); }
+
+    /**
+     * 여러 사업자등록번호 앞 9자리에 대한 검증번호를 계산합니다.<br/>
+     * {@code bodies} 에는 앞 9자리 ASCII 숫자가 번호마다 9바이트씩 이어서 기록되어 있어야 하며,
+     * {@code i} 번째 번호의 검증번호 문자 ({@code '0'} - {@code '9'}) 는 {@code out[i]} 에 기록됩니다.
+     *
+     * @param bodies 번호마다 9바이트씩 이어진 앞 9자리 ASCII 숫자 (예: {@code "120814752220816251"})
+     * @param count  계산할 번호의 개수
+     * @param out    검증번호 문자를 기록할 배열
+     * @throws IllegalArgumentException 숫자가 아닌 바이트를 포함하는 경우. 이때 {@code out} 의 내용은 정의되지 않습니다.
+     * @throws IndexOutOfBoundsException {@code count} 가 음수이거나 배열의 크기가 부족한 경우
+     */
+    public static void checksums(byte[] bodies, int count, byte[] out) {
+        checkBounds(bodies, count, out);
+        int done = VECTORIZED ? VectorChecksums.checksums(bodies, count, out) : 0;
+        scalarChecksums(bodies, done, count, out);
+    }
+
+    /**
+     * Vector API 를 사용하지 않고 스칼라 경로로 검증번호를 계산합니다.<br/>
+     * 결과는 {@link #checksums(byte[], int, byte[])} 와 같으며, 주로 성능 비교를 위해 제공됩니다.
+     *
+     * @param bodies 번호마다 9바이트씩 이어진 앞 9자리 ASCII 숫자
+     * @param count  계산할 번호의 개수
+     * @param out    검증번호 문자를 기록할 배열
+     * @throws IllegalArgumentException 숫자가 아닌 바이트를 포함하는 경우
+     * @throws IndexOutOfBoundsException {@code count} 가 음수이거나 배열의 크기가 부족한 경우
+     * @see #checksums(byte[], int, byte[])
+     */
+    public static void scalarChecksums(byte[] bodies, int count, byte[] out) {
+        checkBounds(bodies, count, out);
+        scalarChecksums(bodies, 0, count, out);
+    }
+
+    /**
+     * 현재 실행 환경에서 Vector API 경로가 사용되는지 확인합니다.
+     *
+     * @return Vector API 로 계산하면 {@code true}, 스칼라 경로로 계산하면 {@code false}
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    private static void scalarChecksums(byte[] bodies, int from, int to, byte[] out) {
+        for (int i = from; i < to; i++) {
+            int offset = i * BODY_LENGTH;
+            int ws = 0;
+            int d = 0;
+            for (int j = 0; j < BODY_LENGTH; j++) {
+                d = bodies[offset + j] - '0';
+                if (d < 0 || d > 9) {
+                    throw new IllegalArgumentException("All characters must be digits: body at index " + i);
+                }
+                ws += d * CHECKSUM_WEIGHTS[j];
+            }
+            ws += (d * 5) / 10;
+            out[i] = (byte) ('0' + (10 - ws % 10) % 10);
+        }
+    }
+
+    private static void checkBounds(byte[] bodies, int count, byte[] out) {
+        Objects.checkFromIndexSize(0, count, out.length);
+        Objects.checkFromIndexSize(0, Math.multiplyExact(count, BODY_LENGTH), bodies.length);
+    }
+
+    private static boolean isVectorApiAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorChecksums.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
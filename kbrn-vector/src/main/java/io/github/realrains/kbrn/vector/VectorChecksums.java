@@ -0,0 +1,119 @@
+package io.github.realrains.kbrn.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteOrder;
+
+import static io.github.realrains.kbrn.vector.KbrnBatch.BODY_LENGTH;
+
+/**
+ * Vector API 로 검증번호를 계산하는 내부 클래스
+ * <p>
+ * {@code long} 레인 하나가 번호 하나를 맡습니다. 연속된 {@code 9 * LANES} 바이트를 읽어 재배치 (rearrange) 한 뒤
+ * 번호마다 앞 8자리 숫자를 {@code long} 레인 하나에 모으고, 상수 곱셈 한 번으로 가중합을 구합니다
+ * (자리별 곱의 합이 234 이하이므로 바이트 사이에 올림이 생기지 않습니다). 9번째 자리는 한 자리씩 민 재배치로
+ * 같은 레인의 최상위 바이트에 모읍니다.
+ * <p>
+ * 이 클래스는 Vector API 를 사용할 수 있는 경우에만 로드됩니다.
+ */
+final class VectorChecksums {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = LONGS.vectorShape().withLanes(byte.class);
+    private static final VectorSpecies<Byte> CHECKSUM_BYTES = ByteVector.SPECIES_64;
+
+    static final int LANES = LONGS.length();
+
+    /**
+     * 앞 8자리의 가중치를 바이트마다 역순으로 배치한 상수. {@code x * WEIGHTS} 의 최상위 바이트가 가중합이 됩니다.
+     */
+    private static final long WEIGHTS = 0x01_03_07_01_03_07_01_03L;
+    /**
+     * 번호 {@code k} 의 {@code j} 번째 자리 ({@code j < 8}) 를 레인 {@code 8k + j} 로 모으는 재배치
+     */
+    private static final VectorShuffle<Byte> HEAD = shuffle(0);
+    private static final VectorMask<Byte> HEAD_FROM_HIGH = fromHigh(0);
+    /**
+     * 번호 {@code k} 의 {@code j + 1} 번째 자리를 레인 {@code 8k + j} 로 모으는 재배치
+     */
+    private static final VectorShuffle<Byte> TAIL = shuffle(1);
+    private static final VectorMask<Byte> TAIL_FROM_HIGH = fromHigh(1);
+
+    private VectorChecksums() { throw new UnsupportedOperationException("Cannot be instantiated"); }
+
+    /**
+     * 이 클래스를 사용할 수 있는 실행 환경인지 확인합니다.
+     * 레인이 4개 미만이면 (예: 128비트 벡터만 지원하는 CPU) 스칼라 경로보다 느리므로 사용하지 않습니다.
+     */
+    static boolean isSupported() {
+        return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN && LANES >= 4 && LANES <= CHECKSUM_BYTES.length();
+    }
+
+    /**
+     * 앞에서부터 {@code LANES} 개씩 묶어 검증번호를 계산합니다.
+     * 숫자가 아닌 바이트를 포함한 묶음을 만나거나 남은 번호가 8개보다 적으면 멈춥니다.
+     *
+     * @return 계산을 마친 번호의 개수
+     */
+    static int checksums(byte[] bodies, int count, byte[] out) {
+        int i = 0;
+        for (; i + CHECKSUM_BYTES.length() <= count; i += LANES) {
+            int offset = i * BODY_LENGTH;
+            // 한 묶음은 9 * LANES 바이트이므로 두 번에 나누어 읽는다. (두 번째는 LANES 바이트 뒤에서 시작)
+            ByteVector low = ByteVector.fromArray(BYTES, bodies, offset);
+            ByteVector high = ByteVector.fromArray(BYTES, bodies, offset + LANES);
+            ByteVector head = low.rearrange(HEAD).blend(high.rearrange(HEAD), HEAD_FROM_HIGH).sub((byte) '0');
+            ByteVector tail = low.rearrange(TAIL).blend(high.rearrange(TAIL), TAIL_FROM_HIGH).sub((byte) '0');
+            if (head.compare(VectorOperators.UNSIGNED_GT, 9).or(tail.compare(VectorOperators.UNSIGNED_GT, 9)).anyTrue()) {
+                return i;
+            }
+
+            LongVector ws = head.reinterpretAsLongs().mul(WEIGHTS).lanewise(VectorOperators.LSHR, 56);
+            LongVector d8 = tail.reinterpretAsLongs().lanewise(VectorOperators.LSHR, 56);
+            // 9번째 자리: d8 * 5 + (d8 * 5) / 10 == d8 * 5 + d8 / 2
+            ws = ws.add(d8.mul(5)).add(d8.lanewise(VectorOperators.LSHR, 1));
+            // ws 는 283 이하이므로 ws / 10 == (ws * 205) >>> 11
+            LongVector r = ws.sub(ws.mul(205).lanewise(VectorOperators.LSHR, 11).mul(10));
+            LongVector checksum = r.neg().add(10);
+            checksum = checksum.blend(0, checksum.eq(10)).add('0');
+            // 마스크 저장은 AVX2 에서 느리므로 8바이트를 모두 쓴다. LANES 이후의 바이트는 다음 묶음이 덮어쓴다.
+            ((ByteVector) checksum.convertShape(VectorOperators.L2B, CHECKSUM_BYTES, 0)).intoArray(out, i);
+        }
+        return i;
+    }
+
+    /**
+     * 번호 {@code k} 의 {@code j + skip} 번째 자리를 레인 {@code 8k + j} 로 모으는 재배치를 만듭니다.
+     * 첫 번째 벡터의 범위를 벗어나는 자리는 {@code LANES} 바이트 뒤에서 읽은 두 번째 벡터의 위치를 가리킵니다.
+     * (두 벡터를 함께 받는 {@code rearrange(shuffle, v)} 는 JDK 21 에서 내장 함수로 컴파일되지 않아 느리므로
+     * 각각 재배치한 뒤 {@link #fromHigh(int)} 마스크로 합칩니다.)
+     */
+    private static VectorShuffle<Byte> shuffle(int skip) {
+        int[] indexes = new int[BYTES.length()];
+        for (int lane = 0; lane < indexes.length; lane++) {
+            int source = sourceOf(lane, skip);
+            indexes[lane] = source < indexes.length ? source : source - LANES;
+        }
+        return VectorShuffle.fromArray(BYTES, indexes, 0);
+    }
+
+    /**
+     * {@link #shuffle(int)} 의 각 레인이 두 번째 벡터에서 와야 하는지 나타내는 마스크를 만듭니다.
+     */
+    private static VectorMask<Byte> fromHigh(int skip) {
+        boolean[] bits = new boolean[BYTES.length()];
+        for (int lane = 0; lane < bits.length; lane++) {
+            bits[lane] = sourceOf(lane, skip) >= bits.length;
+        }
+        return VectorMask.fromArray(BYTES, bits, 0);
+    }
+
+    private static int sourceOf(int lane, int skip) {
+        return (lane / Long.BYTES) * BODY_LENGTH + lane % Long.BYTES + skip;
+    }
+}
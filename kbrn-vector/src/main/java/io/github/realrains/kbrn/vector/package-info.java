@@ -0,0 +1,17 @@
+/**
+ * Vector API 를 사용한 사업자등록번호 일괄 계산 모듈
+ * <p>
+ * 이 패키지는 {@code jdk.incubator.vector} 의 레인 단위 연산으로 많은 사업자등록번호의 검증번호를 한 번에 계산하는
+ * 기능을 제공합니다. Java 21 이상이 필요하며, 실행 시 {@code --add-modules jdk.incubator.vector} 옵션이 없으면
+ * 같은 결과를 내는 스칼라 경로로 동작합니다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * byte[] bodies = "120814752220816251".getBytes(StandardCharsets.US_ASCII);
+ * byte[] checksums = new byte[2];
+ * KbrnBatch.checksums(bodies, 2, checksums); // { '1', '7' }
+ * }</pre>
+ *
+ * @see io.github.realrains.kbrn.vector.KbrnBatch
+ */
+package io.github.realrains.kbrn.vector;
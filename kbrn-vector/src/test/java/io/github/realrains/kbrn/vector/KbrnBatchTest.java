@@ -0,0 +1,79 @@
+package io.github.realrains.kbrn.vector;
+
+import io.github.realrains.kbrn.KbrnUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnBatch 테스트")
+class KbrnBatchTest {
+
+    @DisplayName("여러 번호의 검증번호를 KbrnUtils.checksumOf 와 같게 계산")
+    @ParameterizedTest(name = "count = {0}")
+    @ValueSource(ints = { 0, 1, 7, 8, 9, 16, 17, 100, 1000 })
+    void calculate_checksums(int count) {
+        byte[] bodies = randomBodies(new Random(count), count);
+        byte[] expected = new byte[count];
+        for (int i = 0; i < count; i++) {
+            String body = new String(bodies, i * KbrnBatch.BODY_LENGTH, KbrnBatch.BODY_LENGTH, StandardCharsets.US_ASCII);
+            expected[i] = (byte) KbrnUtils.checksumOf(body);
+        }
+        byte[] actual = new byte[count];
+        byte[] scalar = new byte[count];
+
+        KbrnBatch.checksums(bodies, count, actual);
+        KbrnBatch.scalarChecksums(bodies, count, scalar);
+
+        assertArrayEquals(expected, actual);
+        assertArrayEquals(expected, scalar);
+    }
+
+    @DisplayName("알려진 사업자등록번호의 검증번호를 계산")
+    @Test
+    void calculate_known_checksums() {
+        byte[] bodies = "120814752220816251".getBytes(StandardCharsets.US_ASCII);
+        byte[] out = new byte[2];
+
+        KbrnBatch.checksums(bodies, 2, out);
+
+        assertEquals('1', out[0]);
+        assertEquals('7', out[1]);
+    }
+
+    @DisplayName("숫자가 아닌 바이트를 포함하면 예외를 던짐")
+    @ParameterizedTest(name = "index = {0}")
+    @ValueSource(ints = { 0, 5, 31, 63 })
+    void calculate_invalid_checksums(int index) {
+        byte[] bodies = randomBodies(new Random(index), 64);
+        bodies[index * KbrnBatch.BODY_LENGTH + index % KbrnBatch.BODY_LENGTH] = 'A';
+
+        assertThrows(IllegalArgumentException.class, () -> KbrnBatch.checksums(bodies, 64, new byte[64]));
+        assertThrows(IllegalArgumentException.class, () -> KbrnBatch.scalarChecksums(bodies, 64, new byte[64]));
+    }
+
+    @DisplayName("배열의 크기가 부족하면 예외를 던짐")
+    @Test
+    void calculate_out_of_bounds() {
+        byte[] bodies = randomBodies(new Random(0), 8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnBatch.checksums(bodies, 9, new byte[9]));
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnBatch.checksums(bodies, 8, new byte[7]));
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnBatch.checksums(bodies, -1, new byte[8]));
+    }
+
+    private static byte[] randomBodies(Random random, int count) {
+        byte[] bodies = new byte[count * KbrnBatch.BODY_LENGTH];
+        for (int i = 0; i < bodies.length; i++) {
+            bodies[i] = (byte) ('0' + random.nextInt(10));
+        }
+        return bodies;
+    }
+}
@@ -31,6 +31,17 @@ public enum BusinessEntityType {
      */
     UNDEFINED;
 
+    /**
+     * 2자리 코드 (00-99) 별 사업자 유형
+     */
+    private static final BusinessEntityType[] BY_CODE = new BusinessEntityType[100];
+
+    static {
+        for (int code = 0; code < BY_CODE.length; code++) {
+            BY_CODE[code] = classify(code);
+        }
+    }
+
     /**
      * 주어진 문자열 값을 기반으로 BusinessEntityType 을 반환합니다.
      *
@@ -39,26 +50,61 @@ public enum BusinessEntityType {
      * @throws IllegalArgumentException 주어진 값이 유효하지 않은 경우
      */
     public static BusinessEntityType of(String value) {
+        if (value != null && value.length() == 2 && isDigit(value.charAt(0)) && isDigit(value.charAt(1))) {
+            return BY_CODE[(value.charAt(0) - '0') * 10 + (value.charAt(1) - '0')];
+        }
         try {
-            int code = Integer.parseInt(value);
-            if (code >= 1 && code <= 79) {
-                return INDIVIDUAL_TAXABLE;
-            }
-            if (code >= 90 && code <= 99) {
-                return INDIVIDUAL_TAX_EXEMPT;
-            }
-            if (code == 81 || code == 86 || code == 87 || code == 88) {
-                return FOR_PROFIT_CORPORATE_HQ;
-            }
-            if (code == 82) {
-                return NON_PROFIT_CORPORATION;
-            }
-            if (code == 85) {
-                return FOR_PROFIT_CORPORATE_BRANCH;
-            }
-            return UNDEFINED;
+            return classify(Integer.parseInt(value));
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Cannot convert to BusinessType: " + value);
         }
     }
+
+    /**
+     * 주어진 숫자 코드를 기반으로 BusinessEntityType 을 반환합니다.
+     *
+     * @param code 사업자 유형 코드 (예: 1, 82, 85 등)
+     * @return 해당하는 BusinessEntityType, 0-99 범위를 벗어나면 {@link #UNDEFINED}
+     */
+    public static BusinessEntityType of(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : UNDEFINED;
+    }
+
+    /**
+     * 사업자 유형 코드의 두 자리 문자를 기반으로 BusinessEntityType 을 반환합니다.
+     *
+     * @param tens 십의 자리 숫자 문자 (예: '8')
+     * @param ones 일의 자리 숫자 문자 (예: '1')
+     * @return 해당하는 BusinessEntityType
+     * @throws IllegalArgumentException 주어진 문자가 숫자가 아닌 경우
+     */
+    public static BusinessEntityType of(char tens, char ones) {
+        if (!isDigit(tens) || !isDigit(ones)) {
+            throw new IllegalArgumentException("Cannot convert to BusinessType: " + tens + ones);
+        }
+        return BY_CODE[(tens - '0') * 10 + (ones - '0')];
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static BusinessEntityType classify(int code) {
+        if (code >= 1 && code <= 79) {
+            return INDIVIDUAL_TAXABLE;
+        }
+        if (code >= 90 && code <= 99) {
+            return INDIVIDUAL_TAX_EXEMPT;
+        }
+        if (code == 81 || code == 86 || code == 87 || code == 88) {
+            return FOR_PROFIT_CORPORATE_HQ;
+        }
+        if (code == 82) {
+            return NON_PROFIT_CORPORATION;
+        }
+        if (code == 85) {
+            return FOR_PROFIT_CORPORATE_BRANCH;
+        }
+        return UNDEFINED;
+    }
 }
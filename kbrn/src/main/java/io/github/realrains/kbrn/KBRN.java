@@ -1,10 +1,9 @@
 package io.github.realrains.kbrn;
 
-import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 
-import static io.github.realrains.kbrn.KbrnUtils.hasValidChecksum;
-import static io.github.realrains.kbrn.KbrnUtils.isValidPlainFormat;
-import static io.github.realrains.kbrn.KbrnUtils.isValidDelimitedFormat;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 사업자등록번호 (KBRN) 클래스
@@ -26,24 +25,48 @@ import static io.github.realrains.kbrn.KbrnUtils.isValidDelimitedFormat;
  * println(kbrn.serialSuffix());       // "47521"
  * println(kbrn.body());               // "120814752"
  * println(kbrn.checksum());           // '1'
+ * println(kbrn.toLong());             // 1208147521L
  * }
  * </pre>
+ * <p>
+ * 내부적으로는 검증번호를 제외한 앞 9자리를 {@code int} 하나로 저장합니다. 생성에 사용한 문자열은 보관하지 않으며,
+ * 기본 형식과 구분자 형식의 문자열은 처음 요청될 때 만들어져 인스턴스에 보관됩니다.
  *
  * @see KbrnUtils
  */
 public class KBRN {
 
-    private static final String DELIMITER = "-";
-    private final String value;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
 
-    protected KBRN(String value) {
-        if (!isValidPlainFormat(value)) {
+    /**
+     * 검증번호를 제외한 앞 9자리 숫자 값 (예: "1208147521" -> 120814752)
+     */
+    private final int body;
+    /**
+     * 기본 형식 문자열. 처음 요청될 때 만들어집니다.
+     * 문자열은 불변 객체이므로 여러 스레드에서 동시에 만들어도 같은 값이 보관될 뿐 동기화가 필요하지 않습니다.
+     */
+    private @Nullable String plainValue;
+    /**
+     * 구분자 형식 문자열. 처음 요청될 때 만들어집니다.
+     */
+    private @Nullable String delimitedValue;
+
+    protected KBRN(@Nullable String value) {
+        long result = value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+        if (value == null || value.length() != KbrnScanner.PLAIN_LENGTH || !KbrnScanner.isWellFormed(result)) {
             throw new IllegalArgumentException("Value must be in plain format (e.g., \"1234567890\") : " + value);
         }
-        if (!hasValidChecksum(value)) {
+        if (result == KbrnScanner.BAD_CHECKSUM) {
             throw new IllegalArgumentException("Value must have a valid checksum: " + value);
         }
-        this.value = value;
+        this.body = (int) (result / 10);
+    }
+
+    private KBRN(int body) {
+        this.body = body;
     }
 
     /**
@@ -53,19 +76,77 @@ public class KBRN {
      * @return KBRN 객체
      * @throws IllegalArgumentException 주어진 값이 유효한 형식이 아닌 경우
      */
-    public static KBRN valueOf(String value) {
-        if (isValidPlainFormat(value) || isValidDelimitedFormat(value)) {
-            return new KBRN(value.replace(DELIMITER, ""));
+    public static KBRN valueOf(@Nullable String value) {
+        long result = value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+        if (result >= 0) {
+            return new KBRN((int) (result / 10));
+        }
+        if (result == KbrnScanner.BAD_CHECKSUM) {
+            throw new IllegalArgumentException("Value must have a valid checksum: " + value);
         }
         throw new IllegalArgumentException("Value must be in valid format (e.g., \"1234567890\" or \"123-45-67890\") : " + value);
     }
 
+    /**
+     * 사업자등록번호 문자 시퀀스로부터 KBRN 객체를 생성합니다.<br/>
+     * {@link #valueOf(String)} 와 달리 유효하지 않은 값에 대해 예외를 던지지 않고 빈 {@link Optional} 을 반환하므로,
+     * 유효하지 않은 입력이 많은 경우에도 예외 생성 비용이 들지 않습니다. 유효하지 않은 사유가 필요하면
+     * {@link KbrnUtils#validate(CharSequence)} 를 사용하세요.
+     *
+     * @param value 사업자등록번호 문자 시퀀스 (예: "1234567890" 또는 "123-45-67890")
+     * @return 유효한 경우 KBRN 객체를 담은 {@link Optional}, 그렇지 않으면 빈 {@link Optional}
+     * @see #valueOf(String)
+     */
+    public static Optional<KBRN> tryParse(@Nullable CharSequence value) {
+        long result = value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+        if (result < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new KBRN((int) (result / 10)));
+    }
+
+    /**
+     * {@link #toLong()} 로 얻은 10자리 숫자 값으로부터 KBRN 객체를 생성합니다.
+     *
+     * @param value 사업자등록번호 10자리를 숫자로 나타낸 값 (예: {@code 1208147521L})
+     * @return KBRN 객체
+     * @throws IllegalArgumentException 값이 10자리 범위를 벗어나거나 검증번호가 올바르지 않은 경우
+     * @see #toLong()
+     */
+    public static KBRN fromLong(long value) {
+        if (value < 0 || value > KbrnScanner.MAX_VALUE) {
+            throw new IllegalArgumentException("Value must be between 0 and " + KbrnScanner.MAX_VALUE + ": " + value);
+        }
+        int body = (int) (value / 10);
+        if (KbrnScanner.checksumDigitOf(body) != value % 10) {
+            throw new IllegalArgumentException("Value must have a valid checksum: " + value);
+        }
+        return new KBRN(body);
+    }
+
+    /**
+     * 사업자등록번호 10자리를 하나의 숫자 값으로 반환합니다.<br/>
+     * 앞자리의 0 은 숫자 값에서 생략되며, {@link #fromLong(long)} 으로 다시 KBRN 객체를 만들 수 있습니다.
+     * 원시 타입 배열에 사업자등록번호를 보관할 때 사용할 수 있습니다.
+     *
+     * @return 사업자등록번호 10자리의 숫자 값 (예: "120-81-47521" -> {@code 1208147521L})
+     * @see #fromLong(long)
+     */
+    public long toLong() {
+        return body * 10L + KbrnScanner.checksumDigitOf(body);
+    }
+
     /**
      * KBRN 객체를 문자열 형식으로 변환한 값을 반환합니다.
      *
      * @return 10자리 숫자로 구성된 (예: 1234567890) 사업자등록번호 문자열
      */
     public String plainValue() {
+        String value = plainValue;
+        if (value == null) {
+            value = format(KbrnFormat.PLAIN);
+            plainValue = value;
+        }
         return value;
     }
 
@@ -75,7 +156,58 @@ public class KBRN {
      * @return 구분 기호가 있는 형식 (예: "123-45-67890") 의 사업자등록번호 문자열
      */
     public String delimitedValue() {
-        return String.join(DELIMITER, serialPrefix(), businessEntityTypeCode(), serialSuffix());
+        String value = delimitedValue;
+        if (value == null) {
+            value = format(KbrnFormat.DELIMITED);
+            delimitedValue = value;
+        }
+        return value;
+    }
+
+    /**
+     * 사업자등록번호를 지정한 형식의 ASCII 바이트로 주어진 배열에 기록합니다. ASCII 바이트는 UTF-8 인코딩과 같습니다.
+     * 문자열을 만들지 않으므로, 재사용하는 출력 버퍼에 바로 기록할 때 사용할 수 있습니다.
+     * 해당 형식의 문자열이 이미 보관되어 있으면 그 문자열을 복사합니다.
+     *
+     * @param bytes  기록할 바이트 배열
+     * @param offset 기록을 시작할 위치
+     * @param format 기록할 형식
+     * @return 기록한 바이트 수 ({@link KbrnFormat#length()})
+     * @throws IndexOutOfBoundsException 배열에 형식의 길이만큼 기록할 공간이 없는 경우
+     */
+    public int writeTo(byte[] bytes, int offset, KbrnFormat format) {
+        Objects.checkFromIndexSize(offset, format.length(), bytes.length);
+        String value = cachedValue(format);
+        if (value == null) {
+            format.writeBody(body, bytes, offset);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                bytes[offset + i] = (byte) value.charAt(i);
+            }
+        }
+        return format.length();
+    }
+
+    /**
+     * 사업자등록번호를 지정한 형식의 문자로 주어진 배열에 기록합니다.
+     * 문자열을 만들지 않으므로, 재사용하는 출력 버퍼에 바로 기록할 때 사용할 수 있습니다.
+     * 해당 형식의 문자열이 이미 보관되어 있으면 그 문자열을 복사합니다.
+     *
+     * @param chars  기록할 문자 배열
+     * @param offset 기록을 시작할 위치
+     * @param format 기록할 형식
+     * @return 기록한 문자 수 ({@link KbrnFormat#length()})
+     * @throws IndexOutOfBoundsException 배열에 형식의 길이만큼 기록할 공간이 없는 경우
+     */
+    public int writeTo(char[] chars, int offset, KbrnFormat format) {
+        Objects.checkFromIndexSize(offset, format.length(), chars.length);
+        String value = cachedValue(format);
+        if (value == null) {
+            format.writeBody(body, chars, offset);
+        } else {
+            value.getChars(0, value.length(), chars, offset);
+        }
+        return format.length();
     }
 
     /**
@@ -84,7 +216,7 @@ public class KBRN {
      * @return 사업자등록번호 앞 3자리 문자열 (예: 1234567890 -> "123")
      */
     public String serialPrefix() {
-        return value.substring(0, 3);
+        return digits(0, 3);
     }
 
     /**
@@ -93,7 +225,7 @@ public class KBRN {
      * @return 사업자등록번호 중간 2자리 문자열 (예: 1234567890 -> "45")
      */
     public String businessEntityTypeCode() {
-        return value.substring(3, 5);
+        return digits(3, 5);
     }
 
     /**
@@ -102,7 +234,7 @@ public class KBRN {
      * @return 해당 사업자등록번호의 {@link BusinessEntityType} 열거형 값
      */
     public BusinessEntityType businessEntityType() {
-        return BusinessEntityType.of(businessEntityTypeCode());
+        return BusinessEntityType.of(body / 10_000 % 100);
     }
 
     /**
@@ -111,7 +243,7 @@ public class KBRN {
      * @return 사업자등록번호 뒤 5자리 문자열 (예: 1234567890 -> "67890")
      */
     public String serialSuffix() {
-        return value.substring(5, 10);
+        return digits(5, 10);
     }
 
     /**
@@ -120,7 +252,7 @@ public class KBRN {
      * @return 사업자등록번호 앞 9자리 문자열 (예: 1234567890 -> "123456789")
      */
     public String body() {
-        return value.substring(0, 9);
+        return digits(0, 9);
     }
 
     /**
@@ -129,7 +261,7 @@ public class KBRN {
      * @return 검증번호 문자 (예: 1234567890 -> '0')
      */
     public char checksum() {
-        return value.charAt(9);
+        return (char) ('0' + KbrnScanner.checksumDigitOf(body));
     }
 
     /**
@@ -142,18 +274,55 @@ public class KBRN {
      */
     @Override
     public String toString() {
-        return String.format("KBRN{'%s'}", delimitedValue());
+        return "KBRN{'" + delimitedValue() + "'}";
     }
 
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) { return false; }
         KBRN kbrn = (KBRN) o;
-        return Objects.equals(value, kbrn.value);
+        return body == kbrn.body;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        return Integer.hashCode(body);
+    }
+
+    /**
+     * 검증번호를 제외한 앞 9자리 숫자 값으로부터 KBRN 객체를 생성합니다. 값의 범위는 검사하지 않습니다.
+     */
+    static KBRN ofPackedBody(int body) {
+        return new KBRN(body);
+    }
+
+    /**
+     * 검증번호를 제외한 앞 9자리 숫자 값을 반환합니다. (예: "1208147521" -> 120814752)
+     */
+    int packedBody() {
+        return body;
+    }
+
+    private @Nullable String cachedValue(KbrnFormat format) {
+        return format == KbrnFormat.PLAIN ? plainValue : delimitedValue;
+    }
+
+    private String format(KbrnFormat format) {
+        char[] chars = new char[format.length()];
+        format.writeBody(body, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 사업자등록번호 10자리 중 {@code [from, to)} 구간의 숫자를 문자열로 만듭니다.
+     */
+    private String digits(int from, int to) {
+        char[] chars = new char[to - from];
+        long value = toLong() / POWERS_OF_TEN[10 - to];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
     }
 }
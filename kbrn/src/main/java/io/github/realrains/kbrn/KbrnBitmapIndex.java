@@ -0,0 +1,488 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 사업자등록번호 전체 범위를 대상으로 하는 비트맵 기반 소속 여부 인덱스
+ * <p>
+ * 검증번호는 앞 9자리로부터 계산되므로, 유효한 사업자등록번호는 앞 9자리 숫자 값 (0 ~ 999,999,999) 만으로 구분됩니다.
+ * 이 인덱스는 앞 9자리 숫자 값을 상위 비트와 하위 16비트로 나누어, 상위 비트마다 하나의 컨테이너에 하위 16비트를
+ * 저장하는 Roaring 비트맵 방식을 사용합니다. 컨테이너는 원소가 적을 때는 정렬된 {@code char[]}, 많을 때는
+ * 65,536 비트의 {@code long[]} 비트맵으로 표현되므로, 드문드문한 집합은 원소당 2 바이트 남짓, 전체 범위가 채워진
+ * 집합도 약 125 MB 이내로 저장됩니다.
+ * <p>
+ * 조회와 추가는 상수 시간에 가깝게 동작하며, {@link java.util.BitSet} 처럼 {@link #and(KbrnBitmapIndex)},
+ * {@link #or(KbrnBitmapIndex)}, {@link #andNot(KbrnBitmapIndex)} 로 집합 연산을 제자리에서 수행합니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnBitmapIndex closed = new KbrnBitmapIndex();
+ * closed.add(KBRN.valueOf("120-81-47521"));
+ * closed.contains(1208147521L); // true
+ *
+ * KbrnBitmapIndex active = registered.copy();
+ * active.andNot(closed);
+ * }
+ * </pre>
+ *
+ * @see KbrnSet
+ */
+public class KbrnBitmapIndex {
+
+    private static final int MAX_BODY = 999_999_999;
+    private static final int CHUNK_COUNT = (MAX_BODY >>> 16) + 1;
+    private static final int BITMAP_WORDS = (1 << 16) / Long.SIZE;
+    /**
+     * 배열 컨테이너의 최대 원소 개수. 이보다 많으면 비트맵 컨테이너 (8 KB) 가 더 작습니다.
+     */
+    private static final int ARRAY_MAX = 4096;
+    /**
+     * 원소를 하나씩 제거할 때 비트맵 컨테이너를 배열 컨테이너로 되돌리는 원소 개수. {@link #ARRAY_MAX} 보다 작게 두어
+     * 경계 근처에서 추가와 제거를 반복해도 컨테이너가 매번 바뀌지 않도록 합니다.
+     */
+    private static final int ARRAY_SHRINK = ARRAY_MAX - 1024;
+
+    /**
+     * 상위 비트별 컨테이너. {@code null} (비어 있음), 정렬된 {@code char[]}, 또는 {@code long[]} 비트맵입니다.
+     */
+    private final @Nullable Object[] containers;
+    /**
+     * 상위 비트별 원소 개수. 배열 컨테이너의 유효 길이로도 사용됩니다.
+     */
+    private final int[] cardinalities;
+    private long cardinality;
+
+    /**
+     * 빈 인덱스를 생성합니다.
+     */
+    public KbrnBitmapIndex() {
+        this.containers = new Object[CHUNK_COUNT];
+        this.cardinalities = new int[CHUNK_COUNT];
+    }
+
+    /**
+     * 같은 원소를 가진 새 인덱스를 반환합니다.
+     *
+     * @return 복사된 인덱스
+     */
+    public KbrnBitmapIndex copy() {
+        KbrnBitmapIndex copy = new KbrnBitmapIndex();
+        for (int hi = 0; hi < CHUNK_COUNT; hi++) {
+            copy.containers[hi] = copyOf(containers[hi]);
+        }
+        System.arraycopy(cardinalities, 0, copy.cardinalities, 0, CHUNK_COUNT);
+        copy.cardinality = cardinality;
+        return copy;
+    }
+
+    /**
+     * 사업자등록번호를 추가합니다.
+     *
+     * @param kbrn 추가할 사업자등록번호
+     * @return 새로 추가되었으면 {@code true}, 이미 있었으면 {@code false}
+     */
+    public boolean add(KBRN kbrn) {
+        return addBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 추가합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 새로 추가되었으면 {@code true}, 이미 있었으면 {@code false}
+     * @throws IllegalArgumentException 값이 유효한 사업자등록번호가 아닌 경우
+     * @see KBRN#toLong()
+     */
+    public boolean add(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + value);
+        }
+        return addBody(body);
+    }
+
+    /**
+     * 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param kbrn 확인할 사업자등록번호
+     * @return 포함되어 있으면 {@code true}
+     */
+    public boolean contains(KBRN kbrn) {
+        return containsBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 포함되어 있으면 {@code true}, 값이 유효한 사업자등록번호가 아니면 {@code false}
+     * @see KBRN#toLong()
+     */
+    public boolean contains(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        return body >= 0 && containsBody(body);
+    }
+
+    /**
+     * 사업자등록번호를 제거합니다.
+     *
+     * @param kbrn 제거할 사업자등록번호
+     * @return 제거되었으면 {@code true}, 포함되어 있지 않았으면 {@code false}
+     */
+    public boolean remove(KBRN kbrn) {
+        return removeBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 제거합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 제거되었으면 {@code true}, 포함되어 있지 않았거나 값이 유효한 사업자등록번호가 아니면 {@code false}
+     * @see KBRN#toLong()
+     */
+    public boolean remove(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        return body >= 0 && removeBody(body);
+    }
+
+    /**
+     * 포함된 사업자등록번호의 개수를 반환합니다.
+     *
+     * @return 원소의 개수
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 포함된 사업자등록번호가 없는지 확인합니다.
+     *
+     * @return 원소가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * 이 인덱스를 주어진 인덱스와의 교집합으로 바꿉니다.
+     *
+     * @param other 교집합을 구할 인덱스
+     */
+    public void and(KbrnBitmapIndex other) {
+        for (int hi = 0; hi < CHUNK_COUNT; hi++) {
+            Object a = containers[hi];
+            Object b = other.containers[hi];
+            if (a == null) {
+                continue;
+            }
+            if (b == null) {
+                set(hi, null, 0);
+            } else if (a instanceof char[] && b instanceof char[]) {
+                char[] result = new char[Math.min(cardinalities[hi], other.cardinalities[hi])];
+                int n = intersect((char[]) a, cardinalities[hi], (char[]) b, other.cardinalities[hi], result);
+                set(hi, n == 0 ? null : result, n);
+            } else {
+                long[] result = toBitmap(a, cardinalities[hi]);
+                long[] mask = b instanceof long[] ? (long[]) b : toBitmap(b, other.cardinalities[hi]);
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= mask[i];
+                }
+                setBitmap(hi, result);
+            }
+        }
+    }
+
+    /**
+     * 이 인덱스를 주어진 인덱스와의 합집합으로 바꿉니다.
+     *
+     * @param other 합집합을 구할 인덱스
+     */
+    public void or(KbrnBitmapIndex other) {
+        for (int hi = 0; hi < CHUNK_COUNT; hi++) {
+            Object a = containers[hi];
+            Object b = other.containers[hi];
+            if (b == null) {
+                continue;
+            }
+            if (a == null) {
+                set(hi, copyOf(b), other.cardinalities[hi]);
+            } else if (a instanceof char[] && b instanceof char[]
+                && cardinalities[hi] + other.cardinalities[hi] <= ARRAY_MAX) {
+                char[] result = new char[cardinalities[hi] + other.cardinalities[hi]];
+                int n = union((char[]) a, cardinalities[hi], (char[]) b, other.cardinalities[hi], result);
+                set(hi, result, n);
+            } else {
+                long[] result = toBitmap(a, cardinalities[hi]);
+                long[] bits = b instanceof long[] ? (long[]) b : toBitmap(b, other.cardinalities[hi]);
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] |= bits[i];
+                }
+                setBitmap(hi, result);
+            }
+        }
+    }
+
+    /**
+     * 이 인덱스에서 주어진 인덱스에 포함된 원소를 제거합니다. (차집합)
+     *
+     * @param other 제거할 원소를 가진 인덱스
+     */
+    public void andNot(KbrnBitmapIndex other) {
+        for (int hi = 0; hi < CHUNK_COUNT; hi++) {
+            Object a = containers[hi];
+            Object b = other.containers[hi];
+            if (a == null || b == null) {
+                continue;
+            }
+            if (a instanceof char[]) {
+                char[] values = (char[]) a;
+                char[] result = new char[cardinalities[hi]];
+                int n = 0;
+                for (int i = 0; i < cardinalities[hi]; i++) {
+                    if (!containsLow(b, other.cardinalities[hi], values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+                set(hi, n == 0 ? null : result, n);
+            } else {
+                long[] result = ((long[]) a).clone();
+                long[] bits = b instanceof long[] ? (long[]) b : toBitmap(b, other.cardinalities[hi]);
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~bits[i];
+                }
+                setBitmap(hi, result);
+            }
+        }
+    }
+
+    /**
+     * 포함된 모든 사업자등록번호를 오름차순으로 순회하며, 10자리 숫자 값을 전달합니다.
+     *
+     * @param action 수행할 동작
+     * @see KBRN#fromLong(long)
+     */
+    public void forEach(LongConsumer action) {
+        for (int hi = 0; hi < CHUNK_COUNT; hi++) {
+            Object container = containers[hi];
+            int base = hi << 16;
+            if (container instanceof char[]) {
+                char[] values = (char[]) container;
+                for (int i = 0; i < cardinalities[hi]; i++) {
+                    action.accept(toLong(base | values[i]));
+                }
+            } else if (container instanceof long[]) {
+                long[] bits = (long[]) container;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    long word = bits[i];
+                    while (word != 0) {
+                        action.accept(toLong(base | (i << 6) | Long.numberOfTrailingZeros(word)));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 포함된 모든 사업자등록번호를 오름차순으로 정렬된 10자리 숫자 값의 배열로 반환합니다.
+     *
+     * @return 사업자등록번호 10자리 숫자 값의 배열
+     */
+    public long[] toLongArray() {
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for an array: " + cardinality);
+        }
+        long[] values = new long[(int) cardinality];
+        int[] n = { 0 };
+        forEach(value -> values[n[0]++] = value);
+        return values;
+    }
+
+    private boolean addBody(int body) {
+        int hi = body >>> 16;
+        char lo = (char) body;
+        Object container = containers[hi];
+        int card = cardinalities[hi];
+        if (container == null) {
+            set(hi, new char[] { lo, 0, 0, 0 }, 1);
+            return true;
+        }
+        if (container instanceof long[]) {
+            long[] bits = (long[]) container;
+            long bit = 1L << lo;
+            if ((bits[lo >>> 6] & bit) != 0) {
+                return false;
+            }
+            bits[lo >>> 6] |= bit;
+            cardinalities[hi]++;
+            cardinality++;
+            return true;
+        }
+        char[] values = (char[]) container;
+        int index = Arrays.binarySearch(values, 0, card, lo);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (card == ARRAY_MAX) {
+            long[] bits = toBitmap(values, card);
+            bits[lo >>> 6] |= 1L << lo;
+            set(hi, bits, card + 1);
+            return true;
+        }
+        if (card == values.length) {
+            values = Arrays.copyOf(values, Math.min(card << 1, ARRAY_MAX));
+        }
+        System.arraycopy(values, index, values, index + 1, card - index);
+        values[index] = lo;
+        set(hi, values, card + 1);
+        return true;
+    }
+
+    private boolean containsBody(int body) {
+        int hi = body >>> 16;
+        Object container = containers[hi];
+        return container != null && containsLow(container, cardinalities[hi], (char) body);
+    }
+
+    private boolean removeBody(int body) {
+        int hi = body >>> 16;
+        char lo = (char) body;
+        Object container = containers[hi];
+        int card = cardinalities[hi];
+        if (container == null || !containsLow(container, card, lo)) {
+            return false;
+        }
+        if (container instanceof long[]) {
+            long[] bits = (long[]) container;
+            bits[lo >>> 6] &= ~(1L << lo);
+            if (card - 1 < ARRAY_SHRINK) {
+                set(hi, toArray(bits, card - 1), card - 1);
+            } else {
+                set(hi, bits, card - 1);
+            }
+        } else {
+            char[] values = (char[]) container;
+            int index = Arrays.binarySearch(values, 0, card, lo);
+            System.arraycopy(values, index + 1, values, index, card - index - 1);
+            set(hi, card == 1 ? null : values, card - 1);
+        }
+        return true;
+    }
+
+    private void set(int hi, @Nullable Object container, int card) {
+        cardinality += card - cardinalities[hi];
+        containers[hi] = container;
+        cardinalities[hi] = card;
+    }
+
+    /**
+     * 비트맵의 원소 개수를 세어 저장하며, 원소가 적으면 배열 컨테이너로 바꿉니다.
+     */
+    private void setBitmap(int hi, long[] bits) {
+        int card = 0;
+        for (long word : bits) {
+            card += Long.bitCount(word);
+        }
+        if (card == 0) {
+            set(hi, null, 0);
+        } else if (card <= ARRAY_MAX) {
+            set(hi, toArray(bits, card), card);
+        } else {
+            set(hi, bits, card);
+        }
+    }
+
+    private static boolean containsLow(Object container, int card, char lo) {
+        if (container instanceof long[]) {
+            return (((long[]) container)[lo >>> 6] & (1L << lo)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, 0, card, lo) >= 0;
+    }
+
+    private static long[] toBitmap(Object container, int card) {
+        if (container instanceof long[]) {
+            return ((long[]) container).clone();
+        }
+        char[] values = (char[]) container;
+        long[] bits = new long[BITMAP_WORDS];
+        for (int i = 0; i < card; i++) {
+            bits[values[i] >>> 6] |= 1L << values[i];
+        }
+        return bits;
+    }
+
+    private static char[] toArray(long[] bits, int card) {
+        char[] values = new char[card];
+        int n = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                values[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    private static int intersect(char[] a, int aSize, char[] b, int bSize, char[] out) {
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private static int union(char[] a, int aSize, char[] b, int bSize, char[] out) {
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < aSize) {
+            out[n++] = a[i++];
+        }
+        while (j < bSize) {
+            out[n++] = b[j++];
+        }
+        return n;
+    }
+
+    private static @Nullable Object copyOf(@Nullable Object container) {
+        if (container instanceof char[]) {
+            return ((char[]) container).clone();
+        }
+        if (container instanceof long[]) {
+            return ((long[]) container).clone();
+        }
+        return null;
+    }
+
+    private static long toLong(int body) {
+        return body * 10L + KbrnScanner.checksumDigitOf(body);
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.realrains.kbrn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 한 줄에 하나씩 사업자등록번호가 기록된 파일을 대량으로 검증하는 클래스
+ * <p>
+ * 입력을 큰 바이트 단위로 읽고, 줄마다 문자열을 만들지 않고 ASCII 바이트 위에서 바로 기본 형식과 구분자 형식을
+ * 검증합니다. 검증 규칙은 {@link KbrnUtils#isValid(String)} 과 같으며, 줄 끝의 {@code "\r\n"} 과 {@code "\n"} 을
+ * 모두 줄바꿈으로 인식합니다. 빈 줄은 {@link ValidationResult#BAD_LENGTH} 로 보고됩니다.
+ * <p>
+ * 이 클래스는 상태를 갖지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnBulkValidator validator = new KbrnBulkValidator();
+ * KbrnBulkValidator.Summary summary = validator.validate(Paths.get("kbrn.csv"), (line, offset, value, result) -> {
+ *     if (!result.isValid()) {
+ *         System.out.println(line + ": " + result);
+ *     }
+ * });
+ * System.out.println(summary.invalidCount());
+ * }
+ * </pre>
+ */
+public class KbrnBulkValidator {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    /**
+     * 버퍼 경계에 걸친 줄을 보관할 크기. 이보다 긴 줄은 내용과 관계없이 길이가 올바르지 않습니다.
+     */
+    private static final int PENDING_CAPACITY = KbrnScanner.DELIMITED_LENGTH + 1;
+
+    private final int bufferSize;
+
+    /**
+     * 기본 버퍼 크기 (1 MiB) 로 검증하는 객체를 생성합니다.
+     */
+    public KbrnBulkValidator() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 지정한 버퍼 크기로 검증하는 객체를 생성합니다.
+     *
+     * @param bufferSize 한 번에 읽을 바이트 수
+     * @throws IllegalArgumentException {@code bufferSize} 가 양수가 아닌 경우
+     */
+    public KbrnBulkValidator(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 파일의 모든 줄을 검증합니다.
+     *
+     * @param path    검증할 파일 경로
+     * @param handler 줄마다 검증 결과를 전달받을 핸들러
+     * @return 검증 결과 요약
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public Summary validate(Path path, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return validate(channel, handler);
+        }
+    }
+
+    /**
+     * 채널에서 읽은 모든 줄을 검증합니다. 채널은 닫지 않습니다.
+     *
+     * @param channel 검증할 입력 채널
+     * @param handler 줄마다 검증 결과를 전달받을 핸들러
+     * @return 검증 결과 요약
+     * @throws IOException 채널을 읽을 수 없는 경우
+     */
+    public Summary validate(ReadableByteChannel channel, LineHandler handler) throws IOException {
+        byte[] bytes = new byte[bufferSize];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte[] pending = new byte[PENDING_CAPACITY];
+        int pendingLength = 0;
+        Summary summary = new Summary();
+        long position = 0;
+        long lineOffset = 0;
+
+        int read;
+        while ((read = channel.read(buffer)) >= 0) {
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+                if (pendingLength > 0) {
+                    pendingLength = append(pending, pendingLength, bytes, start, i);
+                    summary.accept(lineOffset, scanLine(pending, 0, pendingLength), handler);
+                    pendingLength = 0;
+                } else {
+                    summary.accept(lineOffset, scanLine(bytes, start, i - start), handler);
+                }
+                start = i + 1;
+                lineOffset = position + start;
+            }
+            pendingLength = append(pending, pendingLength, bytes, start, read);
+            position += read;
+            buffer.clear();
+        }
+        if (pendingLength > 0) {
+            summary.accept(lineOffset, scanLine(pending, 0, pendingLength), handler);
+        }
+        return summary;
+    }
+
+    /**
+     * 보관 중인 줄에 {@code bytes[from, to)} 를 이어 붙입니다. 보관 크기를 넘는 부분은 길이만 셉니다.
+     *
+     * @return 이어 붙인 뒤의 줄 길이
+     */
+    private static int append(byte[] pending, int pendingLength, byte[] bytes, int from, int to) {
+        int length = to - from;
+        if (pendingLength < PENDING_CAPACITY) {
+            System.arraycopy(bytes, from, pending, pendingLength, Math.min(length, PENDING_CAPACITY - pendingLength));
+        }
+        return (int) Math.min((long) pendingLength + length, Integer.MAX_VALUE);
+    }
+
+    private static long scanLine(byte[] bytes, int offset, int length) {
+        if (length > 0 && length <= PENDING_CAPACITY && bytes[offset + length - 1] == '\r') {
+            length--;
+        }
+        return KbrnScanner.scan(bytes, offset, length);
+    }
+
+    /**
+     * 줄마다 검증 결과를 전달받는 핸들러
+     */
+    @FunctionalInterface
+    public interface LineHandler {
+
+        /**
+         * 한 줄의 검증 결과를 전달받습니다.
+         *
+         * @param lineNumber 1 부터 시작하는 줄 번호
+         * @param offset     입력의 시작으로부터 줄이 시작되는 바이트 위치
+         * @param value      유효한 경우 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L}), 그렇지 않으면 {@code -1}
+         * @param result     검증 결과
+         * @see KBRN#fromLong(long)
+         */
+        void onLine(long lineNumber, long offset, long value, ValidationResult result);
+    }
+
+    /**
+     * 대량 검증 결과 요약
+     */
+    public static final class Summary {
+
+        private long lineCount;
+        private long validCount;
+
+        Summary() {
+        }
+
+        /**
+         * 검증한 줄의 개수를 반환합니다.
+         *
+         * @return 줄의 개수
+         */
+        public long lineCount() {
+            return lineCount;
+        }
+
+        /**
+         * 유효한 줄의 개수를 반환합니다.
+         *
+         * @return 유효한 줄의 개수
+         */
+        public long validCount() {
+            return validCount;
+        }
+
+        /**
+         * 유효하지 않은 줄의 개수를 반환합니다.
+         *
+         * @return 유효하지 않은 줄의 개수
+         */
+        public long invalidCount() {
+            return lineCount - validCount;
+        }
+
+        private void accept(long offset, long scanResult, LineHandler handler) {
+            lineCount++;
+            if (scanResult >= 0) {
+                validCount++;
+                handler.onLine(lineCount, offset, scanResult, ValidationResult.VALID);
+            } else {
+                handler.onLine(lineCount, offset, -1, ValidationResult.of(scanResult));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Summary{lines=" + lineCount + ", valid=" + validCount + ", invalid=" + invalidCount() + "}";
+        }
+    }
+}
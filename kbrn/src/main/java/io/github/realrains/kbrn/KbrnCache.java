@@ -0,0 +1,226 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 사업자등록번호에 대해 같은 KBRN 인스턴스를 돌려주는 크기 제한 캐시
+ * <p>
+ * 같은 번호가 반복해서 들어오는 입력에서 {@link KBRN#valueOf(String)} 대신 사용하면, 이미 캐시에 있는 번호는
+ * 새 객체를 만들지 않고 캐시된 인스턴스를 반환합니다. 캐시의 키는 검증번호를 제외한 앞 9자리 숫자 값이며,
+ * 문자열 입력은 할당 없이 한 번 순회하여 키를 구합니다.
+ * <p>
+ * 캐시는 8개의 슬롯을 한 묶음으로 하는 집합 연관 (set-associative) 구조이며, 묶음이 가득 차면
+ * CLOCK (second-chance) 방식으로 최근에 조회되지 않은 슬롯을 교체합니다. 모든 연산은 잠금 없이 동작하므로
+ * 여러 스레드에서 함께 사용할 수 있습니다. 다만 같은 번호가 여러 스레드에서 동시에 처음 요청되면 잠시 서로 다른
+ * 인스턴스가 반환될 수 있으므로, 인스턴스 비교 ({@code ==}) 대신 {@link KBRN#equals(Object)} 를 사용해야 합니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnCache cache = new KbrnCache(100_000);
+ * KBRN a = cache.valueOf("120-81-47521");
+ * KBRN b = cache.valueOf("1208147521");   // 캐시된 인스턴스
+ * println(cache.hitCount());              // 1
+ * }
+ * </pre>
+ */
+public final class KbrnCache {
+
+    private static final int WAYS = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<@Nullable KBRN> slots;
+    /**
+     * 슬롯별 최근 조회 여부. 정확할 필요가 없으므로 동기화 없이 읽고 씁니다.
+     */
+    private final byte[] referenced;
+    /**
+     * 묶음별 CLOCK 바늘 위치. 정확할 필요가 없으므로 동기화 없이 읽고 씁니다.
+     */
+    private final int[] hands;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 지정한 개수만큼의 사업자등록번호를 보관하는 캐시를 생성합니다.
+     * 실제 용량은 지정한 값 이상인 2의 거듭제곱 (최소 8) 으로 정해집니다.
+     *
+     * @param capacity 보관할 사업자등록번호의 개수
+     * @throws IllegalArgumentException {@code capacity} 가 양수가 아니거나 2^30 을 넘는 경우
+     */
+    public KbrnCache(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int slotCount = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.referenced = new byte[slotCount];
+        this.hands = new int[slotCount / WAYS];
+        this.setMask = slotCount / WAYS - 1;
+    }
+
+    /**
+     * 사업자등록번호 문자열에 해당하는 KBRN 객체를 반환합니다. 캐시에 있으면 캐시된 인스턴스를 반환합니다.
+     *
+     * @param value 사업자등록번호 문자열 (예: "1234567890" 또는 "123-45-67890")
+     * @return KBRN 객체
+     * @throws IllegalArgumentException 주어진 값이 유효한 형식이 아닌 경우
+     * @see KBRN#valueOf(String)
+     */
+    public KBRN valueOf(@Nullable String value) {
+        long result = value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+        if (result < 0) {
+            return KBRN.valueOf(value);
+        }
+        return get((int) (result / 10));
+    }
+
+    /**
+     * 10자리 숫자 값에 해당하는 KBRN 객체를 반환합니다. 캐시에 있으면 캐시된 인스턴스를 반환합니다.
+     *
+     * @param value 사업자등록번호 10자리를 숫자로 나타낸 값 (예: {@code 1208147521L})
+     * @return KBRN 객체
+     * @throws IllegalArgumentException 값이 10자리 범위를 벗어나거나 검증번호가 올바르지 않은 경우
+     * @see KBRN#fromLong(long)
+     */
+    public KBRN fromLong(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            return KBRN.fromLong(value);
+        }
+        return get(body);
+    }
+
+    /**
+     * 주어진 KBRN 과 같은 번호의 캐시된 인스턴스를 반환합니다. 캐시에 없으면 주어진 인스턴스를 캐시에 넣고 반환합니다.
+     * KBRN 을 상속한 클래스의 인스턴스는 캐시하지 않고 그대로 반환합니다.
+     *
+     * @param kbrn KBRN 객체
+     * @return 같은 번호의 캐시된 KBRN 객체
+     */
+    public KBRN intern(KBRN kbrn) {
+        if (kbrn.getClass() != KBRN.class) {
+            return kbrn;
+        }
+        int body = kbrn.packedBody();
+        KBRN cached = lookup(body);
+        if (cached != null) {
+            return cached;
+        }
+        store(body, kbrn);
+        return kbrn;
+    }
+
+    /**
+     * 캐시에 보관할 수 있는 사업자등록번호의 개수를 반환합니다.
+     *
+     * @return 캐시의 용량
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * 캐시된 인스턴스를 반환한 횟수를 반환합니다.
+     *
+     * @return 적중 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시에 없어 새 인스턴스를 만든 횟수를 반환합니다.
+     *
+     * @return 실패 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시가 가득 차 다른 번호를 내보낸 횟수를 반환합니다.
+     *
+     * @return 교체 횟수
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 캐시된 모든 인스턴스를 제거합니다. 카운터는 초기화하지 않습니다.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+            referenced[i] = 0;
+        }
+    }
+
+    private KBRN get(int body) {
+        KBRN cached = lookup(body);
+        if (cached != null) {
+            return cached;
+        }
+        KBRN kbrn = KBRN.ofPackedBody(body);
+        store(body, kbrn);
+        return kbrn;
+    }
+
+    private @Nullable KBRN lookup(int body) {
+        int base = setOf(body) * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            KBRN kbrn = slots.get(i);
+            if (kbrn != null && kbrn.packedBody() == body) {
+                if (referenced[i] == 0) {
+                    referenced[i] = 1;
+                }
+                hits.increment();
+                return kbrn;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 묶음의 빈 슬롯에 넣고, 빈 슬롯이 없으면 CLOCK 바늘을 돌려 최근에 조회되지 않은 슬롯을 교체합니다.
+     * 다른 스레드와 경쟁하여 실패하면 캐시하지 않습니다.
+     */
+    private void store(int body, KBRN kbrn) {
+        int set = setOf(body);
+        int base = set * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, kbrn)) {
+                return;
+            }
+        }
+        int hand = hands[set];
+        for (int step = 0; step < 2 * WAYS; step++, hand++) {
+            int i = base + (hand & (WAYS - 1));
+            if (referenced[i] != 0) {
+                referenced[i] = 0;
+                continue;
+            }
+            KBRN victim = slots.get(i);
+            if (slots.compareAndSet(i, victim, kbrn)) {
+                if (victim != null) {
+                    evictions.increment();
+                }
+                hand++;
+                break;
+            }
+        }
+        hands[set] = hand;
+    }
+
+    private int setOf(int body) {
+        int h = body * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & setMask;
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.realrains.kbrn;
+
+import java.util.Objects;
+
+import static io.github.realrains.kbrn.KbrnScanner.checksumDigitOfSum;
+import static io.github.realrains.kbrn.KbrnScanner.term;
+
+/**
+ * 사업자등록번호의 숫자를 하나씩 입력받으면서 검증번호 계산에 필요한 가중합을 누적하는 클래스
+ * <p>
+ * 키패드나 입력 폼에서 숫자가 입력될 때마다 {@link KbrnUtils#checksumOf(CharSequence)} 를 처음부터 다시 계산하는 대신,
+ * 입력된 숫자의 가중합을 상태로 유지하여 숫자 추가, 마지막 숫자 취소, 검증번호 조회를 모두 상수 시간에 처리합니다.
+ * 앞 9자리가 입력되면 {@link #expectedChecksum()} 으로 마지막 자리에 와야 할 검증번호를 바로 알 수 있습니다.
+ * <p>
+ * 바이트 배열이나 문자 배열의 구간을 이어서 입력할 수도 있으므로, 입력이 여러 버퍼에 나뉘어 들어오는 디코더 안에서
+ * 번호 전체를 모으지 않고 검증하는 데 사용할 수 있습니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+ * for (char c : "120814752".toCharArray()) {
+ *     accumulator.append(c - '0');
+ * }
+ * accumulator.expectedChecksum();  // 1
+ * accumulator.append(1);
+ * accumulator.isValid();           // true
+ * accumulator.undo();
+ * accumulator.length();            // 9
+ * }
+ * </pre>
+ *
+ * @see KbrnUtils#checksumOf(CharSequence)
+ */
+public class KbrnChecksumAccumulator {
+
+    private static final int BODY_LENGTH = KbrnScanner.PLAIN_LENGTH - 1;
+
+    /**
+     * 입력된 숫자의 개수 (0-10)
+     */
+    private int length;
+    /**
+     * 입력된 숫자를 이어 붙인 값 (예: "12081" -> 12081)
+     */
+    private long value;
+    /**
+     * 앞 9자리 중 입력된 숫자의 가중합
+     */
+    private int ws;
+
+    /**
+     * 숫자가 입력되지 않은 객체를 생성합니다.
+     */
+    public KbrnChecksumAccumulator() {
+    }
+
+    /**
+     * 숫자 하나를 입력합니다.
+     *
+     * @param digit 입력할 숫자 (0-9)
+     * @throws IllegalArgumentException {@code digit} 가 0-9 범위를 벗어난 경우
+     * @throws IllegalStateException    이미 10자리가 입력된 경우
+     */
+    public void append(int digit) {
+        if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("Digit must be between 0 and 9: " + digit);
+        }
+        if (length == KbrnScanner.PLAIN_LENGTH) {
+            throw new IllegalStateException("All " + KbrnScanner.PLAIN_LENGTH + " digits have already been appended");
+        }
+        ws += term(length, digit);
+        value = value * 10 + digit;
+        length++;
+    }
+
+    /**
+     * 바이트 배열의 {@code [offset, offset + length)} 구간을 ASCII 문자열로 보고, 앞에서부터 숫자를 차례로 입력합니다.
+     * 숫자가 아닌 바이트를 만나거나 10자리가 모두 입력되면 멈추고, 그때까지 입력한 바이트 수를 반환합니다.
+     * 반환값이 {@code length} 보다 작으면 {@code bytes[offset + 반환값]} 이 번호에 포함되지 않는 첫 바이트입니다.
+     *
+     * @param bytes  입력할 바이트 배열
+     * @param offset 시작 위치
+     * @param length 입력할 길이
+     * @return 입력한 바이트 수
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어난 경우
+     */
+    public int append(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int i = 0;
+        while (i < length && this.length < KbrnScanner.PLAIN_LENGTH) {
+            int d = bytes[offset + i] - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            ws += term(this.length, d);
+            value = value * 10 + d;
+            this.length++;
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간에서 앞에서부터 숫자를 차례로 입력합니다.
+     * 숫자가 아닌 문자를 만나거나 10자리가 모두 입력되면 멈추고, 그때까지 입력한 문자 수를 반환합니다.
+     *
+     * @param chars  입력할 문자 배열
+     * @param offset 시작 위치
+     * @param length 입력할 길이
+     * @return 입력한 문자 수
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어난 경우
+     * @see #append(byte[], int, int)
+     */
+    public int append(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        int i = 0;
+        while (i < length && this.length < KbrnScanner.PLAIN_LENGTH) {
+            int d = chars[offset + i] - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            ws += term(this.length, d);
+            value = value * 10 + d;
+            this.length++;
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 마지막으로 입력한 숫자를 취소합니다.
+     *
+     * @return 취소한 숫자 (0-9)
+     * @throws IllegalStateException 입력된 숫자가 없는 경우
+     */
+    public int undo() {
+        if (length == 0) {
+            throw new IllegalStateException("No digit to undo");
+        }
+        int digit = (int) (value % 10);
+        value /= 10;
+        length--;
+        ws -= term(length, digit);
+        return digit;
+    }
+
+    /**
+     * 입력된 숫자를 모두 지웁니다.
+     */
+    public void reset() {
+        length = 0;
+        value = 0;
+        ws = 0;
+    }
+
+    /**
+     * 입력된 숫자의 개수를 반환합니다.
+     *
+     * @return 입력된 숫자의 개수 (0-10)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 앞 9자리가 입력된 경우, 마지막 자리에 와야 할 검증번호를 반환합니다.
+     *
+     * @return 검증번호 (0-9)
+     * @throws IllegalStateException 입력된 숫자가 9자리보다 적은 경우
+     */
+    public int expectedChecksum() {
+        if (length < BODY_LENGTH) {
+            throw new IllegalStateException("Checksum requires " + BODY_LENGTH + " digits, but only " + length + " appended");
+        }
+        return checksumDigitOfSum(ws);
+    }
+
+    /**
+     * 10자리가 모두 입력되었고 마지막 자리가 검증번호와 일치하는지 확인합니다.
+     *
+     * @return 유효한 사업자등록번호가 입력되었으면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public boolean isValid() {
+        return length == KbrnScanner.PLAIN_LENGTH && value % 10 == expectedChecksum();
+    }
+
+    /**
+     * 입력된 숫자를 이어 붙인 숫자 값을 반환합니다. 10자리가 모두 입력되고 유효한 경우
+     * {@link KBRN#fromLong(long)} 으로 KBRN 객체를 만들 수 있습니다.
+     *
+     * @return 입력된 숫자를 이어 붙인 값 (예: "1208147521" -> {@code 1208147521L})
+     */
+    public long toLong() {
+        return value;
+    }
+}
@@ -0,0 +1,468 @@
+package io.github.realrains.kbrn;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * 사업자등록번호 목록을 정렬된 열 (column) 형식으로 압축하는 클래스
+ * <p>
+ * 열 저장소에 12 바이트 문자열로 저장하는 대신, 검증번호를 제외한 앞 9자리 숫자 값만 오름차순으로 블록 단위로 나누어
+ * 저장합니다. 검증번호는 앞 9자리로부터 다시 계산할 수 있으므로 저장하지 않습니다. 각 블록은 첫 값 (블록의 최솟값) 을
+ * 기준으로 이웃한 값의 차이를 블록 안에서 가장 큰 차이를 담을 수 있는 비트 수로 채워 넣으며 (delta + bit-packing),
+ * 블록 목차에 블록의 최솟값과 최댓값을 기록해 두어 조회와 구간 검색에서 해당하지 않는 블록은 풀지 않고 건너뜁니다.
+ * 번호가 조밀하게 모여 있을수록 차이가 작아지며, 전체 범위에 고르게 흩어진 100만 개의 번호도 원소당 2 바이트 이하로 줄어듭니다.
+ * <p>
+ * 형식 (모든 정수는 빅 엔디언):
+ * <pre>
+ * offset      size  내용
+ * 0           4     매직 넘버 "KBRC"
+ * 4           4     버전 (1)
+ * 8           4     원소 개수 (n)
+ * 12          4     블록 크기 (b)
+ * 16          12k   블록 목차 (k = ceil(n / b)): 블록별 최솟값 (int), 최댓값 (int), 블록 데이터 위치 (int)
+ * 16 + 12k    ...   블록 데이터: 비트 수 w (1 바이트), 이웃한 값의 차이 (블록의 원소 수 - 1) 개를 w 비트씩 하위 비트부터 채운 바이트
+ * </pre>
+ * 정렬되지 않은 목록은 {@link #encodeUnsorted(long[], int, int, int[])} 로 정렬하여 압축하며, 이때 정렬된 순서의 각 원소가
+ * 원래 몇 번째 원소였는지를 함께 반환하므로 같은 행의 다른 열과 연결할 수 있습니다.
+ * <p>
+ * 이 클래스는 상태를 갖지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnColumnCodec codec = new KbrnColumnCodec();
+ * byte[] column = codec.encode(new long[] { 1208147521L, 1208147536L, 2208162517L });
+ * codec.contains(column, 1208147536L);   // true
+ * long[] batch = new long[codec.size(column)];
+ * codec.decode(column, batch, 0);        // [1208147521, 1208147536, 2208162517]
+ * }
+ * </pre>
+ *
+ * @see KbrnIndexWriter
+ */
+public class KbrnColumnCodec {
+
+    static final int MAGIC = 0x4B425243; // "KBRC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int DIRECTORY_ENTRY_SIZE = 12;
+
+    private static final int DEFAULT_BLOCK_SIZE = 128;
+
+    private final int blockSize;
+
+    /**
+     * 기본 블록 크기 (128 개) 로 압축하는 객체를 생성합니다.
+     */
+    public KbrnColumnCodec() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 지정한 블록 크기로 압축하는 객체를 생성합니다. 블록이 작을수록 조회할 때 풀어야 하는 원소가 줄어들지만 목차가 커집니다.
+     * 압축을 풀 때는 열에 기록된 블록 크기를 사용하므로, 블록 크기와 관계없이 어떤 객체로도 풀 수 있습니다.
+     *
+     * @param blockSize 블록 하나에 담을 원소 개수
+     * @throws IllegalArgumentException {@code blockSize} 가 양수가 아닌 경우
+     */
+    public KbrnColumnCodec(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 오름차순으로 정렬된 사업자등록번호 목록을 압축합니다. 같은 번호가 여러 번 있어도 됩니다.
+     *
+     * @param values 사업자등록번호 10자리의 숫자 값 배열
+     * @return 압축된 열
+     * @throws IllegalArgumentException 유효한 사업자등록번호가 아닌 값이 있거나, 정렬되어 있지 않은 경우
+     */
+    public byte[] encode(long[] values) {
+        return encode(values, 0, values.length);
+    }
+
+    /**
+     * 오름차순으로 정렬된 사업자등록번호 배열의 {@code [offset, offset + length)} 구간을 압축합니다.
+     *
+     * @param values 사업자등록번호 10자리의 숫자 값 배열
+     * @param offset 시작 위치
+     * @param length 압축할 개수
+     * @return 압축된 열
+     * @throws IllegalArgumentException 유효한 사업자등록번호가 아닌 값이 있거나, 정렬되어 있지 않은 경우
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어난 경우
+     */
+    public byte[] encode(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        int[] bodies = new int[length];
+        for (int i = 0; i < length; i++) {
+            bodies[i] = bodyOf(values[offset + i]);
+            if (i > 0 && bodies[i - 1] > bodies[i]) {
+                throw new IllegalArgumentException("Values must be sorted in ascending order: "
+                    + values[offset + i - 1] + " > " + values[offset + i]);
+            }
+        }
+        return encodeBodies(bodies);
+    }
+
+    /**
+     * 정렬되지 않은 사업자등록번호 배열의 {@code [offset, offset + length)} 구간을 정렬하여 압축합니다.
+     * 정렬된 순서로 {@code i} 번째 원소가 구간의 몇 번째 원소였는지를 {@code permutation[i]} 에 기록합니다.
+     * 같은 번호는 원래 순서를 유지합니다. 입력 배열은 바뀌지 않습니다.
+     *
+     * @param values      사업자등록번호 10자리의 숫자 값 배열
+     * @param offset      시작 위치
+     * @param length      압축할 개수
+     * @param permutation 정렬된 순서의 원래 위치 (0 부터 {@code length - 1}) 를 기록할 배열
+     * @return 압축된 열
+     * @throws IllegalArgumentException 유효한 사업자등록번호가 아닌 값이 있는 경우
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나거나 {@code permutation} 이 {@code length} 보다 짧은 경우
+     */
+    public byte[] encodeUnsorted(long[] values, int offset, int length, int[] permutation) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        Objects.checkFromIndexSize(0, length, permutation.length);
+        long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = (long) bodyOf(values[offset + i]) << 32 | i;
+        }
+        Arrays.sort(keys);
+        int[] bodies = new int[length];
+        for (int i = 0; i < length; i++) {
+            bodies[i] = (int) (keys[i] >>> 32);
+            permutation[i] = (int) keys[i];
+        }
+        return encodeBodies(bodies);
+    }
+
+    /**
+     * 압축된 열에 담긴 원소의 개수를 반환합니다.
+     *
+     * @param column 압축된 열
+     * @return 원소의 개수
+     * @throws IllegalArgumentException {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     */
+    public int size(byte[] column) {
+        checkHeader(column);
+        return readInt(column, 8);
+    }
+
+    /**
+     * 압축된 열의 블록 개수를 반환합니다.
+     *
+     * @param column 압축된 열
+     * @return 블록의 개수
+     * @throws IllegalArgumentException {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     */
+    public int blockCount(byte[] column) {
+        checkHeader(column);
+        return blockCountOf(column);
+    }
+
+    /**
+     * 압축된 열 전체를 풀어 오름차순으로 배열에 기록합니다.
+     *
+     * @param column 압축된 열
+     * @param out    사업자등록번호 10자리의 숫자 값을 기록할 배열
+     * @param offset 기록을 시작할 위치
+     * @return 기록한 원소의 개수
+     * @throws IllegalArgumentException  {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     * @throws IndexOutOfBoundsException 배열에 기록할 공간이 없는 경우
+     */
+    public int decode(byte[] column, long[] out, int offset) {
+        checkHeader(column);
+        int size = readInt(column, 8);
+        Objects.checkFromIndexSize(offset, size, out.length);
+        int blocks = blockCountOf(column);
+        int written = 0;
+        for (int block = 0; block < blocks; block++) {
+            written += decodeBlock(column, block, out, offset + written);
+        }
+        return written;
+    }
+
+    /**
+     * 압축된 열의 블록 하나를 풀어 오름차순으로 배열에 기록합니다. 열 전체를 한 번에 풀 배열을 두지 않고
+     * 블록 크기만큼의 배열로 나누어 처리할 때 사용합니다.
+     *
+     * @param column 압축된 열
+     * @param block  풀 블록의 순번 (0 이상 {@link #blockCount(byte[])} 미만)
+     * @param out    사업자등록번호 10자리의 숫자 값을 기록할 배열
+     * @param offset 기록을 시작할 위치
+     * @return 기록한 원소의 개수
+     * @throws IllegalArgumentException  {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     * @throws IndexOutOfBoundsException {@code block} 이 범위를 벗어나거나 배열에 기록할 공간이 없는 경우
+     */
+    public int decodeBlock(byte[] column, int block, long[] out, int offset) {
+        checkHeader(column);
+        Objects.checkIndex(block, blockCountOf(column));
+        int count = blockLength(column, block);
+        Objects.checkFromIndexSize(offset, count, out.length);
+        new BlockReader(column, block).readInto(out, offset, count);
+        return count;
+    }
+
+    /**
+     * 사업자등록번호가 압축된 열에 포함되어 있는지 확인합니다. 블록 목차를 이진 탐색하여 번호가 들어 있을 수 있는
+     * 블록 하나만 풉니다.
+     *
+     * @param column 압축된 열
+     * @param value  사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 포함되어 있으면 {@code true}, 값이 유효한 사업자등록번호가 아니면 {@code false}
+     * @throws IllegalArgumentException {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     */
+    public boolean contains(byte[] column, long value) {
+        checkHeader(column);
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            return false;
+        }
+        int block = firstBlockWithMaxAtLeast(column, body);
+        if (block == blockCountOf(column) || minOf(column, block) > body) {
+            return false;
+        }
+        BlockReader reader = new BlockReader(column, block);
+        int count = blockLength(column, block);
+        for (int i = 0; i < count; i++) {
+            int current = reader.next();
+            if (current >= body) {
+                return current == body;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 압축된 열에서 10자리 숫자 값이 {@code [from, to)} 구간에 속하는 사업자등록번호를 오름차순으로 순회합니다.
+     * 최솟값과 최댓값이 구간과 겹치지 않는 블록은 풀지 않습니다.
+     *
+     * @param column 압축된 열
+     * @param from   구간의 시작 (포함)
+     * @param to     구간의 끝 (미포함)
+     * @param action 구간에 속하는 번호마다 수행할 동작
+     * @return 구간에 속하는 원소의 개수
+     * @throws IllegalArgumentException {@code column} 이 이 클래스로 압축한 열이 아닌 경우
+     */
+    public int forEachInRange(byte[] column, long from, long to, LongConsumer action) {
+        checkHeader(column);
+        if (from >= to || to <= 0 || from > KbrnScanner.MAX_VALUE) {
+            return 0;
+        }
+        // 앞 9자리가 같으면 10자리 값도 같으므로, 구간을 앞 9자리의 구간 [fromBody, toBody) 로 바꾸어 비교합니다.
+        int fromBody = bodyBound(from);
+        int toBody = bodyBound(to);
+        int blocks = blockCountOf(column);
+        int found = 0;
+        for (int block = firstBlockWithMaxAtLeast(column, fromBody); block < blocks; block++) {
+            if (minOf(column, block) >= toBody) {
+                break;
+            }
+            BlockReader reader = new BlockReader(column, block);
+            int count = blockLength(column, block);
+            for (int i = 0; i < count; i++) {
+                int body = reader.next();
+                if (body >= toBody) {
+                    return found;
+                }
+                if (body >= fromBody) {
+                    action.accept(valueOf(body));
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    private byte[] encodeBodies(int[] bodies) {
+        int size = bodies.length;
+        int blocks = (int) (((long) size + blockSize - 1) / blockSize);
+        int dataStart = HEADER_SIZE + blocks * DIRECTORY_ENTRY_SIZE;
+
+        int[] widths = new int[blocks];
+        long dataSize = 0;
+        for (int block = 0; block < blocks; block++) {
+            int from = block * blockSize;
+            int to = Math.min(size, from + blockSize);
+            int maxDelta = 0;
+            for (int i = from + 1; i < to; i++) {
+                maxDelta = Math.max(maxDelta, bodies[i] - bodies[i - 1]);
+            }
+            widths[block] = Integer.SIZE - Integer.numberOfLeadingZeros(maxDelta);
+            dataSize += 1 + ((long) (to - from - 1) * widths[block] + 7) / 8;
+        }
+        if (dataStart + dataSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many elements for a column: " + size);
+        }
+
+        byte[] column = new byte[(int) (dataStart + dataSize)];
+        writeInt(column, 0, MAGIC);
+        writeInt(column, 4, VERSION);
+        writeInt(column, 8, size);
+        writeInt(column, 12, blockSize);
+        int position = dataStart;
+        for (int block = 0; block < blocks; block++) {
+            int from = block * blockSize;
+            int to = Math.min(size, from + blockSize);
+            int entry = HEADER_SIZE + block * DIRECTORY_ENTRY_SIZE;
+            writeInt(column, entry, bodies[from]);
+            writeInt(column, entry + 4, bodies[to - 1]);
+            writeInt(column, entry + 8, position);
+
+            int width = widths[block];
+            column[position++] = (byte) width;
+            long bits = 0;
+            int pending = 0;
+            for (int i = from + 1; i < to; i++) {
+                bits |= (long) (bodies[i] - bodies[i - 1]) << pending;
+                pending += width;
+                while (pending >= 8) {
+                    column[position++] = (byte) bits;
+                    bits >>>= 8;
+                    pending -= 8;
+                }
+            }
+            if (pending > 0) {
+                column[position++] = (byte) bits;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * 블록 목차를 이진 탐색하여 최댓값이 {@code body} 이상인 첫 블록의 순번을 찾습니다.
+     *
+     * @return 블록의 순번, 그런 블록이 없으면 블록 개수
+     */
+    private int firstBlockWithMaxAtLeast(byte[] column, int body) {
+        int low = 0;
+        int high = blockCountOf(column);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (readInt(column, HEADER_SIZE + mid * DIRECTORY_ENTRY_SIZE + 4) < body) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int minOf(byte[] column, int block) {
+        return readInt(column, HEADER_SIZE + block * DIRECTORY_ENTRY_SIZE);
+    }
+
+    private static int blockCountOf(byte[] column) {
+        int size = readInt(column, 8);
+        int blockSize = readInt(column, 12);
+        return (int) (((long) size + blockSize - 1) / blockSize);
+    }
+
+    private static int blockLength(byte[] column, int block) {
+        int size = readInt(column, 8);
+        int blockSize = readInt(column, 12);
+        return Math.min(blockSize, size - block * blockSize);
+    }
+
+    /**
+     * 10자리 숫자 값 {@code value} 이상인 번호 중 가장 작은 번호의 앞 9자리 숫자 값을 반환합니다.
+     * 앞 9자리가 같은 번호는 하나뿐이므로, 앞 9자리 비교만으로 10자리 값의 구간 검색을 할 수 있습니다.
+     */
+    private static int bodyBound(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        if (value > KbrnScanner.MAX_VALUE) {
+            return (int) (KbrnScanner.MAX_VALUE / 10) + 1;
+        }
+        int body = (int) (value / 10);
+        return KbrnScanner.checksumDigitOf(body) >= value % 10 ? body : body + 1;
+    }
+
+    private static int bodyOf(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + value);
+        }
+        return body;
+    }
+
+    private static long valueOf(int body) {
+        return body * 10L + KbrnScanner.checksumDigitOf(body);
+    }
+
+    private static void checkHeader(byte[] column) {
+        if (column.length < HEADER_SIZE || readInt(column, 0) != MAGIC) {
+            throw new IllegalArgumentException("Not a KBRN column");
+        }
+        int version = readInt(column, 4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported KBRN column version: " + version);
+        }
+        int size = readInt(column, 8);
+        int blockSize = readInt(column, 12);
+        if (size < 0 || blockSize <= 0
+            || column.length < HEADER_SIZE + ((long) size + blockSize - 1) / blockSize * DIRECTORY_ENTRY_SIZE) {
+            throw new IllegalArgumentException("Corrupted KBRN column (size mismatch)");
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+            | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * 블록 하나의 앞 9자리 숫자 값을 첫 값부터 차례로 푸는 객체
+     */
+    private static final class BlockReader {
+
+        private final byte[] column;
+        private final int width;
+        private final long mask;
+        private int position;
+        private long bits;
+        private int available;
+        private int current;
+        private boolean started;
+
+        BlockReader(byte[] column, int block) {
+            int entry = HEADER_SIZE + block * DIRECTORY_ENTRY_SIZE;
+            this.column = column;
+            this.current = readInt(column, entry);
+            this.position = readInt(column, entry + 8);
+            this.width = column[position++];
+            this.mask = (1L << width) - 1;
+        }
+
+        /**
+         * 다음 값을 반환합니다. 처음 호출하면 블록의 첫 값 (최솟값) 을 반환합니다.
+         */
+        int next() {
+            if (!started) {
+                started = true;
+                return current;
+            }
+            while (available < width) {
+                bits |= (long) (column[position++] & 0xFF) << available;
+                available += 8;
+            }
+            current += (int) (bits & mask);
+            bits >>>= width;
+            available -= width;
+            return current;
+        }
+
+        void readInto(long[] out, int offset, int count) {
+            for (int i = 0; i < count; i++) {
+                out[offset + i] = valueOf(next());
+            }
+        }
+    }
+}
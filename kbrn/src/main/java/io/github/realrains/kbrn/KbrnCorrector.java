@@ -0,0 +1,191 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.LongPredicate;
+
+import static io.github.realrains.kbrn.KbrnScanner.checksumDigitOfSum;
+import static io.github.realrains.kbrn.KbrnScanner.term;
+
+/**
+ * 검증번호가 맞지 않는 사업자등록번호에 대해 사용자가 의도했을 번호를 제안하는 클래스
+ * <p>
+ * 숫자 하나를 잘못 입력한 경우 (치환) 와 이웃한 두 숫자의 순서를 바꿔 입력한 경우 (전치) 를 가정하고, 한 번의 수정으로
+ * 만들 수 있는 후보 중 검증번호가 맞는 번호만 제안합니다. 검증번호의 가중치 구조상 치환 후보는 항상 자리마다 하나씩
+ * 10개이고 전치 후보는 최대 9개이므로, 제안은 최대 {@link #MAX_SUGGESTIONS} 개입니다. 후보는 문자열을 만들지 않고
+ * 가중합을 자리별로 갱신하여 계산하므로, 입력 문자열을 한 번 읽는 것 외에는 후보 수에 비례하는 비용이 거의 없습니다.
+ * <p>
+ * 제안은 다음 순서로 점수를 매겨 정렬되며, 점수가 같으면 앞자리를 수정한 후보가 먼저 옵니다.
+ * <ol>
+ *     <li>알려진 번호 색인이 주어진 경우, 색인에 포함된 번호</li>
+ *     <li>전치로 만든 번호</li>
+ *     <li>숫자 키패드에서 이웃한 숫자로 치환한 번호 (예: {@code 5} 와 {@code 2}, {@code 4}, {@code 6}, {@code 8})</li>
+ *     <li>그 밖의 숫자로 치환한 번호</li>
+ * </ol>
+ * <p>
+ * 이 클래스는 상태를 갖지 않으므로, 주어진 색인이 스레드 안전하다면 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnCorrector corrector = new KbrnCorrector(knownSet::contains);
+ * long[] suggestions = new long[KbrnCorrector.MAX_SUGGESTIONS];
+ * int count = corrector.suggest("120-81-47512", suggestions);
+ * KBRN best = KBRN.fromLong(suggestions[0]); // 120-81-47521 (색인에 포함된 경우)
+ * }
+ * </pre>
+ *
+ * @see KbrnSet
+ * @see KbrnBitmapIndex
+ */
+public class KbrnCorrector {
+
+    /**
+     * 한 번에 제안될 수 있는 최대 후보 수 (치환 10개, 전치 9개)
+     */
+    public static final int MAX_SUGGESTIONS = 19;
+
+    private static final int KNOWN_SCORE = 4;
+    private static final int TRANSPOSITION_SCORE = 2;
+    private static final int NEIGHBOR_SCORE = 1;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    /**
+     * 숫자 키패드 (7 8 9 / 4 5 6 / 1 2 3 / 0) 에서 각 숫자와 상하좌우로 이웃한 숫자의 비트 집합
+     */
+    private static final int[] KEYPAD_NEIGHBORS = new int[10];
+
+    static {
+        int[] rows = { 3, 2, 2, 2, 1, 1, 1, 0, 0, 0 };
+        int[] cols = { 1, 0, 1, 2, 0, 1, 2, 0, 1, 2 };
+        for (int a = 0; a < 10; a++) {
+            for (int b = 0; b < 10; b++) {
+                if (Math.abs(rows[a] - rows[b]) + Math.abs(cols[a] - cols[b]) == 1) {
+                    KEYPAD_NEIGHBORS[a] |= 1 << b;
+                }
+            }
+        }
+    }
+
+    private final @Nullable LongPredicate index;
+
+    /**
+     * 알려진 번호 색인 없이 제안하는 객체를 생성합니다.
+     */
+    public KbrnCorrector() {
+        this.index = null;
+    }
+
+    /**
+     * 알려진 번호 색인에 포함된 후보를 먼저 제안하는 객체를 생성합니다.
+     * 색인은 사업자등록번호 10자리의 숫자 값으로 조회되며, {@code knownSet::contains} 와 같이 {@link KbrnSet} 이나
+     * {@link KbrnBitmapIndex} 를 그대로 사용할 수 있습니다.
+     *
+     * @param index 사업자등록번호 10자리의 숫자 값이 알려진 번호인지 확인하는 함수
+     */
+    public KbrnCorrector(LongPredicate index) {
+        this.index = index;
+    }
+
+    /**
+     * 검증번호가 맞지 않는 사업자등록번호에 대해 한 번의 치환 또는 전치로 만들 수 있는 유효한 번호를 점수가 높은 순서로
+     * 배열에 기록합니다. 배열이 후보 수보다 짧으면 점수가 높은 후보부터 배열의 길이만큼만 기록합니다.
+     * <p>
+     * 입력이 이미 유효하거나, 길이나 문자, 구분자가 올바르지 않아 검증번호를 확인할 수 없는 경우에는 아무것도 기록하지 않습니다.
+     *
+     * @param value       사업자등록번호 문자 시퀀스 (기본 형식 또는 구분자 형식)
+     * @param suggestions 제안할 번호의 10자리 숫자 값을 기록할 배열
+     * @return 기록한 후보의 개수
+     * @see KBRN#fromLong(long)
+     */
+    public int suggest(@Nullable CharSequence value, long[] suggestions) {
+        if (value == null || KbrnScanner.scan(value) != KbrnScanner.BAD_CHECKSUM) {
+            return 0;
+        }
+        long number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != KbrnScanner.DELIMITER) {
+                number = number * 10 + (c - '0');
+            }
+        }
+
+        int[] digits = new int[KbrnScanner.PLAIN_LENGTH];
+        long rest = number;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (int) (rest % 10);
+            rest /= 10;
+        }
+        int checksum = digits[9];
+        int ws = 0;
+        for (int i = 0; i < 9; i++) {
+            ws += term(i, digits[i]);
+        }
+
+        long[] values = new long[MAX_SUGGESTIONS];
+        int[] scores = new int[MAX_SUGGESTIONS];
+        int count = 0;
+
+        // 전치: 앞 9자리 안의 두 숫자를 바꾸면 검증번호는 그대로이고, 마지막 두 자리를 바꾸면 검증번호가 바뀝니다.
+        for (int i = 0; i < 9; i++) {
+            int a = digits[i];
+            int b = digits[i + 1];
+            if (a == b) {
+                continue;
+            }
+            boolean valid;
+            if (i < 8) {
+                valid = checksumDigitOfSum(ws - term(i, a) - term(i + 1, b) + term(i, b) + term(i + 1, a)) == checksum;
+            } else {
+                valid = checksumDigitOfSum(ws - term(8, a) + term(8, b)) == a;
+            }
+            if (valid) {
+                long candidate = number + (b - a) * POWERS_OF_TEN[9 - i] + (a - b) * POWERS_OF_TEN[8 - i];
+                count = insert(values, scores, count, candidate, TRANSPOSITION_SCORE);
+            }
+        }
+
+        // 치환: 앞 9자리는 자리마다 숫자와 가중합의 끝자리가 일대일로 대응하므로, 검증번호를 맞추는 숫자가 정확히 하나 있습니다.
+        for (int i = 0; i < 9; i++) {
+            int d = digits[i];
+            int base = ws - term(i, d);
+            for (int x = 0; x < 10; x++) {
+                if (x != d && checksumDigitOfSum(base + term(i, x)) == checksum) {
+                    count = insert(values, scores, count, number + (x - d) * POWERS_OF_TEN[9 - i], substitutionScore(d, x));
+                    break;
+                }
+            }
+        }
+        int expected = checksumDigitOfSum(ws);
+        count = insert(values, scores, count, number + expected - checksum, substitutionScore(checksum, expected));
+
+        int length = Math.min(count, suggestions.length);
+        System.arraycopy(values, 0, suggestions, 0, length);
+        return length;
+    }
+
+    /**
+     * 후보에 알려진 번호 점수를 더해 점수 내림차순을 유지하도록 삽입합니다. 점수가 같으면 먼저 삽입된 후보가 앞에 옵니다.
+     *
+     * @return 삽입한 뒤의 후보 개수
+     */
+    private int insert(long[] values, int[] scores, int count, long candidate, int score) {
+        if (index != null && index.test(candidate)) {
+            score += KNOWN_SCORE;
+        }
+        int i = count;
+        while (i > 0 && scores[i - 1] < score) {
+            values[i] = values[i - 1];
+            scores[i] = scores[i - 1];
+            i--;
+        }
+        values[i] = candidate;
+        scores[i] = score;
+        return count + 1;
+    }
+
+    private static int substitutionScore(int from, int to) {
+        return (KEYPAD_NEIGHBORS[from] & (1 << to)) != 0 ? NEIGHBOR_SCORE : 0;
+    }
+}
@@ -0,0 +1,249 @@
+package io.github.realrains.kbrn;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 자유 형식의 텍스트에서 사업자등록번호를 찾아내는 클래스
+ * <p>
+ * 송장, OCR 결과, 이메일 본문과 같은 텍스트를 문자 하나씩 한 번만 순회하면서, 작은 상태 기계로 숫자 묶음과 그 사이의
+ * 구분 문자를 추적합니다. 부분 문자열이나 정규식을 사용하지 않으며, 후보를 찾으면 그 자리에서 검증번호를 확인하여
+ * 유효한 번호의 위치와 10자리 숫자 값만 핸들러에 전달합니다. 다음 형태를 인식합니다.
+ * <ul>
+ *     <li>10자리 숫자 (예: {@code 1208147521})</li>
+ *     <li>3자리, 2자리, 5자리 숫자 묶음이 구분 문자로 이어진 형태 (예: {@code 120-81-47521}, {@code 120 81 47521},
+ *     {@code 120 – 81 – 47521})</li>
+ * </ul>
+ * 숫자는 ASCII 숫자와 전각 숫자 ({@code ０-９}) 를 모두 인식합니다. 숫자 묶음 사이에는 공백 ({@code ' '},
+ * {@code U+00A0}, {@code U+3000}) 과 대시 ({@code '-'}, {@code U+2010}-{@code U+2014}, {@code U+2212}, {@code U+FF0D})
+ * 로 이루어진 최대 3자의 구분 문자가 올 수 있으며, 대시는 한 번만 올 수 있습니다. 앞뒤에 숫자가 붙어 있는 경우
+ * (예: {@code 01208147521}) 에는 더 긴 숫자의 일부로 보고 인식하지 않습니다.
+ * <p>
+ * 이 클래스는 상태를 갖지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnExtractor extractor = new KbrnExtractor();
+ * String text = "공급자 등록번호: 120-81-47521, 공급받는자 2208162517";
+ * extractor.extract(text, (start, end, value) -> {
+ *     System.out.println(start + "-" + end + ": " + KBRN.fromLong(value));
+ * });
+ * // 10-22: KBRN{'120-81-47521'}
+ * // 30-40: KBRN{'220-81-62517'}
+ * }
+ * </pre>
+ *
+ * @see KbrnBulkValidator
+ */
+public class KbrnExtractor {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * 숫자 묶음 사이에 올 수 있는 구분 문자의 최대 길이 (예: {@code " - "})
+     */
+    private static final int MAX_GAP_LENGTH = 3;
+
+    private final int bufferSize;
+
+    /**
+     * 기본 버퍼 크기 (8192 자) 로 읽는 객체를 생성합니다.
+     */
+    public KbrnExtractor() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * {@link Reader} 에서 한 번에 지정한 개수의 문자를 읽는 객체를 생성합니다.
+     *
+     * @param bufferSize 한 번에 읽을 문자 수
+     * @throws IllegalArgumentException {@code bufferSize} 가 양수가 아닌 경우
+     */
+    public KbrnExtractor(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 문자 시퀀스에서 유효한 사업자등록번호를 모두 찾아 앞에서부터 순서대로 핸들러에 전달합니다.
+     *
+     * @param text    검색할 문자 시퀀스
+     * @param handler 찾은 번호마다 호출될 핸들러
+     * @return 찾은 번호의 개수
+     */
+    public long extract(CharSequence text, MatchHandler handler) {
+        Matcher matcher = new Matcher(handler);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            matcher.accept(text.charAt(i), i);
+        }
+        matcher.finish(length);
+        return matcher.count;
+    }
+
+    /**
+     * {@link Reader} 에서 읽은 텍스트에서 유효한 사업자등록번호를 모두 찾아 앞에서부터 순서대로 핸들러에 전달합니다.
+     * 텍스트 전체를 메모리에 올리지 않으며, 읽기를 마친 뒤 {@code reader} 를 닫지 않습니다.
+     *
+     * @param reader  검색할 텍스트를 읽을 {@link Reader}
+     * @param handler 찾은 번호마다 호출될 핸들러
+     * @return 찾은 번호의 개수
+     * @throws IOException 텍스트를 읽을 수 없는 경우
+     */
+    public long extract(Reader reader, MatchHandler handler) throws IOException {
+        Matcher matcher = new Matcher(handler);
+        char[] buffer = new char[bufferSize];
+        long position = 0;
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                matcher.accept(buffer[i], position + i);
+            }
+            position += read;
+        }
+        matcher.finish(position);
+        return matcher.count;
+    }
+
+    /**
+     * ASCII 숫자와 전각 숫자의 값을 반환합니다.
+     *
+     * @return 숫자의 값 (0-9), 숫자가 아니면 {@code -1}
+     */
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= '\uFF10' && c <= '\uFF19') {
+            return c - '\uFF10';
+        }
+        return -1;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\u3000';
+    }
+
+    private static boolean isDash(char c) {
+        return c == '-' || (c >= '\u2010' && c <= '\u2014') || c == '\u2212' || c == '\uFF0D';
+    }
+
+    /**
+     * 숫자 묶음 단위로 텍스트를 추적하는 상태 기계
+     * <p>
+     * 진행 중인 숫자 묶음과 바로 앞의 두 숫자 묶음의 길이, 값, 그리고 묶음 사이가 구분 문자로 이어져 있는지만 기억합니다.
+     * 숫자 묶음이 끝날 때마다 10자리 묶음이거나, 구분 문자로 이어진 3-2-5 자리 묶음이면 검증번호를 확인합니다.
+     */
+    private static final class Matcher {
+
+        private final MatchHandler handler;
+        private long count;
+
+        private long runStart;
+        private int runLength;
+        private long runValue;
+        /**
+         * 진행 중인 숫자 묶음이 바로 앞 묶음과 구분 문자로 이어져 있는지 여부
+         */
+        private boolean runLinked;
+
+        /**
+         * 마지막 숫자 묶음 이후의 문자가 아직 구분 문자로 볼 수 있는지 여부
+         */
+        private boolean gapOpen;
+        private int gapLength;
+        private boolean gapDash;
+
+        private long prevStart;
+        private int prevLength;
+        private long prevValue;
+        private boolean prevLinked;
+        private long prevPrevStart;
+        private int prevPrevLength;
+        private long prevPrevValue;
+
+        Matcher(MatchHandler handler) {
+            this.handler = handler;
+        }
+
+        void accept(char c, long offset) {
+            int d = digitOf(c);
+            if (d >= 0) {
+                if (runLength == 0) {
+                    runStart = offset;
+                    runLinked = gapOpen;
+                }
+                if (runLength < KbrnScanner.PLAIN_LENGTH) {
+                    runValue = runValue * 10 + d;
+                }
+                if (runLength < Integer.MAX_VALUE) {
+                    runLength++;
+                }
+                return;
+            }
+            if (runLength > 0) {
+                endRun(offset);
+            }
+            if (!gapOpen) {
+                return;
+            }
+            boolean dash = isDash(c);
+            if ((!dash && !isSpace(c)) || (dash && gapDash) || ++gapLength > MAX_GAP_LENGTH) {
+                gapOpen = false;
+            }
+            gapDash |= dash;
+        }
+
+        void finish(long end) {
+            if (runLength > 0) {
+                endRun(end);
+            }
+        }
+
+        private void endRun(long end) {
+            if (runLength == KbrnScanner.PLAIN_LENGTH) {
+                match(runStart, end, runValue);
+            } else if (runLength == 5 && runLinked && prevLength == 2 && prevLinked && prevPrevLength == 3) {
+                match(prevPrevStart, end, prevPrevValue * 10_000_000L + prevValue * 100_000L + runValue);
+            }
+            prevPrevStart = prevStart;
+            prevPrevLength = prevLength;
+            prevPrevValue = prevValue;
+            prevStart = runStart;
+            prevLength = runLength;
+            prevValue = runValue;
+            prevLinked = runLinked;
+
+            runLength = 0;
+            runValue = 0;
+            gapOpen = true;
+            gapLength = 0;
+            gapDash = false;
+        }
+
+        private void match(long start, long end, long value) {
+            if (KbrnScanner.bodyOf(value) >= 0) {
+                count++;
+                handler.onMatch(start, end, value);
+            }
+        }
+    }
+
+    /**
+     * 찾은 사업자등록번호를 전달받는 핸들러
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * 찾은 사업자등록번호 하나를 전달받습니다. 위치는 입력의 시작으로부터의 문자 ({@code char}) 단위입니다.
+         *
+         * @param start 번호가 시작되는 위치
+         * @param end   번호가 끝난 다음 위치
+         * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+         * @see KBRN#fromLong(long)
+         */
+        void onMatch(long start, long end, long value);
+    }
+}
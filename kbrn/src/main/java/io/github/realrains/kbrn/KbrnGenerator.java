@@ -0,0 +1,365 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * 부하 테스트 등에 사용할 유효한 사업자등록번호를 만들어 내는 클래스
+ * <p>
+ * 임의의 10자리 숫자를 만들어 검증하는 대신, 앞 9자리를 고른 뒤 검증번호를 계산하여 붙이므로 만들어 낸 번호는 모두
+ * 유효합니다. 앞 9자리마다 유효한 번호는 정확히 하나이므로, 조건에 맞는 번호 전체를 앞 9자리의 오름차순으로 번호를 매겨
+ * {@link #valueAt(long)} 으로 바로 조회할 수 있습니다. 사업자 유형 ({@link #entityTypes(BusinessEntityType...)}) 과
+ * 앞 3자리 일련번호 ({@link #serialPrefixes(String...)}) 로 만들어 낼 번호를 제한할 수 있습니다.
+ * <p>
+ * 번호는 다음 두 가지 방식으로 만들어 낼 수 있으며, 모두 10자리 숫자 값을 차례로 전달하는 {@link Spliterator.OfLong}
+ * 으로 제공됩니다. 순번 구간을 나누어 분할하므로 {@code StreamSupport.longStream(spliterator, true)} 로 여러 코어에서
+ * 나누어 만들어 낼 수 있으며, 병렬로 만들어도 순서와 값은 순차적으로 만든 결과와 같습니다.
+ * <ul>
+ *     <li>{@link #spliterator(long, long)} - 순번 구간의 번호를 오름차순으로 만듭니다.</li>
+ *     <li>{@link #randomSpliterator(long, long)} - 시드로부터 정해지는 무작위 번호를 지정한 개수만큼 만듭니다.</li>
+ * </ul>
+ * <p>
+ * 이 클래스는 불변 객체이므로 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnGenerator generator = new KbrnGenerator()
+ *     .entityTypes(BusinessEntityType.FOR_PROFIT_CORPORATE_HQ)
+ *     .serialPrefixes("120", "220");
+ * generator.size();      // 80000 (앞 3자리 2개 x 법인구분 코드 4개 x 일련번호 10000개)
+ * generator.valueAt(0);  // 1208100002L
+ *
+ * long[] values = StreamSupport.longStream(generator.randomSpliterator(1_000_000, 42L), true).toArray();
+ * }
+ * </pre>
+ *
+ * @see KbrnUtils#checksumOf(CharSequence)
+ */
+public class KbrnGenerator {
+
+    /**
+     * 앞 3자리와 법인구분 코드가 같은 번호의 개수 (뒤 4자리 일련번호)
+     */
+    private static final int SERIALS = 10_000;
+    private static final int[] ALL_PREFIXES = range(1000);
+    private static final int[] ALL_CODES = range(100);
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * 만들어 낼 앞 3자리 일련번호 (오름차순)
+     */
+    private final int[] prefixes;
+    /**
+     * 만들어 낼 법인구분 코드 (오름차순)
+     */
+    private final int[] codes;
+
+    /**
+     * 모든 사업자등록번호 (10억 개) 를 만들어 내는 객체를 생성합니다.
+     */
+    public KbrnGenerator() {
+        this(ALL_PREFIXES, ALL_CODES);
+    }
+
+    private KbrnGenerator(int[] prefixes, int[] codes) {
+        this.prefixes = prefixes;
+        this.codes = codes;
+    }
+
+    /**
+     * 지정한 사업자 유형의 번호만 만들어 내는 객체를 반환합니다. 이전에 지정한 사업자 유형 조건은 대체됩니다.
+     *
+     * @param types 만들어 낼 사업자 유형
+     * @return 사업자 유형 조건이 적용된 새 객체
+     * @throws IllegalArgumentException 사업자 유형이 하나도 주어지지 않은 경우
+     */
+    public KbrnGenerator entityTypes(BusinessEntityType... types) {
+        if (types.length == 0) {
+            throw new IllegalArgumentException("At least one business entity type must be given");
+        }
+        boolean[] selected = new boolean[ALL_CODES.length];
+        int count = 0;
+        for (int code : ALL_CODES) {
+            BusinessEntityType type = BusinessEntityType.of(code);
+            for (BusinessEntityType t : types) {
+                if (t == type) {
+                    selected[code] = true;
+                    count++;
+                    break;
+                }
+            }
+        }
+        return new KbrnGenerator(prefixes, select(selected, count));
+    }
+
+    /**
+     * 지정한 앞 3자리 일련번호 (예: {@code "120"}) 로 시작하는 번호만 만들어 내는 객체를 반환합니다.
+     * 이전에 지정한 앞 3자리 조건은 대체됩니다.
+     *
+     * @param serialPrefixes 3자리 숫자 문자열
+     * @return 앞 3자리 조건이 적용된 새 객체
+     * @throws IllegalArgumentException 값이 하나도 주어지지 않았거나, 3자리 숫자 문자열이 아닌 값이 있는 경우
+     * @see KBRN#serialPrefix()
+     */
+    public KbrnGenerator serialPrefixes(String... serialPrefixes) {
+        if (serialPrefixes.length == 0) {
+            throw new IllegalArgumentException("At least one serial prefix must be given");
+        }
+        boolean[] selected = new boolean[ALL_PREFIXES.length];
+        int count = 0;
+        for (String prefix : serialPrefixes) {
+            if (prefix.length() != 3 || !isDigit(prefix.charAt(0)) || !isDigit(prefix.charAt(1)) || !isDigit(prefix.charAt(2))) {
+                throw new IllegalArgumentException("Serial prefix must be 3 digits: " + prefix);
+            }
+            int value = Integer.parseInt(prefix);
+            if (!selected[value]) {
+                selected[value] = true;
+                count++;
+            }
+        }
+        return new KbrnGenerator(select(selected, count), codes);
+    }
+
+    /**
+     * 조건에 맞는 사업자등록번호의 개수를 반환합니다.
+     *
+     * @return 만들어 낼 수 있는 서로 다른 번호의 개수
+     */
+    public long size() {
+        return (long) prefixes.length * codes.length * SERIALS;
+    }
+
+    /**
+     * 조건에 맞는 사업자등록번호 중 오름차순으로 {@code index} 번째 번호를 반환합니다.
+     *
+     * @param index 0 이상 {@link #size()} 미만의 순번
+     * @return 사업자등록번호 10자리의 숫자 값
+     * @throws IndexOutOfBoundsException {@code index} 가 범위를 벗어난 경우
+     * @see KBRN#fromLong(long)
+     */
+    public long valueAt(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        return generate(index);
+    }
+
+    /**
+     * 조건에 맞는 사업자등록번호 전체를 오름차순으로 만드는 {@link Spliterator.OfLong} 을 반환합니다.
+     *
+     * @return 사업자등록번호 10자리의 숫자 값을 전달하는 {@link Spliterator.OfLong}
+     */
+    public Spliterator.OfLong spliterator() {
+        return spliterator(0, size());
+    }
+
+    /**
+     * 조건에 맞는 사업자등록번호 중 순번이 {@code [fromIndex, toIndex)} 구간인 번호를 오름차순으로 만드는
+     * {@link Spliterator.OfLong} 을 반환합니다. 여러 프로세스가 순번 구간을 나누어 서로 겹치지 않는 번호를 만들 때 사용할 수
+     * 있습니다.
+     *
+     * @param fromIndex 시작 순번 (포함)
+     * @param toIndex   끝 순번 (미포함)
+     * @return 사업자등록번호 10자리의 숫자 값을 전달하는 {@link Spliterator.OfLong}
+     * @throws IndexOutOfBoundsException 구간이 범위를 벗어난 경우
+     */
+    public Spliterator.OfLong spliterator(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size());
+        }
+        return new RangeSpliterator(fromIndex, toIndex);
+    }
+
+    /**
+     * 조건에 맞는 사업자등록번호 중 무작위 번호를 지정한 개수만큼 만드는 {@link Spliterator.OfLong} 을 반환합니다.
+     * {@code i} 번째 번호는 시드와 {@code i} 만으로 정해지므로, 같은 시드로 만들면 분할 방식과 관계없이 항상 같은 순서의
+     * 같은 번호를 얻습니다. 각 번호는 독립적으로 고르므로 같은 번호가 여러 번 나올 수 있습니다.
+     *
+     * @param count 만들 번호의 개수
+     * @param seed  시드
+     * @return 사업자등록번호 10자리의 숫자 값을 전달하는 {@link Spliterator.OfLong}
+     * @throws IllegalArgumentException {@code count} 가 음수인 경우
+     */
+    public Spliterator.OfLong randomSpliterator(long count, long seed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        return new RandomSpliterator(0, count, seed);
+    }
+
+    /**
+     * 순번에 해당하는 번호의 10자리 숫자 값을 계산합니다. 순번은 앞 3자리, 법인구분 코드, 뒤 4자리 일련번호 순서로 증가합니다.
+     */
+    private long generate(long index) {
+        int serial = (int) (index % SERIALS);
+        long group = index / SERIALS;
+        int code = codes[(int) (group % codes.length)];
+        int prefix = prefixes[(int) (group / codes.length)];
+        int body = prefix * 1_000_000 + code * SERIALS + serial;
+        int ws = KbrnScanner.PREFIX_SUMS[prefix] + KbrnScanner.CODE_SUMS[code] + KbrnScanner.SERIAL_SUMS[serial];
+        return body * 10L + KbrnScanner.checksumDigitOfSum(ws);
+    }
+
+    private static int[] range(int size) {
+        int[] values = new int[size];
+        Arrays.setAll(values, i -> i);
+        return values;
+    }
+
+    private static int[] select(boolean[] selected, int count) {
+        int[] values = new int[count];
+        for (int i = 0, j = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                values[j++] = i;
+            }
+        }
+        return values;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * {@link java.util.SplittableRandom} 과 같은 방식으로 64비트 값을 섞습니다.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 순번 구간의 번호를 오름차순으로 만드는 {@link Spliterator.OfLong}
+     * <p>
+     * 앞 3자리와 법인구분 코드가 같은 구간 안에서는 뒤 4자리 일련번호만 1씩 증가하므로, 구간이 바뀔 때만 순번으로부터 다시 계산합니다.
+     */
+    private final class RangeSpliterator implements Spliterator.OfLong {
+
+        private long index;
+        private final long end;
+
+        RangeSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(generate(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long i = index;
+            index = end;
+            while (i < end) {
+                int from = (int) (i % SERIALS);
+                int to = (int) Math.min(SERIALS, from + end - i);
+                long group = i / SERIALS;
+                int code = codes[(int) (group % codes.length)];
+                int prefix = prefixes[(int) (group / codes.length)];
+                long base = (prefix * 1_000_000L + code * SERIALS) * 10;
+                int head = KbrnScanner.PREFIX_SUMS[prefix] + KbrnScanner.CODE_SUMS[code];
+                for (int serial = from; serial < to; serial++) {
+                    action.accept(base + serial * 10L + KbrnScanner.checksumDigitOfSum(head + KbrnScanner.SERIAL_SUMS[serial]));
+                }
+                i += to - from;
+            }
+        }
+
+        @Override
+        public Spliterator.@Nullable OfLong trySplit() {
+            long mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new RangeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public @Nullable Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+
+    /**
+     * 시드와 순번으로부터 정해지는 무작위 번호를 만드는 {@link Spliterator.OfLong}
+     */
+    private final class RandomSpliterator implements Spliterator.OfLong {
+
+        private long index;
+        private final long end;
+        private final long seed;
+
+        RandomSpliterator(long index, long end, long seed) {
+            this.index = index;
+            this.end = end;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(next(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long i = index;
+            index = end;
+            for (; i < end; i++) {
+                action.accept(next(i));
+            }
+        }
+
+        private long next(long i) {
+            long random = mix(seed + (i + 1) * GOLDEN_GAMMA) >>> 1;
+            return generate(random % size());
+        }
+
+        @Override
+        public Spliterator.@Nullable OfLong trySplit() {
+            long mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new RandomSpliterator(index, mid, seed);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * 사업자등록번호의 앞 9자리 숫자 값을 키로 사용하는 오픈 어드레싱 해시 테이블
+ * <p>
+ * 키는 {@code int[]} 하나에 저장되며, 충돌은 선형 탐사로 해결합니다. 삭제 시에는 묘비 (tombstone) 를 남기지 않고
+ * 뒤따르는 키를 앞으로 당겨 탐사 구간을 유지합니다. 값을 함께 저장하는 하위 클래스는 슬롯 인덱스를 공유하는
+ * 병렬 배열을 두고, 재배치 시점에 호출되는 훅 메서드를 구현합니다.
+ *
+ * @see KbrnSet
+ * @see KbrnMap
+ * @see KbrnIntMap
+ */
+abstract class KbrnHashTable {
+
+    /**
+     * 빈 슬롯. 앞 9자리 숫자 값은 음수가 될 수 없습니다.
+     */
+    static final int EMPTY = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * 슬롯별 키. 하위 클래스의 값 배열과 인덱스를 공유합니다.
+     */
+    int[] keys;
+    private int mask;
+    private int size;
+    private int maxSize;
+
+    KbrnHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * 저장된 키의 개수를 반환합니다.
+     *
+     * @return 키의 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 키가 없는지 확인합니다.
+     *
+     * @return 키가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 저장된 모든 키를 제거합니다. 할당된 용량은 유지됩니다.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        clearValues();
+        size = 0;
+    }
+
+    /**
+     * 키가 저장된 슬롯을 찾습니다.
+     *
+     * @param body 앞 9자리 숫자 값
+     * @return 슬롯 인덱스, 키가 없으면 {@code -1}
+     */
+    final int indexOf(int body) {
+        int i = hash(body) & mask;
+        while (true) {
+            int key = keys[i];
+            if (key == body) {
+                return i;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 키를 찾고, 없으면 빈 슬롯에 추가합니다.
+     *
+     * @param body 앞 9자리 숫자 값
+     * @return 키가 이미 있으면 슬롯 인덱스, 새로 추가했으면 슬롯 인덱스의 비트 반전 값 ({@code ~index})
+     */
+    final int insert(int body) {
+        if (size >= maxSize) {
+            grow();
+        }
+        int i = hash(body) & mask;
+        while (true) {
+            int key = keys[i];
+            if (key == body) {
+                return i;
+            }
+            if (key == EMPTY) {
+                keys[i] = body;
+                size++;
+                return ~i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 슬롯의 키를 제거하고, 뒤따르는 키를 앞으로 당겨 탐사 구간이 끊기지 않도록 합니다.
+     *
+     * @param index 제거할 슬롯 인덱스
+     */
+    final void removeAt(int index) {
+        int gap = index;
+        int i = (gap + 1) & mask;
+        while (keys[i] != EMPTY) {
+            int home = hash(keys[i]) & mask;
+            // 원래 위치 (home) 에서 현재 위치 (i) 까지의 거리가 빈 슬롯 (gap) 까지의 거리 이상이면 당겨온다
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                moveValue(i, gap);
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        clearValue(gap);
+        size--;
+    }
+
+    /**
+     * 새 용량에 맞는 값 배열을 할당합니다. 상위 클래스 생성자에서도 호출되므로, 하위 클래스의 값 배열 필드에는
+     * 초기화 식을 두지 않아야 합니다.
+     *
+     * @param capacity 슬롯의 개수
+     */
+    void allocateValues(int capacity) {
+    }
+
+    /**
+     * 재배치 전의 값 배열을 반환합니다. 값을 저장하지 않으면 {@code null} 을 반환합니다.
+     */
+    @Nullable Object values() {
+        return null;
+    }
+
+    /**
+     * 재배치 전 값 배열의 값을 현재 값 배열로 복사합니다.
+     */
+    void copyValue(Object from, int fromIndex, int toIndex) {
+    }
+
+    /**
+     * 현재 값 배열 안에서 값을 옮깁니다.
+     */
+    void moveValue(int fromIndex, int toIndex) {
+    }
+
+    /**
+     * 슬롯의 값을 비웁니다.
+     */
+    void clearValue(int index) {
+    }
+
+    /**
+     * 모든 슬롯의 값을 비웁니다.
+     */
+    void clearValues() {
+    }
+
+    private void grow() {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Table is full: " + size);
+        }
+        int[] oldKeys = keys;
+        Object oldValues = values();
+        allocate(oldKeys.length << 1);
+        for (int from = 0; from < oldKeys.length; from++) {
+            int body = oldKeys[from];
+            if (body == EMPTY) {
+                continue;
+            }
+            int to = hash(body) & mask;
+            while (keys[to] != EMPTY) {
+                to = (to + 1) & mask;
+            }
+            keys[to] = body;
+            if (oldValues != null) {
+                copyValue(oldValues, from, to);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        maxSize = capacity == MAX_CAPACITY ? capacity - 1 : (int) (capacity * LOAD_FACTOR);
+        allocateValues(capacity);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < required && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(int body) {
+        int h = body * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
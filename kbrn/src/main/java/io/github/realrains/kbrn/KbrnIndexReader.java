@@ -0,0 +1,179 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+import static io.github.realrains.kbrn.KbrnIndexWriter.HEADER_SIZE;
+import static io.github.realrains.kbrn.KbrnIndexWriter.MAGIC;
+import static io.github.realrains.kbrn.KbrnIndexWriter.VERSION;
+
+/**
+ * {@link KbrnIndexWriter} 로 만든 사업자등록번호 인덱스 파일을 조회하는 클래스
+ * <p>
+ * 파일을 {@link FileChannel#map} 으로 메모리에 매핑하고, 정렬된 앞 9자리 숫자 값을 매핑된 페이지 위에서 바로
+ * 이진 탐색합니다. 역직렬화 과정이 없으므로 파일 크기와 관계없이 여는 비용은 헤더와 체크섬 검사뿐이며,
+ * 데이터는 Java 힙 밖에 머무릅니다.
+ * <p>
+ * 열린 이후에는 읽기 전용이며, 여러 스레드에서 동시에 조회할 수 있습니다.
+ * <p>
+ * 사용을 마치면 {@link #close()} 로 닫아야 합니다. Java 표준 API 에는 매핑을 즉시 해제하는 방법이 없으므로,
+ * 닫은 뒤에도 매핑은 가비지 컬렉션으로 회수될 때까지 남아 있으며 Windows 에서는 그때까지 파일을 지우거나 덮어쓸 수
+ * 없습니다. 닫은 객체는 매핑을 참조하지 않으므로, 객체를 오래 들고 있더라도 회수를 막지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * try (KbrnIndexReader blocklist = KbrnIndexReader.open(Paths.get("blocklist.kbrn"))) {
+ *     blocklist.contains(KBRN.valueOf("120-81-47521")); // true
+ * }
+ * }
+ * </pre>
+ *
+ * @see KbrnIndexWriter
+ */
+public class KbrnIndexReader implements Closeable {
+
+    /**
+     * 매핑된 파일. 닫으면 {@code null} 이 됩니다.
+     */
+    private volatile @Nullable ByteBuffer buffer;
+    private final int size;
+
+    private KbrnIndexReader(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * 인덱스 파일을 엽니다. 헤더와 본문의 CRC-32 를 검사합니다.
+     *
+     * @param path 인덱스 파일 경로
+     * @return 인덱스 파일을 조회하는 객체
+     * @throws IOException 파일을 읽을 수 없거나, 인덱스 파일 형식이 아니거나, 체크섬이 일치하지 않는 경우
+     */
+    public static KbrnIndexReader open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a KBRN index file: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a KBRN index file: " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported KBRN index file version " + version + ": " + path);
+        }
+        int size = buffer.getInt(8);
+        if (size < 0 || buffer.capacity() != HEADER_SIZE + (long) size * Integer.BYTES) {
+            throw new IOException("Corrupted KBRN index file (size mismatch): " + path);
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer body = buffer.duplicate();
+        body.position(HEADER_SIZE);
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(12)) {
+            throw new IOException("Corrupted KBRN index file (checksum mismatch): " + path);
+        }
+        return new KbrnIndexReader(buffer, size);
+    }
+
+    /**
+     * 인덱스에 포함된 사업자등록번호의 개수를 반환합니다.
+     *
+     * @return 원소의 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param kbrn 확인할 사업자등록번호
+     * @return 포함되어 있으면 {@code true}
+     * @throws IllegalStateException 이미 닫힌 경우
+     */
+    public boolean contains(KBRN kbrn) {
+        return containsBody(mapped(), kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 포함되어 있으면 {@code true}, 값이 유효한 사업자등록번호가 아니면 {@code false}
+     * @throws IllegalStateException 이미 닫힌 경우
+     * @see KBRN#toLong()
+     */
+    public boolean contains(long value) {
+        ByteBuffer buffer = mapped();
+        int body = KbrnScanner.bodyOf(value);
+        return body >= 0 && containsBody(buffer, body);
+    }
+
+    /**
+     * 포함된 모든 사업자등록번호를 오름차순으로 순회하며, 10자리 숫자 값을 전달합니다.
+     *
+     * @param action 수행할 동작
+     * @throws IllegalStateException 이미 닫힌 경우
+     * @see KBRN#fromLong(long)
+     */
+    public void forEach(LongConsumer action) {
+        ByteBuffer buffer = mapped();
+        for (int i = 0; i < size; i++) {
+            int body = bodyAt(buffer, i);
+            action.accept(body * 10L + KbrnScanner.checksumDigitOf(body));
+        }
+    }
+
+    /**
+     * 인덱스 파일을 닫습니다. 닫은 뒤에 조회하면 {@link IllegalStateException} 이 발생하며, 여러 번 닫아도 됩니다.
+     * 매핑은 이 객체가 더 이상 참조하지 않게 된 뒤 가비지 컬렉션으로 해제됩니다.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    private ByteBuffer mapped() {
+        ByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            throw new IllegalStateException("KBRN index file is closed");
+        }
+        return buffer;
+    }
+
+    private boolean containsBody(ByteBuffer buffer, int body) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = bodyAt(buffer, mid);
+            if (value < body) {
+                low = mid + 1;
+            } else if (value > body) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int bodyAt(ByteBuffer buffer, int index) {
+        return buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+}
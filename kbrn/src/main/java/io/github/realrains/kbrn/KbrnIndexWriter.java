@@ -0,0 +1,161 @@
+package io.github.realrains.kbrn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * 사업자등록번호 인덱스 파일을 만드는 클래스
+ * <p>
+ * 추가한 사업자등록번호를 앞 9자리 숫자 값으로 모아 두었다가, {@link #write(Path)} 시점에 정렬하고 중복을 제거하여
+ * {@link KbrnIndexReader} 가 메모리 매핑으로 바로 조회할 수 있는 형식으로 기록합니다.
+ * <p>
+ * 파일 형식 (모든 정수는 빅 엔디언):
+ * <pre>
+ * offset  size  내용
+ * 0       4     매직 넘버 "KBRN"
+ * 4       4     버전 (1)
+ * 8       4     원소 개수 (n)
+ * 12      4     본문의 CRC-32
+ * 16      4n    오름차순으로 정렬된 앞 9자리 숫자 값 (int)
+ * </pre>
+ * 검증번호는 앞 9자리로부터 계산되므로 저장하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnIndexWriter writer = new KbrnIndexWriter();
+ * writer.add(KBRN.valueOf("120-81-47521"));
+ * writer.add(2208162517L);
+ * writer.write(Paths.get("blocklist.kbrn"));
+ * }
+ * </pre>
+ *
+ * @see KbrnIndexReader
+ */
+public class KbrnIndexWriter {
+
+    static final int MAGIC = 0x4B42524E; // "KBRN"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    /**
+     * 하나의 매핑 버퍼로 다룰 수 있는 최대 원소 개수
+     */
+    static final int MAX_COUNT = (Integer.MAX_VALUE - HEADER_SIZE) / Integer.BYTES;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private int[] bodies = new int[1024];
+    private int size;
+
+    /**
+     * 사업자등록번호를 추가합니다.
+     *
+     * @param kbrn 추가할 사업자등록번호
+     */
+    public void add(KBRN kbrn) {
+        addBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 추가합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @throws IllegalArgumentException 값이 유효한 사업자등록번호가 아닌 경우
+     * @see KBRN#toLong()
+     */
+    public void add(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + value);
+        }
+        addBody(body);
+    }
+
+    /**
+     * 지금까지 추가한 사업자등록번호를 인덱스 파일로 기록합니다.
+     * <p>
+     * 같은 디렉터리의 임시 파일에 모두 기록하고 디스크에 반영 ({@link FileChannel#force(boolean)}) 한 뒤, 원자적 이동으로
+     * 기존 파일을 바꿉니다. 따라서 기록 도중 실패하거나 프로세스가 종료되어도 기존 파일은 그대로 남으며, 기존 파일을 열어 둔
+     * {@link KbrnIndexReader} 는 닫을 때까지 기존 내용으로 계속 조회합니다. 원자적 이동을 지원하지 않는 파일 시스템이거나,
+     * Windows 에서 기존 파일이 아직 매핑되어 있는 경우에는 예외가 발생하며 기존 파일은 바뀌지 않습니다.
+     *
+     * @param path 기록할 파일 경로
+     * @return 기록된 원소 개수 (중복 제외)
+     * @throws IOException 파일을 기록하거나 기존 파일을 바꿀 수 없는 경우
+     */
+    public int write(Path path) throws IOException {
+        Arrays.sort(bodies, 0, size);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (count == 0 || bodies[count - 1] != bodies[i]) {
+                bodies[count++] = bodies[i];
+            }
+        }
+        size = count;
+
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(bodies[i]);
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        buffer.flip();
+        crc.update(buffer);
+
+        Path target = path.toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + "."
+            + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                buffer.clear();
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt((int) crc.getValue());
+                for (int i = 0; i < count; i++) {
+                    if (!buffer.hasRemaining()) {
+                        writeFully(channel, buffer);
+                    }
+                    buffer.putInt(bodies[i]);
+                }
+                writeFully(channel, buffer);
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        return count;
+    }
+
+    private void addBody(int body) {
+        if (size == MAX_COUNT) {
+            throw new IllegalStateException("Too many elements for an index file: " + size);
+        }
+        if (size == bodies.length) {
+            bodies = Arrays.copyOf(bodies, (int) Math.min((long) size << 1, MAX_COUNT));
+        }
+        bodies[size++] = body;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
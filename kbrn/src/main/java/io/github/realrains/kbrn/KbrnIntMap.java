@@ -0,0 +1,171 @@
+package io.github.realrains.kbrn;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 사업자등록번호를 키로, {@code int} 를 값으로 사용하는 맵
+ * <p>
+ * 사업자별 건수 집계 등에 사용합니다. {@code HashMap<KBRN, Integer>} 과 달리 키와 값을 모두 원시 타입 배열
+ * ({@code int[]}) 에 오픈 어드레싱 방식으로 저장하므로, 엔트리마다 객체를 만들거나 박싱하지 않습니다.
+ * 연결된 값이 없는 키의 값은 {@code 0} 으로 간주합니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnIntMap counts = new KbrnIntMap();
+ * counts.increment(KBRN.valueOf("120-81-47521"));
+ * counts.addTo(KBRN.valueOf("1208147521"), 2);
+ * counts.get(KBRN.valueOf("120-81-47521")); // 3
+ * }
+ * </pre>
+ *
+ * @see KbrnSet
+ * @see KbrnMap
+ */
+public class KbrnIntMap extends KbrnHashTable {
+
+    private int[] values;
+
+    /**
+     * 빈 맵을 생성합니다.
+     */
+    public KbrnIntMap() {
+        this(0);
+    }
+
+    /**
+     * 지정한 개수의 엔트리를 재할당 없이 담을 수 있는 빈 맵을 생성합니다.
+     *
+     * @param expectedSize 예상 엔트리 개수
+     * @throws IllegalArgumentException {@code expectedSize} 가 음수인 경우
+     */
+    public KbrnIntMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * 사업자등록번호에 값을 연결합니다.
+     *
+     * @param key   사업자등록번호
+     * @param value 연결할 값
+     * @return 이전에 연결되어 있던 값, 없었으면 {@code 0}
+     */
+    public int put(KBRN key, int value) {
+        int index = insert(key.packedBody());
+        if (index < 0) {
+            values[~index] = value;
+            return 0;
+        }
+        int previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값을 반환합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 연결된 값, 없으면 {@code 0}
+     */
+    public int get(KBRN key) {
+        int index = indexOf(key.packedBody());
+        return index < 0 ? 0 : values[index];
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값에 {@code delta} 를 더합니다. 연결된 값이 없으면 {@code delta} 를 연결합니다.
+     *
+     * @param key   사업자등록번호
+     * @param delta 더할 값
+     * @return 더한 뒤의 값
+     */
+    public int addTo(KBRN key, int delta) {
+        int index = insert(key.packedBody());
+        if (index < 0) {
+            values[~index] = delta;
+            return delta;
+        }
+        return values[index] += delta;
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값을 1 증가시킵니다.
+     *
+     * @param key 사업자등록번호
+     * @return 증가시킨 뒤의 값
+     */
+    public int increment(KBRN key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값이 있는지 확인합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 연결된 값이 있으면 {@code true}
+     */
+    public boolean containsKey(KBRN key) {
+        return indexOf(key.packedBody()) >= 0;
+    }
+
+    /**
+     * 사업자등록번호와 연결된 값을 제거합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 제거된 값, 없었으면 {@code 0}
+     */
+    public int remove(KBRN key) {
+        int index = indexOf(key.packedBody());
+        if (index < 0) {
+            return 0;
+        }
+        int previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    /**
+     * 모든 엔트리에 대해 주어진 동작을 수행합니다. 순서는 보장되지 않으며, 엔트리마다 {@link KBRN} 객체가 생성됩니다.
+     *
+     * @param action 수행할 동작
+     */
+    public void forEach(ObjIntConsumer<? super KBRN> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(KBRN.ofPackedBody(keys[i]), values[i]);
+            }
+        }
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new int[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object from, int fromIndex, int toIndex) {
+        values[toIndex] = ((int[]) from)[fromIndex];
+    }
+
+    @Override
+    void moveValue(int fromIndex, int toIndex) {
+        values[toIndex] = values[fromIndex];
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = 0;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, 0);
+    }
+}
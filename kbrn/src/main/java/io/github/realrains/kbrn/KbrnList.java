@@ -0,0 +1,265 @@
+package io.github.realrains.kbrn;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 사업자등록번호 목록
+ * <p>
+ * {@code List<KBRN>} 과 달리 {@link KBRN} 객체나 문자열을 보관하지 않고, 검증번호를 제외한 앞 9자리 숫자 값만
+ * {@code int[]} 하나에 추가한 순서대로 저장합니다. 원소당 4 바이트만 사용하며, 문자 배열로부터 바로 추가하거나
+ * 바이트/문자 배열에 바로 기록할 수 있으므로 수천 ~ 수백만 건의 번호를 원소마다 객체를 만들지 않고 주고받을 때 적합합니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnList list = new KbrnList();
+ * list.add(KBRN.valueOf("120-81-47521"));
+ * list.add(2208162517L);
+ * list.get(0);      // KBRN{'120-81-47521'}
+ * list.getLong(1);  // 2208162517L
+ * }
+ * </pre>
+ *
+ * @see KbrnSet
+ */
+public class KbrnList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int[] EMPTY_BODIES = {};
+
+    private int[] bodies;
+    private int size;
+
+    /**
+     * 빈 목록을 생성합니다.
+     */
+    public KbrnList() {
+        this.bodies = EMPTY_BODIES;
+    }
+
+    /**
+     * 지정한 개수의 원소를 재할당 없이 담을 수 있는 빈 목록을 생성합니다.
+     *
+     * @param initialCapacity 초기 용량
+     * @throws IllegalArgumentException {@code initialCapacity} 가 음수인 경우
+     */
+    public KbrnList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+        this.bodies = initialCapacity == 0 ? EMPTY_BODIES : new int[initialCapacity];
+    }
+
+    /**
+     * 사업자등록번호를 목록 끝에 추가합니다.
+     *
+     * @param kbrn 추가할 사업자등록번호
+     */
+    public void add(KBRN kbrn) {
+        addBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 목록 끝에 추가합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @throws IllegalArgumentException 값이 유효한 사업자등록번호가 아닌 경우
+     * @see KBRN#toLong()
+     */
+    public void add(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + value);
+        }
+        addBody(body);
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간에 있는 사업자등록번호를 목록 끝에 추가합니다.
+     * 문자열이나 {@link KBRN} 객체를 만들지 않습니다.
+     *
+     * @param chars  사업자등록번호가 담긴 문자 배열 (기본 형식 또는 구분자 형식)
+     * @param offset 시작 위치
+     * @param length 사업자등록번호의 길이
+     * @throws IllegalArgumentException 구간의 값이 유효한 사업자등록번호가 아닌 경우
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어난 경우
+     */
+    public void add(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        long result = KbrnScanner.scan(chars, offset, length);
+        if (result < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + new String(chars, offset, length));
+        }
+        addBody((int) (result / 10));
+    }
+
+    /**
+     * 지정한 위치의 사업자등록번호를 반환합니다. 호출할 때마다 새 {@link KBRN} 객체가 생성됩니다.
+     *
+     * @param index 위치
+     * @return 사업자등록번호
+     * @throws IndexOutOfBoundsException {@code index} 가 범위를 벗어난 경우
+     */
+    public KBRN get(int index) {
+        return KBRN.ofPackedBody(bodies[Objects.checkIndex(index, size)]);
+    }
+
+    /**
+     * 지정한 위치의 사업자등록번호를 10자리 숫자 값으로 반환합니다.
+     *
+     * @param index 위치
+     * @return 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @throws IndexOutOfBoundsException {@code index} 가 범위를 벗어난 경우
+     * @see KBRN#fromLong(long)
+     */
+    public long getLong(int index) {
+        int body = bodies[Objects.checkIndex(index, size)];
+        return body * 10L + KbrnScanner.checksumDigitOf(body);
+    }
+
+    /**
+     * 지정한 위치의 사업자등록번호를 지정한 형식의 ASCII 바이트로 주어진 배열에 기록합니다.
+     *
+     * @param index  위치
+     * @param bytes  기록할 바이트 배열
+     * @param offset 기록을 시작할 위치
+     * @param format 기록할 형식
+     * @return 기록한 바이트 수 ({@link KbrnFormat#length()})
+     * @throws IndexOutOfBoundsException {@code index} 가 범위를 벗어나거나 배열에 기록할 공간이 없는 경우
+     * @see KBRN#writeTo(byte[], int, KbrnFormat)
+     */
+    public int writeTo(int index, byte[] bytes, int offset, KbrnFormat format) {
+        int body = bodies[Objects.checkIndex(index, size)];
+        Objects.checkFromIndexSize(offset, format.length(), bytes.length);
+        format.writeBody(body, bytes, offset);
+        return format.length();
+    }
+
+    /**
+     * 지정한 위치의 사업자등록번호를 지정한 형식의 문자로 주어진 배열에 기록합니다.
+     *
+     * @param index  위치
+     * @param chars  기록할 문자 배열
+     * @param offset 기록을 시작할 위치
+     * @param format 기록할 형식
+     * @return 기록한 문자 수 ({@link KbrnFormat#length()})
+     * @throws IndexOutOfBoundsException {@code index} 가 범위를 벗어나거나 배열에 기록할 공간이 없는 경우
+     * @see KBRN#writeTo(char[], int, KbrnFormat)
+     */
+    public int writeTo(int index, char[] chars, int offset, KbrnFormat format) {
+        int body = bodies[Objects.checkIndex(index, size)];
+        Objects.checkFromIndexSize(offset, format.length(), chars.length);
+        format.writeBody(body, chars, offset);
+        return format.length();
+    }
+
+    /**
+     * 저장된 사업자등록번호의 개수를 반환합니다.
+     *
+     * @return 원소의 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 사업자등록번호가 없는지 확인합니다.
+     *
+     * @return 원소가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 저장된 모든 사업자등록번호를 제거합니다. 할당된 용량은 유지됩니다.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 모든 원소를 추가한 순서대로 10자리 숫자 값의 배열로 반환합니다.
+     *
+     * @return 사업자등록번호 10자리 숫자 값의 배열
+     * @see KBRN#fromLong(long)
+     */
+    public long[] toLongArray() {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            int body = bodies[i];
+            values[i] = body * 10L + KbrnScanner.checksumDigitOf(body);
+        }
+        return values;
+    }
+
+    /**
+     * 모든 원소에 대해 추가한 순서대로 주어진 동작을 수행합니다. 원소마다 {@link KBRN} 객체가 생성됩니다.
+     *
+     * @param action 수행할 동작
+     */
+    public void forEach(Consumer<? super KBRN> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(KBRN.ofPackedBody(bodies[i]));
+        }
+    }
+
+    /**
+     * 같은 사업자등록번호를 같은 순서로 가진 목록인지 확인합니다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        KbrnList other = (KbrnList) o;
+        return Arrays.equals(bodies, 0, size, other.bodies, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + bodies[i];
+        }
+        return hash;
+    }
+
+    /**
+     * 모든 원소를 구분자 형식으로 나열한 문자열을 반환합니다. (예: {@code "KbrnList[120-81-47521, 220-81-62517]"})
+     */
+    @Override
+    public String toString() {
+        KbrnFormat format = KbrnFormat.DELIMITED;
+        char[] chars = new char[format.length()];
+        StringBuilder builder = new StringBuilder(10 + size * (format.length() + 2));
+        builder.append("KbrnList[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            format.writeBody(bodies[i], chars, 0);
+            builder.append(chars);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void addBody(int body) {
+        if (size == bodies.length) {
+            grow();
+        }
+        bodies[size++] = body;
+    }
+
+    private void grow() {
+        int capacity = bodies.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("KbrnList cannot grow beyond " + MAX_CAPACITY + " elements");
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, (long) capacity + (capacity >> 1)));
+        bodies = Arrays.copyOf(bodies, newCapacity);
+    }
+}
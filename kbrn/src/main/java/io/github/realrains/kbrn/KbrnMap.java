@@ -0,0 +1,159 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * 사업자등록번호를 키로 사용하는 맵
+ * <p>
+ * {@code HashMap<KBRN, V>} 과 달리 키로 {@link KBRN} 객체나 문자열, 엔트리 노드를 만들지 않고, 검증번호를 제외한
+ * 앞 9자리 숫자 값을 {@code int[]} 에, 값은 같은 인덱스의 {@code Object[]} 에 오픈 어드레싱 방식으로 저장합니다.
+ * 값으로 {@code null} 은 허용하지 않습니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * @param <V> 값의 타입
+ * @see KbrnSet
+ * @see KbrnIntMap
+ */
+public class KbrnMap<V> extends KbrnHashTable {
+
+    private @Nullable Object[] values;
+
+    /**
+     * 빈 맵을 생성합니다.
+     */
+    public KbrnMap() {
+        this(0);
+    }
+
+    /**
+     * 지정한 개수의 엔트리를 재할당 없이 담을 수 있는 빈 맵을 생성합니다.
+     *
+     * @param expectedSize 예상 엔트리 개수
+     * @throws IllegalArgumentException {@code expectedSize} 가 음수인 경우
+     */
+    public KbrnMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * 사업자등록번호에 값을 연결합니다.
+     *
+     * @param key   사업자등록번호
+     * @param value 연결할 값
+     * @return 이전에 연결되어 있던 값, 없었으면 {@code null}
+     */
+    public @Nullable V put(KBRN key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Value must not be null");
+        }
+        int index = insert(key.packedBody());
+        if (index < 0) {
+            values[~index] = value;
+            return null;
+        }
+        V previous = valueAt(index);
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값을 반환합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 연결된 값, 없으면 {@code null}
+     */
+    public @Nullable V get(KBRN key) {
+        int index = indexOf(key.packedBody());
+        return index < 0 ? null : valueAt(index);
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값을 반환합니다.
+     *
+     * @param key          사업자등록번호
+     * @param defaultValue 연결된 값이 없을 때 반환할 값
+     * @return 연결된 값, 없으면 {@code defaultValue}
+     */
+    public V getOrDefault(KBRN key, V defaultValue) {
+        int index = indexOf(key.packedBody());
+        return index < 0 ? defaultValue : valueAt(index);
+    }
+
+    /**
+     * 사업자등록번호에 연결된 값이 있는지 확인합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 연결된 값이 있으면 {@code true}
+     */
+    public boolean containsKey(KBRN key) {
+        return indexOf(key.packedBody()) >= 0;
+    }
+
+    /**
+     * 사업자등록번호와 연결된 값을 제거합니다.
+     *
+     * @param key 사업자등록번호
+     * @return 제거된 값, 없었으면 {@code null}
+     */
+    public @Nullable V remove(KBRN key) {
+        int index = indexOf(key.packedBody());
+        if (index < 0) {
+            return null;
+        }
+        V previous = valueAt(index);
+        removeAt(index);
+        return previous;
+    }
+
+    /**
+     * 모든 엔트리에 대해 주어진 동작을 수행합니다. 순서는 보장되지 않으며, 엔트리마다 {@link KBRN} 객체가 생성됩니다.
+     *
+     * @param action 수행할 동작
+     */
+    public void forEach(BiConsumer<? super KBRN, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(KBRN.ofPackedBody(keys[i]), valueAt(i));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void copyValue(Object from, int fromIndex, int toIndex) {
+        values[toIndex] = ((Object[]) from)[fromIndex];
+    }
+
+    @Override
+    void moveValue(int fromIndex, int toIndex) {
+        values[toIndex] = values[fromIndex];
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 기본 형식과 구분자 형식이 섞인 사업자등록번호를 한 가지 형식으로 대량 정규화하는 클래스
+ * <p>
+ * 원소마다 {@link KbrnUtils#toPlainFormat(String)} / {@link KbrnUtils#toDelimitedFormat(String)} 를 호출하는 것과 달리
+ * 예외를 던지지 않고, 원소마다 검증 결과를 {@link ValidationResult} 로 함께 반환합니다. 각 원소는 한 번만 순회하여
+ * 검증과 변환을 함께 수행하며, 유효한 원소만 정규화한 값을 기록합니다. 검증 규칙은 {@link KbrnUtils#isValid(CharSequence)}
+ * 와 같으므로 체크섬이 일치하지 않는 원소는 {@link ValidationResult#BAD_CHECKSUM} 으로 보고되고 기록되지 않습니다.
+ * {@code null} 원소는 {@link ValidationResult#BAD_LENGTH} 로 보고됩니다.
+ * <p>
+ * 이 클래스는 상태를 갖지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnNormalizer normalizer = new KbrnNormalizer(KbrnFormat.PLAIN);
+ * String[] values = { "120-81-47521", "2208162517", "120-81-47522" };
+ * String[] out = new String[values.length];
+ * ValidationResult[] results = new ValidationResult[values.length];
+ * int validCount = normalizer.normalize(values, out, results);
+ * // validCount = 2, out = ["1208147521", "2208162517", null], results = [VALID, VALID, BAD_CHECKSUM]
+ * }
+ * </pre>
+ *
+ * @see KbrnFormat
+ */
+public class KbrnNormalizer {
+
+    private final KbrnFormat format;
+
+    /**
+     * 지정한 형식으로 정규화하는 객체를 생성합니다.
+     *
+     * @param format 출력 형식
+     */
+    public KbrnNormalizer(KbrnFormat format) {
+        this.format = Objects.requireNonNull(format, "format");
+    }
+
+    /**
+     * 출력 형식을 반환합니다.
+     *
+     * @return 출력 형식
+     */
+    public KbrnFormat format() {
+        return format;
+    }
+
+    /**
+     * 원소마다 정규화한 문자열을 {@code out} 의 같은 위치에, 검증 결과를 {@code results} 의 같은 위치에 기록합니다.
+     * 유효하지 않은 원소의 위치에는 {@code null} 이 기록됩니다. 이미 출력 형식인 {@link String} 원소는 새 문자열을 만들지 않고
+     * 그대로 기록합니다.
+     *
+     * @param values  정규화할 값의 배열
+     * @param out     정규화한 문자열을 기록할 배열
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException {@code out} 이나 {@code results} 가 {@code values} 보다 짧은 경우
+     */
+    public int normalize(@Nullable CharSequence[] values, @Nullable String[] out, ValidationResult[] results) {
+        return normalize(Arrays.asList(values), out, results);
+    }
+
+    /**
+     * 원소마다 정규화한 문자열을 {@code out} 의 같은 위치에, 검증 결과를 {@code results} 의 같은 위치에 기록합니다.
+     *
+     * @param values  정규화할 값의 목록
+     * @param out     정규화한 문자열을 기록할 배열
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException {@code out} 이나 {@code results} 가 {@code values} 보다 짧은 경우
+     * @see #normalize(CharSequence[], String[], ValidationResult[])
+     */
+    public int normalize(List<? extends @Nullable CharSequence> values, @Nullable String[] out,
+                         ValidationResult[] results) {
+        int size = values.size();
+        Objects.checkFromIndexSize(0, size, out.length);
+        Objects.checkFromIndexSize(0, size, results.length);
+        int validCount = 0;
+        Iterator<? extends @Nullable CharSequence> iterator = values.iterator();
+        for (int i = 0; i < size; i++) {
+            CharSequence value = iterator.next();
+            long result = scan(value);
+            if (result >= 0) {
+                out[i] = toString(value, result);
+                results[i] = ValidationResult.VALID;
+                validCount++;
+            } else {
+                out[i] = null;
+                results[i] = ValidationResult.of(result);
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * 원소마다 정규화한 값을 ASCII 바이트로 {@code bytes} 에 고정 길이로 이어서 기록하고, 검증 결과를 {@code results} 의
+     * 같은 위치에 기록합니다. {@code i} 번째 원소는 {@code offset + i * format().length()} 부터 기록되며, 유효하지 않은
+     * 원소의 자리는 바뀌지 않습니다.
+     *
+     * @param values  정규화할 값의 배열
+     * @param bytes   정규화한 값을 기록할 바이트 배열
+     * @param offset  기록을 시작할 위치
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException 바이트 배열에 기록할 공간이 없거나 {@code results} 가 {@code values} 보다 짧은 경우
+     */
+    public int normalize(@Nullable CharSequence[] values, byte[] bytes, int offset, ValidationResult[] results) {
+        return normalize(Arrays.asList(values), bytes, offset, results);
+    }
+
+    /**
+     * 원소마다 정규화한 값을 ASCII 바이트로 {@code bytes} 에 고정 길이로 이어서 기록하고, 검증 결과를 {@code results} 의
+     * 같은 위치에 기록합니다.
+     *
+     * @param values  정규화할 값의 목록
+     * @param bytes   정규화한 값을 기록할 바이트 배열
+     * @param offset  기록을 시작할 위치
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException 바이트 배열에 기록할 공간이 없거나 {@code results} 가 {@code values} 보다 짧은 경우
+     * @see #normalize(CharSequence[], byte[], int, ValidationResult[])
+     */
+    public int normalize(List<? extends @Nullable CharSequence> values, byte[] bytes, int offset,
+                         ValidationResult[] results) {
+        int size = values.size();
+        checkFromIndexSize(offset, (long) size * format.length(), bytes.length);
+        Objects.checkFromIndexSize(0, size, results.length);
+        int validCount = 0;
+        Iterator<? extends @Nullable CharSequence> iterator = values.iterator();
+        for (int i = 0; i < size; i++, offset += format.length()) {
+            long result = scan(iterator.next());
+            if (result >= 0) {
+                format.write(result, bytes, offset);
+                validCount++;
+            }
+            results[i] = ValidationResult.of(result);
+        }
+        return validCount;
+    }
+
+    /**
+     * 원소마다 정규화한 값을 {@code chars} 에 고정 길이로 이어서 기록하고, 검증 결과를 {@code results} 의 같은 위치에
+     * 기록합니다. {@code i} 번째 원소는 {@code offset + i * format().length()} 부터 기록되며, 유효하지 않은 원소의 자리는
+     * 바뀌지 않습니다.
+     *
+     * @param values  정규화할 값의 배열
+     * @param chars   정규화한 값을 기록할 문자 배열
+     * @param offset  기록을 시작할 위치
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException 문자 배열에 기록할 공간이 없거나 {@code results} 가 {@code values} 보다 짧은 경우
+     */
+    public int normalize(@Nullable CharSequence[] values, char[] chars, int offset, ValidationResult[] results) {
+        return normalize(Arrays.asList(values), chars, offset, results);
+    }
+
+    /**
+     * 원소마다 정규화한 값을 {@code chars} 에 고정 길이로 이어서 기록하고, 검증 결과를 {@code results} 의 같은 위치에
+     * 기록합니다.
+     *
+     * @param values  정규화할 값의 목록
+     * @param chars   정규화한 값을 기록할 문자 배열
+     * @param offset  기록을 시작할 위치
+     * @param results 검증 결과를 기록할 배열
+     * @return 유효한 원소의 개수
+     * @throws IndexOutOfBoundsException 문자 배열에 기록할 공간이 없거나 {@code results} 가 {@code values} 보다 짧은 경우
+     * @see #normalize(CharSequence[], char[], int, ValidationResult[])
+     */
+    public int normalize(List<? extends @Nullable CharSequence> values, char[] chars, int offset,
+                         ValidationResult[] results) {
+        int size = values.size();
+        checkFromIndexSize(offset, (long) size * format.length(), chars.length);
+        Objects.checkFromIndexSize(0, size, results.length);
+        int validCount = 0;
+        Iterator<? extends @Nullable CharSequence> iterator = values.iterator();
+        for (int i = 0; i < size; i++, offset += format.length()) {
+            long result = scan(iterator.next());
+            if (result >= 0) {
+                format.write(result, chars, offset);
+                validCount++;
+            }
+            results[i] = ValidationResult.of(result);
+        }
+        return validCount;
+    }
+
+    /**
+     * 스트림의 모든 원소를 순서대로 정규화하여 핸들러에 전달합니다. 병렬 스트림이어도 핸들러는 원소 순서대로 한 번에
+     * 하나씩 호출됩니다.
+     *
+     * @param values  정규화할 값의 스트림
+     * @param handler 원소마다 정규화 결과를 전달받을 핸들러
+     * @return 유효한 원소의 개수
+     */
+    public long normalize(Stream<? extends @Nullable CharSequence> values, ElementHandler handler) {
+        long[] counts = new long[2];
+        values.forEachOrdered(value -> {
+            long index = counts[0]++;
+            long result = scan(value);
+            if (result >= 0) {
+                counts[1]++;
+                handler.onElement(index, toString(value, result), ValidationResult.VALID);
+            } else {
+                handler.onElement(index, null, ValidationResult.of(result));
+            }
+        });
+        return counts[1];
+    }
+
+    private String toString(CharSequence value, long number) {
+        if (value instanceof String && value.length() == format.length()) {
+            return (String) value;
+        }
+        char[] chars = new char[format.length()];
+        format.write(number, chars, 0);
+        return new String(chars);
+    }
+
+    private static long scan(@Nullable CharSequence value) {
+        return value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+    }
+
+    private static void checkFromIndexSize(int offset, long size, int length) {
+        if (offset < 0 || size > length - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + size
+                + ") out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * 원소마다 정규화 결과를 전달받는 핸들러
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        /**
+         * 한 원소의 정규화 결과를 전달받습니다.
+         *
+         * @param index  0 부터 시작하는 원소의 위치
+         * @param value  유효한 경우 정규화한 문자열, 그렇지 않으면 {@code null}
+         * @param result 검증 결과
+         */
+        void onElement(long index, @Nullable String value, ValidationResult result);
+    }
+}
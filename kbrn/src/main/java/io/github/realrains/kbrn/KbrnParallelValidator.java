@@ -0,0 +1,399 @@
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 한 줄에 하나씩 사업자등록번호가 기록된 파일을 여러 스레드로 나누어 검증하는 클래스
+ * <p>
+ * 파일을 줄바꿈 경계에 맞춘 구간으로 나누고, 각 구간을 메모리 매핑하여 {@link ForkJoinPool} 에서 병렬로 검증합니다.
+ * 줄의 구분과 검증 규칙은 {@link KbrnBulkValidator} 와 같습니다. 구간별 결과는 입력 순서대로 합쳐지므로
+ * 유효하지 않은 줄 번호는 오름차순이고, 정규화 출력 파일에는 유효한 줄만 입력 순서대로 기록됩니다.
+ * <p>
+ * 유효하지 않은 줄 번호는 모두 메모리에 보관되며, 정규화 출력을 요청한 경우 유효한 값도 줄마다 8바이트씩 보관됩니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnParallelValidator validator = new KbrnParallelValidator();
+ * KbrnParallelValidator.Report report = validator.validate(Paths.get("kbrn.csv"), Paths.get("kbrn.out"), KbrnFormat.DELIMITED);
+ * System.out.println(report.validCount());
+ * }
+ * </pre>
+ *
+ * @see KbrnBulkValidator
+ */
+public class KbrnParallelValidator {
+
+    private static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final int BOUNDARY_PROBE_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final long segmentSize;
+
+    /**
+     * 공용 {@link ForkJoinPool} 과 기본 구간 크기 (64 MiB) 로 검증하는 객체를 생성합니다.
+     */
+    public KbrnParallelValidator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * 지정한 {@link ForkJoinPool} 과 기본 구간 크기 (64 MiB) 로 검증하는 객체를 생성합니다.
+     *
+     * @param pool 검증을 수행할 풀
+     */
+    public KbrnParallelValidator(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * 지정한 {@link ForkJoinPool} 과 구간 크기로 검증하는 객체를 생성합니다.
+     * 각 구간은 지정한 크기 이후에 처음 나오는 줄바꿈에서 끝납니다.
+     *
+     * @param pool        검증을 수행할 풀
+     * @param segmentSize 한 구간의 목표 바이트 수
+     * @throws IllegalArgumentException {@code segmentSize} 가 양수가 아니거나 1 GiB 를 넘는 경우
+     */
+    public KbrnParallelValidator(ForkJoinPool pool, long segmentSize) {
+        if (segmentSize <= 0 || segmentSize > (1L << 30)) {
+            throw new IllegalArgumentException("Segment size must be between 1 and 2^30: " + segmentSize);
+        }
+        this.pool = pool;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * 파일의 모든 줄을 검증합니다.
+     *
+     * @param input 검증할 파일 경로
+     * @return 검증 결과
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public Report validate(Path input) throws IOException {
+        return validate(input, null, KbrnFormat.PLAIN);
+    }
+
+    /**
+     * 파일의 모든 줄을 검증하고, 유효한 줄을 지정한 형식으로 정규화하여 입력 순서대로 출력 파일에 기록합니다.
+     * 출력 파일의 각 줄은 {@code "\n"} 으로 끝나며, 이미 존재하는 파일은 덮어씁니다.
+     *
+     * @param input  검증할 파일 경로
+     * @param output 정규화한 값을 기록할 파일 경로, {@code null} 이면 기록하지 않음
+     * @param format 출력 형식
+     * @return 검증 결과
+     * @throws IOException 파일을 읽거나 쓸 수 없는 경우
+     */
+    public Report validate(Path input, @Nullable Path output, KbrnFormat format) throws IOException {
+        Segment[] segments;
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            segments = split(channel);
+            invoke(new ValidateTask(channel, segments, 0, segments.length, output != null));
+        }
+
+        long lineCount = 0;
+        long validCount = 0;
+        long invalidCount = 0;
+        for (Segment segment : segments) {
+            segment.firstLine = lineCount + 1;
+            segment.firstValid = validCount;
+            lineCount += segment.lineCount;
+            validCount += segment.validCount;
+            invalidCount += segment.invalidCount;
+        }
+        long[] invalidLines = new long[Math.toIntExact(invalidCount)];
+        int index = 0;
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.invalidCount; i++) {
+                invalidLines[index++] = segment.firstLine + segment.invalidLines[i];
+            }
+        }
+
+        if (output != null) {
+            try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                invoke(new WriteTask(channel, segments, 0, segments.length, format));
+            }
+        }
+        return new Report(lineCount, validCount, invalidLines);
+    }
+
+    private void invoke(RecursiveAction task) throws IOException {
+        try {
+            pool.invoke(task);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 파일을 줄바꿈 직후에서 시작하는 구간들로 나눕니다.
+     */
+    private Segment[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Segment> segments = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+        long start = 0;
+        while (start < size) {
+            long end = start + segmentSize < size ? nextLineStart(channel, start + segmentSize, probe) : size;
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line too long at offset " + start);
+            }
+            segments.add(new Segment(start, (int) (end - start)));
+            start = end;
+        }
+        return segments.toArray(new Segment[0]);
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        int read;
+        while (true) {
+            probe.clear();
+            read = channel.read(probe, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static void validate(FileChannel channel, Segment segment, boolean keepValues) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, segment.offset, segment.length);
+        int[] invalidLines = new int[16];
+        long[] values = keepValues ? new long[Math.max(16, segment.length / (KbrnScanner.PLAIN_LENGTH + 1))] : null;
+        int lineCount = 0;
+        int validCount = 0;
+        int invalidCount = 0;
+        int start = 0;
+        int length = segment.length;
+        for (int i = 0; i <= length; i++) {
+            if (i < length ? buffer.get(i) != '\n' : i == start) {
+                continue;
+            }
+            long result = scanLine(buffer, start, i - start);
+            if (result >= 0) {
+                if (values != null) {
+                    if (validCount == values.length) {
+                        values = Arrays.copyOf(values, values.length * 2);
+                    }
+                    values[validCount] = result;
+                }
+                validCount++;
+            } else {
+                if (invalidCount == invalidLines.length) {
+                    invalidLines = Arrays.copyOf(invalidLines, invalidLines.length * 2);
+                }
+                invalidLines[invalidCount++] = lineCount;
+            }
+            lineCount++;
+            start = i + 1;
+        }
+        segment.lineCount = lineCount;
+        segment.validCount = validCount;
+        segment.invalidCount = invalidCount;
+        segment.invalidLines = invalidLines;
+        segment.values = values;
+    }
+
+    private static long scanLine(ByteBuffer buffer, int offset, int length) {
+        if (length > 0 && buffer.get(offset + length - 1) == '\r') {
+            length--;
+        }
+        return KbrnScanner.scan(buffer, offset, length);
+    }
+
+    private static void write(FileChannel channel, Segment segment, KbrnFormat format) throws IOException {
+        if (segment.validCount == 0) {
+            return;
+        }
+        int width = format.length() + 1;
+        byte[] bytes = new byte[segment.validCount * width];
+        for (int i = 0; i < segment.validCount; i++) {
+            format.write(segment.values[i], bytes, i * width);
+            bytes[i * width + width - 1] = '\n';
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = segment.firstValid * width;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        segment.values = null;
+    }
+
+    /**
+     * 줄바꿈 경계에 맞춘 입력 구간과 그 검증 결과
+     */
+    private static final class Segment {
+
+        private final long offset;
+        private final int length;
+
+        private int lineCount;
+        private int validCount;
+        private int invalidCount;
+        /**
+         * 구간 안에서 0 부터 시작하는 유효하지 않은 줄의 순번
+         */
+        private int[] invalidLines = new int[0];
+        private long @Nullable [] values;
+
+        private long firstLine;
+        private long firstValid;
+
+        private Segment(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 구간 범위를 절반씩 나누어 처리하는 작업
+     */
+    private abstract static class SegmentTask extends RecursiveAction {
+
+        final FileChannel channel;
+        final Segment[] segments;
+        final int from;
+        final int to;
+
+        SegmentTask(FileChannel channel, Segment[] segments, int from, int to) {
+            this.channel = channel;
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected final void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(fork(from, mid), fork(mid, to));
+                return;
+            }
+            if (from < to) {
+                try {
+                    process(segments[from]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        abstract SegmentTask fork(int from, int to);
+
+        abstract void process(Segment segment) throws IOException;
+    }
+
+    private static final class ValidateTask extends SegmentTask {
+
+        private final boolean keepValues;
+
+        ValidateTask(FileChannel channel, Segment[] segments, int from, int to, boolean keepValues) {
+            super(channel, segments, from, to);
+            this.keepValues = keepValues;
+        }
+
+        @Override
+        SegmentTask fork(int from, int to) {
+            return new ValidateTask(channel, segments, from, to, keepValues);
+        }
+
+        @Override
+        void process(Segment segment) throws IOException {
+            validate(channel, segment, keepValues);
+        }
+    }
+
+    private static final class WriteTask extends SegmentTask {
+
+        private final KbrnFormat format;
+
+        WriteTask(FileChannel channel, Segment[] segments, int from, int to, KbrnFormat format) {
+            super(channel, segments, from, to);
+            this.format = format;
+        }
+
+        @Override
+        SegmentTask fork(int from, int to) {
+            return new WriteTask(channel, segments, from, to, format);
+        }
+
+        @Override
+        void process(Segment segment) throws IOException {
+            write(channel, segment, format);
+        }
+    }
+
+    /**
+     * 병렬 검증 결과
+     */
+    public static final class Report {
+
+        private final long lineCount;
+        private final long validCount;
+        private final long[] invalidLineNumbers;
+
+        Report(long lineCount, long validCount, long[] invalidLineNumbers) {
+            this.lineCount = lineCount;
+            this.validCount = validCount;
+            this.invalidLineNumbers = invalidLineNumbers;
+        }
+
+        /**
+         * 검증한 줄의 개수를 반환합니다.
+         *
+         * @return 줄의 개수
+         */
+        public long lineCount() {
+            return lineCount;
+        }
+
+        /**
+         * 유효한 줄의 개수를 반환합니다.
+         *
+         * @return 유효한 줄의 개수
+         */
+        public long validCount() {
+            return validCount;
+        }
+
+        /**
+         * 유효하지 않은 줄의 개수를 반환합니다.
+         *
+         * @return 유효하지 않은 줄의 개수
+         */
+        public long invalidCount() {
+            return lineCount - validCount;
+        }
+
+        /**
+         * 유효하지 않은 줄의 번호를 오름차순으로 반환합니다.
+         *
+         * @return 1 부터 시작하는 줄 번호 배열의 복사본
+         */
+        public long[] invalidLineNumbers() {
+            return invalidLineNumbers.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "Report{lines=" + lineCount + ", valid=" + validCount + ", invalid=" + invalidCount() + "}";
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.realrains.kbrn;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 사업자등록번호 문자열의 형식과 체크섬을 한 번의 순회로 검사하는 내부 스캐너
+ * <p>
+ * 정규식이나 중간 문자열을 사용하지 않으며, 검사 과정에서 객체를 할당하지 않습니다.
+ * 검사 결과는 {@code long} 값 하나로 반환됩니다. 0 이상인 값은 유효한 사업자등록번호의 10자리 숫자 값
+ * (예: {@code "120-81-47521"} -> {@code 1208147521L}) 이고, 음수인 값은 실패 사유를 나타냅니다.
+ *
+ * @see KbrnUtils
+ */
+final class KbrnScanner {
+
+    /**
+     * 길이가 기본 형식 (10자) 또는 구분자 형식 (12자) 이 아님
+     */
+    static final long BAD_LENGTH = -1;
+    /**
+     * 숫자가 와야 할 위치에 숫자가 아닌 문자가 있음
+     */
+    static final long BAD_CHAR = -2;
+    /**
+     * 구분자 형식에서 구분자가 와야 할 위치에 {@code '-'} 가 아닌 문자가 있음
+     */
+    static final long BAD_DELIMITER = -3;
+    /**
+     * 형식은 올바르지만 검증번호가 일치하지 않음
+     */
+    static final long BAD_CHECKSUM = -4;
+
+    static final int PLAIN_LENGTH = 10;
+    static final int DELIMITED_LENGTH = 12;
+    static final char DELIMITER = '-';
+    static final long MAX_VALUE = 9_999_999_999L;
+
+    private static final int[] CHECKSUM_WEIGHTS = { 1, 3, 7, 1, 3, 7, 1, 3, 5 };
+
+    /*
+     * 검증번호 계산에 쓰이는 가중합의 끝자리를 앞 3자리, 중간 2자리, 뒤 4자리별로 미리 계산해 둡니다.
+     * 세 값을 더한 끝자리로 검증번호를 바로 얻으므로, 숫자 값에서 검증번호를 계산할 때 자리마다 나누지 않습니다.
+     */
+    static final byte[] PREFIX_SUMS = new byte[1000];
+    static final byte[] CODE_SUMS = new byte[100];
+    static final byte[] SERIAL_SUMS = new byte[10_000];
+
+    static {
+        for (int prefix = 0; prefix < PREFIX_SUMS.length; prefix++) {
+            PREFIX_SUMS[prefix] = (byte) ((term(0, prefix / 100) + term(1, prefix / 10 % 10) + term(2, prefix % 10)) % 10);
+        }
+        for (int code = 0; code < CODE_SUMS.length; code++) {
+            CODE_SUMS[code] = (byte) ((term(3, code / 10) + term(4, code % 10)) % 10);
+        }
+        for (int serial = 0; serial < SERIAL_SUMS.length; serial++) {
+            SERIAL_SUMS[serial] = (byte) ((term(5, serial / 1000) + term(6, serial / 100 % 10)
+                + term(7, serial / 10 % 10) + term(8, serial % 10)) % 10);
+        }
+    }
+
+    private KbrnScanner() { throw new UnsupportedOperationException("Cannot be instantiated"); }
+
+    /**
+     * 주어진 문자 시퀀스를 검사합니다.
+     *
+     * @param value 검사할 문자 시퀀스
+     * @return 유효한 경우 10자리 숫자 값, 그렇지 않은 경우 실패 사유를 나타내는 음수
+     */
+    static long scan(CharSequence value) {
+        int length = value.length();
+        int delimiters = delimitersOf(length);
+        if (delimiters < 0) {
+            return BAD_LENGTH;
+        }
+        long number = 0;
+        for (int i = 0; i < length && number >= 0; i++) {
+            number = next(number, value.charAt(i), (delimiters >>> i & 1) != 0);
+        }
+        return checked(number);
+    }
+
+    /**
+     * 바이트 배열의 {@code [offset, offset + length)} 구간을 ASCII 문자열로 보고 검사합니다.
+     *
+     * @param bytes  검사할 바이트 배열
+     * @param offset 시작 위치
+     * @param length 검사할 길이
+     * @return 유효한 경우 10자리 숫자 값, 그렇지 않은 경우 실패 사유를 나타내는 음수
+     * @see #scan(CharSequence)
+     */
+    static long scan(byte[] bytes, int offset, int length) {
+        int delimiters = delimitersOf(length);
+        if (delimiters < 0) {
+            return BAD_LENGTH;
+        }
+        long number = 0;
+        for (int i = 0; i < length && number >= 0; i++) {
+            number = next(number, bytes[offset + i], (delimiters >>> i & 1) != 0);
+        }
+        return checked(number);
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간을 검사합니다.
+     *
+     * @param chars  검사할 문자 배열
+     * @param offset 시작 위치
+     * @param length 검사할 길이
+     * @return 유효한 경우 10자리 숫자 값, 그렇지 않은 경우 실패 사유를 나타내는 음수
+     * @see #scan(CharSequence)
+     */
+    static long scan(char[] chars, int offset, int length) {
+        int delimiters = delimitersOf(length);
+        if (delimiters < 0) {
+            return BAD_LENGTH;
+        }
+        long number = 0;
+        for (int i = 0; i < length && number >= 0; i++) {
+            number = next(number, chars[offset + i], (delimiters >>> i & 1) != 0);
+        }
+        return checked(number);
+    }
+
+    /**
+     * 바이트 버퍼의 {@code [offset, offset + length)} 구간을 ASCII 문자열로 보고 검사합니다.
+     * 버퍼의 위치 (position) 와 한계 (limit) 는 바뀌지 않습니다.
+     *
+     * @param buffer 검사할 바이트 버퍼
+     * @param offset 시작 위치 (절대 위치)
+     * @param length 검사할 길이
+     * @return 유효한 경우 10자리 숫자 값, 그렇지 않은 경우 실패 사유를 나타내는 음수
+     * @see #scan(CharSequence)
+     */
+    static long scan(ByteBuffer buffer, int offset, int length) {
+        int delimiters = delimitersOf(length);
+        if (delimiters < 0) {
+            return BAD_LENGTH;
+        }
+        long number = 0;
+        for (int i = 0; i < length && number >= 0; i++) {
+            number = next(number, buffer.get(offset + i), (delimiters >>> i & 1) != 0);
+        }
+        return checked(number);
+    }
+
+    /**
+     * 입력 길이에 따라 구분자가 와야 할 위치를 비트로 나타낸 값을 반환합니다.
+     *
+     * @param length 입력 길이
+     * @return 기본 형식은 {@code 0}, 구분자 형식은 3, 6 번째 비트가 켜진 값, 길이가 올바르지 않으면 {@code -1}
+     */
+    private static int delimitersOf(int length) {
+        if (length == PLAIN_LENGTH) {
+            return 0;
+        }
+        if (length == DELIMITED_LENGTH) {
+            return 1 << 3 | 1 << 6;
+        }
+        return -1;
+    }
+
+    /**
+     * 문자 하나를 읽어 지금까지 읽은 숫자 값에 이어 붙입니다.
+     *
+     * @param number    지금까지 읽은 숫자 값
+     * @param c         읽은 문자 (바이트는 부호 확장된 값)
+     * @param delimiter 구분자가 와야 할 위치인지 여부
+     * @return 이어 붙인 숫자 값, 구분자는 {@code number} 그대로, 올바르지 않은 문자이면 실패 사유를 나타내는 음수
+     */
+    private static long next(long number, int c, boolean delimiter) {
+        if (delimiter) {
+            return c == DELIMITER ? number : BAD_DELIMITER;
+        }
+        int d = c - '0';
+        return d < 0 || d > 9 ? BAD_CHAR : number * 10 + d;
+    }
+
+    /**
+     * 10자리 숫자 값의 검증번호를 확인합니다.
+     *
+     * @param number 10자리 숫자 값, 또는 실패 사유를 나타내는 음수
+     * @return 검증번호가 일치하면 {@code number}, 일치하지 않으면 {@link #BAD_CHECKSUM}, 음수이면 그대로
+     */
+    private static long checked(long number) {
+        if (number < 0) {
+            return number;
+        }
+        return checksumDigitOf((int) (number / 10)) == number % 10 ? number : BAD_CHECKSUM;
+    }
+
+    /**
+     * 사업자등록번호 앞 9자리 숫자 값에 대한 검증번호를 계산합니다.
+     *
+     * @param body 0 이상 999,999,999 이하의 앞 9자리 숫자 값 (예: {@code 120814752})
+     * @return 검증번호 (0-9)
+     */
+    static int checksumDigitOf(int body) {
+        return checksumDigitOfSum(PREFIX_SUMS[body / 1_000_000] + CODE_SUMS[body / 10_000 % 100]
+            + SERIAL_SUMS[body % 10_000]);
+    }
+
+    /**
+     * 가중합 (또는 가중합과 끝자리가 같은 값) 으로부터 검증번호를 계산합니다.
+     *
+     * @param ws 0 이상의 가중합
+     * @return 검증번호 (0-9)
+     */
+    static int checksumDigitOfSum(int ws) {
+        return (10 - ws % 10) % 10;
+    }
+
+    /**
+     * {@code index} 번째 자리의 숫자가 검증번호 계산에 쓰이는 가중합에 더하는 값을 반환합니다.
+     * 9번째 자리 (index 8) 는 가중치를 곱한 값에 {@code (digit * 5) / 10} 을 더하며, 검증번호 자리 (index 9) 와
+     * 그 이후는 더하지 않습니다. 이 값들의 합을 {@link #checksumDigitOfSum(int)} 에 전달하면 검증번호를 얻습니다.
+     *
+     * @param index 자리 (0 부터 시작)
+     * @param digit 숫자 (0-9)
+     * @return 가중합에 더하는 값
+     */
+    static int term(int index, int digit) {
+        if (index >= CHECKSUM_WEIGHTS.length) {
+            return 0;
+        }
+        int term = digit * CHECKSUM_WEIGHTS[index];
+        return index == CHECKSUM_WEIGHTS.length - 1 ? term + (digit * 5) / 10 : term;
+    }
+
+    /**
+     * 사업자등록번호 10자리의 숫자 값에서 앞 9자리 숫자 값을 추출합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 앞 9자리 숫자 값 (예: {@code 120814752}), 범위를 벗어나거나 검증번호가 일치하지 않으면 {@code -1}
+     */
+    static int bodyOf(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            return -1;
+        }
+        int body = (int) (value / 10);
+        return checksumDigitOf(body) == value % 10 ? body : -1;
+    }
+
+    /**
+     * 검사 결과가 올바른 형식을 의미하는지 확인합니다. 체크섬 불일치는 형식 오류로 보지 않습니다.
+     *
+     * @param result {@link #scan(CharSequence)} 의 반환값
+     * @return 형식이 올바르면 {@code true}
+     */
+    static boolean isWellFormed(long result) {
+        return result >= 0 || result == BAD_CHECKSUM;
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.realrains.kbrn;
+
+import java.util.function.Consumer;
+
+/**
+ * 사업자등록번호 집합
+ * <p>
+ * {@code HashSet<KBRN>} 과 달리 {@link KBRN} 객체나 문자열을 보관하지 않고, 검증번호를 제외한 앞 9자리 숫자 값만
+ * {@code int[]} 하나에 오픈 어드레싱 방식으로 저장합니다. 원소당 4 ~ 11 바이트 정도만 사용하므로 수백만 건의
+ * 차단 목록 등을 메모리에 올려 두고 조회할 때 적합합니다.
+ * <p>
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * <pre>
+ * {@code
+ * KbrnSet blocklist = new KbrnSet();
+ * blocklist.add(KBRN.valueOf("120-81-47521"));
+ * blocklist.contains(KBRN.valueOf("1208147521")); // true
+ * blocklist.contains(1208147521L);                // true
+ * }
+ * </pre>
+ *
+ * @see KbrnMap
+ * @see KbrnIntMap
+ */
+public class KbrnSet extends KbrnHashTable {
+
+    /**
+     * 빈 집합을 생성합니다.
+     */
+    public KbrnSet() {
+        this(0);
+    }
+
+    /**
+     * 지정한 개수의 원소를 재할당 없이 담을 수 있는 빈 집합을 생성합니다.
+     *
+     * @param expectedSize 예상 원소 개수
+     * @throws IllegalArgumentException {@code expectedSize} 가 음수인 경우
+     */
+    public KbrnSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * 사업자등록번호를 추가합니다.
+     *
+     * @param kbrn 추가할 사업자등록번호
+     * @return 새로 추가되었으면 {@code true}, 이미 있었으면 {@code false}
+     */
+    public boolean add(KBRN kbrn) {
+        return insert(kbrn.packedBody()) < 0;
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 추가합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 새로 추가되었으면 {@code true}, 이미 있었으면 {@code false}
+     * @throws IllegalArgumentException 값이 유효한 사업자등록번호가 아닌 경우
+     * @see KBRN#toLong()
+     */
+    public boolean add(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        if (body < 0) {
+            throw new IllegalArgumentException("Value must be a valid KBRN: " + value);
+        }
+        return insert(body) < 0;
+    }
+
+    /**
+     * 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param kbrn 확인할 사업자등록번호
+     * @return 포함되어 있으면 {@code true}
+     */
+    public boolean contains(KBRN kbrn) {
+        return indexOf(kbrn.packedBody()) >= 0;
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호가 포함되어 있는지 확인합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 포함되어 있으면 {@code true}, 값이 유효한 사업자등록번호가 아니면 {@code false}
+     * @see KBRN#toLong()
+     */
+    public boolean contains(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        return body >= 0 && indexOf(body) >= 0;
+    }
+
+    /**
+     * 사업자등록번호를 제거합니다.
+     *
+     * @param kbrn 제거할 사업자등록번호
+     * @return 제거되었으면 {@code true}, 포함되어 있지 않았으면 {@code false}
+     */
+    public boolean remove(KBRN kbrn) {
+        return removeBody(kbrn.packedBody());
+    }
+
+    /**
+     * 10자리 숫자 값으로 나타낸 사업자등록번호를 제거합니다.
+     *
+     * @param value 사업자등록번호 10자리의 숫자 값 (예: {@code 1208147521L})
+     * @return 제거되었으면 {@code true}, 포함되어 있지 않았으면 {@code false}
+     * @see KBRN#toLong()
+     */
+    public boolean remove(long value) {
+        int body = KbrnScanner.bodyOf(value);
+        return body >= 0 && removeBody(body);
+    }
+
+    /**
+     * 모든 원소를 10자리 숫자 값의 배열로 반환합니다. 순서는 보장되지 않습니다.
+     *
+     * @return 사업자등록번호 10자리 숫자 값의 배열
+     * @see KBRN#fromLong(long)
+     */
+    public long[] toLongArray() {
+        long[] values = new long[size()];
+        int n = 0;
+        for (int body : keys) {
+            if (body != EMPTY) {
+                values[n++] = body * 10L + KbrnScanner.checksumDigitOf(body);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 모든 원소에 대해 주어진 동작을 수행합니다. 순서는 보장되지 않으며, 원소마다 {@link KBRN} 객체가 생성됩니다.
+     *
+     * @param action 수행할 동작
+     */
+    public void forEach(Consumer<? super KBRN> action) {
+        for (int body : keys) {
+            if (body != EMPTY) {
+                action.accept(KBRN.ofPackedBody(body));
+            }
+        }
+    }
+
+    private boolean removeBody(int body) {
+        int index = indexOf(body);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+}
@@ -1,143 +1,302 @@
-package io.github.realrains.kbrn;
-
-import org.jspecify.annotations.Nullable;
-
-import java.util.regex.Pattern;
-
-/**
- * 사업자등록번호 문자열을 검증하고 변환하는 유틸리티 클래스
- */
-public class KbrnUtils {
-
-    private static final Pattern PLAIN_KBRN_PATTERN = Pattern.compile("^\\d{10}$");
-    private static final Pattern DELIMITED_KBRN_PATTERN = Pattern.compile("^\\d{3}-\\d{2}-\\d{5}$");
-    private static final char[] CHECKSUM_WEIGHTS = { 1, 3, 7, 1, 3, 7, 1, 3, 5 };
-
-    private KbrnUtils() { throw new UnsupportedOperationException("Cannot be instantiated"); }
-
-    /**
-     * 주어진 값이 유효한 사업자등록번호인지 검증합니다.<br/>
-     * 이 메서드는 기본 형식과 구분자로 분리된 형식을 모두 지원하며, 체크섬도 검증합니다.
-     *
-     * @param value 검증할 값
-     * @return 값이 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
-     */
-    public static boolean isValid(@Nullable String value) {
-        return isValidFormat(value) && hasValidChecksum(value);
-    }
-
-    /**
-     * 주어진 값이 유효한 사업자등록번호 형식인지 검증합니다.<br/>
-     * 이 메서드는 기본 형식과 구분자로 분리된 형식을 모두 지원합니다.
-     *
-     * @param value 검증할 값
-     * @return 값이 유효한 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
-     */
-    public static boolean isValidFormat(@Nullable String value) {
-        return isValidPlainFormat(value) || isValidDelimitedFormat(value);
-    }
-
-    /**
-     * 주어진 값이 기본 사업자등록번호 형식을 만족하는지 검증합니다. (예: {@code "1208147521"})
-     *
-     * @param value 검증할 값
-     * @return 값이 기본 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
-     * @see #PLAIN_KBRN_PATTERN
-     */
-    public static boolean isValidPlainFormat(@Nullable String value) {
-        if (value == null) return false;
-        return PLAIN_KBRN_PATTERN.matcher(value).matches();
-    }
-
-    /**
-     * 주어진 값이 구분자로 분리된 사업자등록번호 형식을 만족하는지 검증합니다. (예: {@code "120-81-47521"})
-     *
-     * @param value 검증할 값
-     * @return 값이 구분자로 분리된 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
-     * @see #DELIMITED_KBRN_PATTERN
-     */
-    public static boolean isValidDelimitedFormat(@Nullable String value) {
-        if (value == null) return false;
-        return DELIMITED_KBRN_PATTERN.matcher(value).matches();
-    }
-
-    /**
-     * 사업자등록번호 문자열을 기본 형식에서 구분자로 분리된 형식으로 변환합니다.<br/>
-     * 이 메서드는 멱등하게 동작합니다.
-     *
-     * @param value 숫자로 구성된 10자리 형식의 사업자등록번호 문자열 (예: {@code "1208147521"})
-     * @return 구분자로 구분된 형식의 사업자등록번호 문자열 (예: {@code "120-81-47521"})
-     * @throws IllegalArgumentException {@code value} 가 숫자로 구성된 10자리 형식의 사업자등록번호 문자열이 아닌 경우
-     * @see #DELIMITED_KBRN_PATTERN
-     * @see #PLAIN_KBRN_PATTERN
-     */
-    public static String toDelimitedFormat(String value) {
-        if (isValidDelimitedFormat(value)) {
-            return value;
-        }
-        if (!isValidPlainFormat(value)) {
-            throw new IllegalArgumentException("Cannot convert to delimited format: " + value);
-        }
-        return String.join("-", value.substring(0, 3), value.substring(3, 5), value.substring(5));
-    }
-
-    /**
-     * 사업자등록번호 문자열을 구분자로 분리된 형식에서 기본 형식으로 변환합니다.<br/>
-     * 이 메서드는 멱등하게 동작합니다.
-     *
-     * @param value 구분자로 구분된 형식의 사업자등록번호 문자열 (예: {@code "120-81-47521"})
-     * @return 숫자로 구성된 10자리 형식의 사업자등록번호 문자열 (예: {@code "1208147521"})
-     * @throws IllegalArgumentException {@code value} 가 올바른 사업자등록번호 문자열이 아닌 경우
-     * @see #PLAIN_KBRN_PATTERN
-     * @see #DELIMITED_KBRN_PATTERN
-     */
-    public static String toPlainFormat(String value) {
-        if (isValidPlainFormat(value)) {
-            return value;
-        }
-        if (!isValidDelimitedFormat(value)) {
-            throw new IllegalArgumentException("Cannot convert to default format: " + value);
-        }
-        return value.replace("-", "");
-    }
-
-    /**
-     * 사업자등록번호 앞 9자리 문자에 대한 체크섬을 계산합니다.
-     *
-     * @param body 숫자로 구성된 길이 9의 문자 시퀀스
-     * @return 계산된 체크섬 문자
-     * @throws IllegalArgumentException 입력이 유효한 길이 9의 문자 배열이 아니거나 숫자가 아닌 문자를 포함하는 경우.
-     * @see KBRN#body()
-     */
-    public static char checksumOf(CharSequence body) {
-        if (body.length() != 9) {
-            throw new IllegalArgumentException("Body must be a character array of length 9");
-        }
-
-        int ws = 0;
-        for (int i = 0; i < body.length(); i++) {
-            if (!Character.isDigit(body.charAt(i))) {
-                throw new IllegalArgumentException("All characters must be digits");
-            }
-            ws += (body.charAt(i) - '0') * CHECKSUM_WEIGHTS[i];
-        }
-
-        return (char) ('0' + ((10 - ((ws + (((body.charAt(8) - '0') * 5) / 10)) % 10)) % 10));
-    }
-
-    /**
-     * 주어진 사업자등록번호 문자열이 유효한 체크섬을 가지고 있는지 확인합니다.
-     *
-     * @param value 사업자등록번호 문자열
-     * @return 사업자등록번호가 유효한 체크섬을 포함하고 있으면 {@code true}, 그렇지 않으면 {@code false}.
-     * @throws IllegalArgumentException 주어진 값이 유효한 형식이 아닌 경우.
-     * @see #checksumOf(CharSequence)
-     */
-    public static boolean hasValidChecksum(String value) {
-        String normalized = toPlainFormat(value);
-        String body = normalized.substring(0, 9);
-        char expected = normalized.charAt(9);
-        return expected == checksumOf(body);
-    }
-
-}
+package io.github.realrains.kbrn;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static io.github.realrains.kbrn.KbrnScanner.DELIMITED_LENGTH;
+import static io.github.realrains.kbrn.KbrnScanner.DELIMITER;
+import static io.github.realrains.kbrn.KbrnScanner.PLAIN_LENGTH;
+
+/**
+ * 사업자등록번호 문자열을 검증하고 변환하는 유틸리티 클래스
+ */
+public class KbrnUtils {
+
+    private KbrnUtils() { throw new UnsupportedOperationException("Cannot be instantiated"); }
+
+    /**
+     * 주어진 값이 유효한 사업자등록번호인지 검증합니다.<br/>
+     * 이 메서드는 기본 형식과 구분자로 분리된 형식을 모두 지원하며, 체크섬도 검증합니다.
+     *
+     * @param value 검증할 값
+     * @return 값이 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public static boolean isValid(@Nullable String value) {
+        return isValid((CharSequence) value);
+    }
+
+    /**
+     * 주어진 문자 시퀀스가 유효한 사업자등록번호인지 검증합니다.<br/>
+     * 형식과 체크섬을 한 번의 순회로 함께 검사하며, 검사 과정에서 객체를 할당하지 않습니다.
+     *
+     * @param value 검증할 문자 시퀀스
+     * @return 값이 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     * @see #isValid(String)
+     */
+    public static boolean isValid(@Nullable CharSequence value) {
+        return scan(value) >= 0;
+    }
+
+    /**
+     * 바이트 배열의 {@code [offset, offset + length)} 구간이 유효한 사업자등록번호인지 검증합니다.<br/>
+     * 구간을 ASCII 문자열로 보고 문자열로 변환하지 않은 채 검사합니다.
+     *
+     * @param bytes  검증할 바이트 배열
+     * @param offset 시작 위치
+     * @param length 검증할 길이
+     * @return 구간이 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see #isValid(String)
+     */
+    public static boolean isValid(byte[] bytes, int offset, int length) {
+        return parse(bytes, offset, length) >= 0;
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간이 유효한 사업자등록번호인지 검증합니다.
+     *
+     * @param chars  검증할 문자 배열
+     * @param offset 시작 위치
+     * @param length 검증할 길이
+     * @return 구간이 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see #isValid(String)
+     */
+    public static boolean isValid(char[] chars, int offset, int length) {
+        return parse(chars, offset, length) >= 0;
+    }
+
+    /**
+     * 바이트 버퍼의 남은 바이트 ({@code position} 부터 {@code limit} 까지) 가 유효한 사업자등록번호인지 검증합니다.<br/>
+     * 버퍼의 위치는 바뀌지 않으며, 힙 버퍼와 다이렉트 버퍼를 모두 복사 없이 검사합니다.
+     * {@code isValid(null)} 과 같은 기존 호출이 모호해지지 않도록 {@code isValid} 와 다른 이름을 사용합니다.
+     *
+     * @param buffer 검증할 바이트 버퍼
+     * @return 남은 바이트가 유효한 사업자등록번호를 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     * @see #isValid(String)
+     */
+    public static boolean isValidRemaining(ByteBuffer buffer) {
+        return parseRemaining(buffer) >= 0;
+    }
+
+    /**
+     * 주어진 문자 시퀀스를 사업자등록번호 10자리의 숫자 값으로 변환합니다.
+     *
+     * @param value 변환할 문자 시퀀스 (예: {@code "120-81-47521"})
+     * @return 유효한 경우 10자리 숫자 값 (예: {@code 1208147521L}), 그렇지 않으면 {@code -1}
+     * @see KBRN#fromLong(long)
+     */
+    public static long parse(@Nullable CharSequence value) {
+        return Math.max(scan(value), -1);
+    }
+
+    /**
+     * 바이트 배열의 {@code [offset, offset + length)} 구간을 사업자등록번호 10자리의 숫자 값으로 변환합니다.
+     *
+     * @param bytes  변환할 바이트 배열
+     * @param offset 시작 위치
+     * @param length 변환할 길이
+     * @return 유효한 경우 10자리 숫자 값 (예: {@code 1208147521L}), 그렇지 않으면 {@code -1}
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see KBRN#fromLong(long)
+     */
+    public static long parse(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return Math.max(KbrnScanner.scan(bytes, offset, length), -1);
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간을 사업자등록번호 10자리의 숫자 값으로 변환합니다.
+     *
+     * @param chars  변환할 문자 배열
+     * @param offset 시작 위치
+     * @param length 변환할 길이
+     * @return 유효한 경우 10자리 숫자 값 (예: {@code 1208147521L}), 그렇지 않으면 {@code -1}
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see KBRN#fromLong(long)
+     */
+    public static long parse(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        return Math.max(KbrnScanner.scan(chars, offset, length), -1);
+    }
+
+    /**
+     * 바이트 버퍼의 남은 바이트를 사업자등록번호 10자리의 숫자 값으로 변환합니다. 버퍼의 위치는 바뀌지 않습니다.
+     *
+     * @param buffer 변환할 바이트 버퍼
+     * @return 유효한 경우 10자리 숫자 값 (예: {@code 1208147521L}), 그렇지 않으면 {@code -1}
+     * @see KBRN#fromLong(long)
+     */
+    public static long parseRemaining(ByteBuffer buffer) {
+        return Math.max(KbrnScanner.scan(buffer, buffer.position(), buffer.remaining()), -1);
+    }
+
+    /**
+     * 주어진 문자 시퀀스를 검증하고, 유효하지 않은 경우 그 사유를 반환합니다.<br/>
+     * 예외를 던지거나 객체를 할당하지 않으므로, 유효하지 않은 입력이 많아도 유효한 입력과 같은 비용으로 검증할 수 있습니다.
+     * {@code null} 은 {@link ValidationResult#BAD_LENGTH} 로 판단합니다.
+     *
+     * @param value 검증할 문자 시퀀스
+     * @return 검증 결과
+     * @see #isValid(CharSequence)
+     */
+    public static ValidationResult validate(@Nullable CharSequence value) {
+        return ValidationResult.of(scan(value));
+    }
+
+    /**
+     * 바이트 배열의 {@code [offset, offset + length)} 구간을 ASCII 문자열로 보고 검증한 결과를 반환합니다.
+     *
+     * @param bytes  검증할 바이트 배열
+     * @param offset 시작 위치
+     * @param length 검증할 길이
+     * @return 검증 결과
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see #validate(CharSequence)
+     */
+    public static ValidationResult validate(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return ValidationResult.of(KbrnScanner.scan(bytes, offset, length));
+    }
+
+    /**
+     * 문자 배열의 {@code [offset, offset + length)} 구간을 검증한 결과를 반환합니다.
+     *
+     * @param chars  검증할 문자 배열
+     * @param offset 시작 위치
+     * @param length 검증할 길이
+     * @return 검증 결과
+     * @throws IndexOutOfBoundsException 구간이 배열의 범위를 벗어나는 경우
+     * @see #validate(CharSequence)
+     */
+    public static ValidationResult validate(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        return ValidationResult.of(KbrnScanner.scan(chars, offset, length));
+    }
+
+    /**
+     * 주어진 값이 유효한 사업자등록번호 형식인지 검증합니다.<br/>
+     * 이 메서드는 기본 형식과 구분자로 분리된 형식을 모두 지원합니다.
+     *
+     * @param value 검증할 값
+     * @return 값이 유효한 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public static boolean isValidFormat(@Nullable String value) {
+        return KbrnScanner.isWellFormed(scan(value));
+    }
+
+    /**
+     * 주어진 값이 기본 사업자등록번호 형식을 만족하는지 검증합니다. (예: {@code "1208147521"})
+     *
+     * @param value 검증할 값
+     * @return 값이 기본 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public static boolean isValidPlainFormat(@Nullable String value) {
+        if (value == null || value.length() != PLAIN_LENGTH) return false;
+        return KbrnScanner.isWellFormed(scan(value));
+    }
+
+    /**
+     * 주어진 값이 구분자로 분리된 사업자등록번호 형식을 만족하는지 검증합니다. (예: {@code "120-81-47521"})
+     *
+     * @param value 검증할 값
+     * @return 값이 구분자로 분리된 사업자등록번호 형식을 만족하면 {@code true}, 그렇지 않으면 {@code false}
+     */
+    public static boolean isValidDelimitedFormat(@Nullable String value) {
+        if (value == null || value.length() != DELIMITED_LENGTH) return false;
+        return KbrnScanner.isWellFormed(scan(value));
+    }
+
+    /**
+     * 사업자등록번호 문자열을 기본 형식에서 구분자로 분리된 형식으로 변환합니다.<br/>
+     * 이 메서드는 멱등하게 동작합니다.
+     *
+     * @param value 숫자로 구성된 10자리 형식의 사업자등록번호 문자열 (예: {@code "1208147521"})
+     * @return 구분자로 구분된 형식의 사업자등록번호 문자열 (예: {@code "120-81-47521"})
+     * @throws IllegalArgumentException {@code value} 가 숫자로 구성된 10자리 형식의 사업자등록번호 문자열이 아닌 경우
+     */
+    public static String toDelimitedFormat(String value) {
+        if (!KbrnScanner.isWellFormed(scan(value))) {
+            throw new IllegalArgumentException("Cannot convert to delimited format: " + value);
+        }
+        if (value.length() == DELIMITED_LENGTH) {
+            return value;
+        }
+        char[] chars = new char[DELIMITED_LENGTH];
+        value.getChars(0, 3, chars, 0);
+        chars[3] = DELIMITER;
+        value.getChars(3, 5, chars, 4);
+        chars[6] = DELIMITER;
+        value.getChars(5, 10, chars, 7);
+        return new String(chars);
+    }
+
+    /**
+     * 사업자등록번호 문자열을 구분자로 분리된 형식에서 기본 형식으로 변환합니다.<br/>
+     * 이 메서드는 멱등하게 동작합니다.
+     *
+     * @param value 구분자로 구분된 형식의 사업자등록번호 문자열 (예: {@code "120-81-47521"})
+     * @return 숫자로 구성된 10자리 형식의 사업자등록번호 문자열 (예: {@code "1208147521"})
+     * @throws IllegalArgumentException {@code value} 가 올바른 사업자등록번호 문자열이 아닌 경우
+     */
+    public static String toPlainFormat(String value) {
+        if (!KbrnScanner.isWellFormed(scan(value))) {
+            throw new IllegalArgumentException("Cannot convert to default format: " + value);
+        }
+        if (value.length() == PLAIN_LENGTH) {
+            return value;
+        }
+        char[] chars = new char[PLAIN_LENGTH];
+        value.getChars(0, 3, chars, 0);
+        value.getChars(4, 6, chars, 3);
+        value.getChars(7, 12, chars, 5);
+        return new String(chars);
+    }
+
+    /**
+     * 사업자등록번호 앞 9자리 문자에 대한 체크섬을 계산합니다.
+     *
+     * @param body 숫자로 구성된 길이 9의 문자 시퀀스
+     * @return 계산된 체크섬 문자
+     * @throws IllegalArgumentException 입력이 유효한 길이 9의 문자 배열이 아니거나 숫자가 아닌 문자를 포함하는 경우.
+     * @see KBRN#body()
+     */
+    public static char checksumOf(CharSequence body) {
+        if (body.length() != 9) {
+            throw new IllegalArgumentException("Body must be a character array of length 9");
+        }
+
+        int ws = 0;
+        for (int i = 0; i < body.length(); i++) {
+            if (!Character.isDigit(body.charAt(i))) {
+                throw new IllegalArgumentException("All characters must be digits");
+            }
+            ws += KbrnScanner.term(i, body.charAt(i) - '0');
+        }
+
+        return (char) ('0' + KbrnScanner.checksumDigitOfSum(ws));
+    }
+
+    /**
+     * 주어진 사업자등록번호 문자열이 유효한 체크섬을 가지고 있는지 확인합니다.
+     *
+     * @param value 사업자등록번호 문자열
+     * @return 사업자등록번호가 유효한 체크섬을 포함하고 있으면 {@code true}, 그렇지 않으면 {@code false}.
+     * @throws IllegalArgumentException 주어진 값이 유효한 형식이 아닌 경우.
+     * @see #checksumOf(CharSequence)
+     */
+    public static boolean hasValidChecksum(String value) {
+        long result = scan(value);
+        if (!KbrnScanner.isWellFormed(result)) {
+            throw new IllegalArgumentException("Cannot convert to default format: " + value);
+        }
+        return result >= 0;
+    }
+
+    private static long scan(@Nullable CharSequence value) {
+        return value == null ? KbrnScanner.BAD_LENGTH : KbrnScanner.scan(value);
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.github.realrains.kbrn;
+
+/**
+ * 사업자등록번호 검증 결과를 나타내는 열거형입니다.
+ * <p>
+ * 유효하지 않은 경우 그 사유를 함께 나타내며, 입력을 앞에서부터 검사하다 처음 발견한 사유 하나만 담습니다.
+ */
+public enum ValidationResult {
+    /**
+     * 형식과 검증번호가 모두 올바름
+     */
+    VALID,
+    /**
+     * 길이가 기본 형식 (10자) 또는 구분자 형식 (12자) 이 아님
+     */
+    BAD_LENGTH,
+    /**
+     * 숫자가 와야 할 위치에 숫자 (0-9) 가 아닌 문자가 있음
+     */
+    BAD_CHAR,
+    /**
+     * 구분자 형식에서 구분자가 와야 할 위치에 {@code '-'} 가 아닌 문자가 있음
+     */
+    BAD_DELIMITER,
+    /**
+     * 형식은 올바르지만 검증번호가 일치하지 않음
+     */
+    BAD_CHECKSUM;
+
+    /**
+     * 검증 결과가 유효한지 확인합니다.
+     *
+     * @return {@link #VALID} 이면 {@code true}
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * {@link KbrnScanner} 의 검사 결과를 열거형 값으로 변환합니다.
+     */
+    static ValidationResult of(long scanResult) {
+        if (scanResult >= 0) {
+            return VALID;
+        }
+        if (scanResult == KbrnScanner.BAD_LENGTH) {
+            return BAD_LENGTH;
+        }
+        if (scanResult == KbrnScanner.BAD_CHAR) {
+            return BAD_CHAR;
+        }
+        if (scanResult == KbrnScanner.BAD_DELIMITER) {
+            return BAD_DELIMITER;
+        }
+        return BAD_CHECKSUM;
+    }
+}
@@ -47,6 +47,41 @@ class BusinessEntityTypeTest {
         assertThrows(IllegalArgumentException.class, () -> BusinessEntityType.of(code));
     }
 
+    @DisplayName("null 사업자 유형 코드에 대한 예외 처리")
+    @Test
+    void null_code_throws_exception() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> BusinessEntityType.of((String) null));
+        assertEquals("Cannot convert to BusinessType: null", e.getMessage());
+    }
+
+    @DisplayName("숫자 코드와 두 자리 문자로 조회한 사업자 유형이 문자열 코드로 조회한 결과와 같은지 확인")
+    @Test
+    void mapping_numeric_code_to_business_entity_type() {
+        for (int i = 0; i < 100; i++) {
+            String code = formatCode(i);
+            BusinessEntityType expected = BusinessEntityType.of(code);
+
+            assertEquals(expected, BusinessEntityType.of(i));
+            assertEquals(expected, BusinessEntityType.of(code.charAt(0), code.charAt(1)));
+        }
+    }
+
+    @DisplayName("범위를 벗어난 숫자 코드는 정의되지 않은 사업자 유형으로 판단")
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 100, Integer.MAX_VALUE})
+    void out_of_range_numeric_code(int code) {
+        assertEquals(UNDEFINED, BusinessEntityType.of(code));
+        assertEquals(UNDEFINED, BusinessEntityType.of(String.valueOf(code)));
+    }
+
+    @DisplayName("ASCII 숫자가 아닌 두 자리 문자로 조회하면 예외 처리")
+    @ParameterizedTest
+    @ValueSource(strings = {"a1", "1a", "١٢", " 1"})
+    void invalid_chars_throws_exception(String code) {
+        assertThrows(IllegalArgumentException.class, () -> BusinessEntityType.of(code.charAt(0), code.charAt(1)));
+    }
+
     private static String formatCode(int code) {
         return String.format("%02d", code);
     }
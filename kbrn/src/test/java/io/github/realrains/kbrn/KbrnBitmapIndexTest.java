@@ -0,0 +1,139 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnBitmapIndex 테스트")
+class KbrnBitmapIndexTest {
+
+    @DisplayName("추가한 사업자등록번호는 포함된 것으로 판단한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false)
+    void contains_added_kbrn(String value) {
+        KbrnBitmapIndex index = new KbrnBitmapIndex();
+        KBRN kbrn = KBRN.valueOf(value);
+
+        assertTrue(index.add(kbrn));
+        assertFalse(index.add(kbrn.toLong()));
+        assertTrue(index.contains(kbrn));
+        assertTrue(index.contains(Long.parseLong(value)));
+        assertEquals(1, index.cardinality());
+    }
+
+    @DisplayName("유효하지 않은 숫자 값은 포함되지 않은 것으로 판단하고, 추가할 때는 예외가 발생한다")
+    @Test
+    void invalid_long_value() {
+        KbrnBitmapIndex index = new KbrnBitmapIndex();
+
+        assertFalse(index.contains(1208147522L));
+        assertFalse(index.remove(1208147522L));
+        assertThrows(IllegalArgumentException.class, () -> index.add(1208147522L));
+    }
+
+    @DisplayName("원소가 많아져 비트맵으로 바뀌거나 다시 줄어들어도 같은 원소를 유지한다")
+    @Test
+    void dense_and_sparse_containers() {
+        KbrnBitmapIndex index = new KbrnBitmapIndex();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int body = 120_000_000; body < 120_010_000; body++) {
+            long value = toLong(body);
+            index.add(value);
+            expected.add(value);
+        }
+        assertSameElements(expected, index);
+
+        for (int body = 120_000_000; body < 120_009_000; body++) {
+            long value = toLong(body);
+            assertTrue(index.remove(KBRN.fromLong(value)));
+            expected.remove(value);
+        }
+        assertSameElements(expected, index);
+    }
+
+    @DisplayName("컨테이너 경계 근처에서 추가와 제거를 반복해도 같은 원소를 유지한다")
+    @Test
+    void add_and_remove_around_container_boundary() {
+        KbrnBitmapIndex index = new KbrnBitmapIndex();
+        TreeSet<Long> expected = new TreeSet<>();
+        int base = 120 << 16;
+        for (int body = base; body < base + 4096; body++) {
+            long value = toLong(body);
+            index.add(value);
+            expected.add(value);
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            long value = toLong(base + 4096 + (i % 3));
+            assertEquals(expected.add(value), index.add(value));
+            long removed = toLong(base + (i % 1500));
+            assertEquals(expected.remove(removed), index.remove(removed));
+            assertEquals(expected.size(), index.cardinality());
+        }
+        assertSameElements(expected, index);
+    }
+
+    @DisplayName("교집합, 합집합, 차집합이 TreeSet 과 같은 결과를 반환한다")
+    @Test
+    void set_algebra() {
+        Random random = new Random(0);
+        KbrnBitmapIndex a = new KbrnBitmapIndex();
+        KbrnBitmapIndex b = new KbrnBitmapIndex();
+        TreeSet<Long> expectedA = new TreeSet<>();
+        TreeSet<Long> expectedB = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            // 일부 구간은 비트맵, 나머지는 배열 컨테이너가 되도록 값을 몰아서 만든다
+            int body = random.nextBoolean()
+                ? 220_000_000 + random.nextInt(8_000)
+                : random.nextInt(1_000_000_000);
+            long value = toLong(body);
+            if (random.nextBoolean()) {
+                a.add(value);
+                expectedA.add(value);
+            } else {
+                b.add(value);
+                expectedB.add(value);
+            }
+        }
+
+        KbrnBitmapIndex and = a.copy();
+        and.and(b);
+        TreeSet<Long> expectedAnd = new TreeSet<>(expectedA);
+        expectedAnd.retainAll(expectedB);
+        assertSameElements(expectedAnd, and);
+
+        KbrnBitmapIndex or = a.copy();
+        or.or(b);
+        TreeSet<Long> expectedOr = new TreeSet<>(expectedA);
+        expectedOr.addAll(expectedB);
+        assertSameElements(expectedOr, or);
+
+        KbrnBitmapIndex andNot = a.copy();
+        andNot.andNot(b);
+        TreeSet<Long> expectedAndNot = new TreeSet<>(expectedA);
+        expectedAndNot.removeAll(expectedB);
+        assertSameElements(expectedAndNot, andNot);
+
+        assertSameElements(expectedA, a);
+    }
+
+    private static void assertSameElements(TreeSet<Long> expected, KbrnBitmapIndex actual) {
+        assertEquals(expected.size(), actual.cardinality());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), actual.toLongArray());
+    }
+
+    private static long toLong(int body) {
+        String digits = String.format("%09d", body);
+        return Long.parseLong(digits + KbrnUtils.checksumOf(digits));
+    }
+}
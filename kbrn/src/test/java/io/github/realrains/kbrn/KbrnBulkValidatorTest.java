@@ -0,0 +1,106 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnBulkValidator 테스트")
+class KbrnBulkValidatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("샘플 파일의 모든 줄을 유효한 사업자등록번호로 검증한다")
+    @Test
+    void validate_sample_file() throws IOException, URISyntaxException {
+        Path path = Paths.get(Objects.requireNonNull(getClass().getResource("/kbrn_sample.csv")).toURI());
+        List<Long> values = new ArrayList<>();
+
+        KbrnBulkValidator.Summary summary = new KbrnBulkValidator()
+            .validate(path, (line, offset, value, result) -> values.add(value));
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(lines.size(), summary.lineCount());
+        assertEquals(lines.size(), summary.validCount());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(KBRN.valueOf(lines.get(i)).toLong(), values.get(i));
+        }
+    }
+
+    @DisplayName("버퍼 크기와 관계없이 줄마다 KbrnUtils.isValid 와 같은 결과와 위치를 전달한다")
+    @ParameterizedTest(name = "bufferSize = {0}")
+    @ValueSource(ints = { 1, 3, 7, 13, 64, 1 << 20 })
+    void validate_lines_across_buffer_boundaries(int bufferSize) throws IOException {
+        String[] lines = {
+            "120-81-47521",       // 구분자 형식
+            "2208162517\r",       // CRLF 줄바꿈
+            "1208147522",         // 체크섬 오류
+            "",                   // 빈 줄
+            "12081475210000000",  // 긴 줄
+            "120+81+47521",       // 구분자 오류
+            "12O8147521",         // 문자 오류
+            "220-81-62517"        // 마지막 줄 (줄바꿈 없음)
+        };
+        ValidationResult[] expected = {
+            ValidationResult.VALID, ValidationResult.VALID, ValidationResult.BAD_CHECKSUM, ValidationResult.BAD_LENGTH,
+            ValidationResult.BAD_LENGTH, ValidationResult.BAD_DELIMITER, ValidationResult.BAD_CHAR, ValidationResult.VALID
+        };
+        String input = String.join("\n", lines);
+        List<ValidationResult> results = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+
+        InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII));
+        KbrnBulkValidator.Summary summary = new KbrnBulkValidator(bufferSize)
+            .validate(Channels.newChannel(in), (line, offset, value, result) -> {
+                assertEquals(results.size() + 1, line);
+                results.add(result);
+                offsets.add(offset);
+            });
+
+        assertEquals(List.of(expected), results);
+        assertEquals(3, summary.validCount());
+        assertEquals(5, summary.invalidCount());
+        long offset = 0;
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(offset, offsets.get(i));
+            assertEquals(KbrnUtils.isValid(lines[i].replace("\r", "")), results.get(i).isValid());
+            offset += lines[i].length() + 1;
+        }
+    }
+
+    @DisplayName("마지막 줄바꿈 뒤에는 줄이 없는 것으로 본다")
+    @Test
+    void ignore_trailing_newline() throws IOException {
+        Path path = tempDir.resolve("kbrn.csv");
+        Files.write(path, "120-81-47521\n1208147521\n".getBytes(StandardCharsets.US_ASCII));
+
+        KbrnBulkValidator.Summary summary = new KbrnBulkValidator().validate(path, (line, offset, value, result) -> { });
+
+        assertEquals(2, summary.lineCount());
+        assertEquals(2, summary.validCount());
+    }
+
+    @DisplayName("버퍼 크기가 양수가 아니면 예외가 발생한다")
+    @Test
+    void invalid_buffer_size() {
+        assertThrows(IllegalArgumentException.class, () -> new KbrnBulkValidator(0));
+    }
+}
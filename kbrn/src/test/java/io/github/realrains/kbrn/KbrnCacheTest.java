@@ -0,0 +1,127 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.InvalidKbrnSource;
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnCache 테스트")
+class KbrnCacheTest {
+
+    @DisplayName("같은 번호는 형식과 관계없이 캐시된 인스턴스를 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = false, delimited = true, limit = 20)
+    void return_cached_instance(String value) {
+        KbrnCache cache = new KbrnCache(16);
+
+        KBRN kbrn = cache.valueOf(value);
+
+        assertEquals(KBRN.valueOf(value), kbrn);
+        assertSame(kbrn, cache.valueOf(value.replace("-", "")));
+        assertSame(kbrn, cache.fromLong(kbrn.toLong()));
+        assertSame(kbrn, cache.intern(KBRN.valueOf(value)));
+        assertEquals(1, cache.missCount());
+        assertEquals(3, cache.hitCount());
+    }
+
+    @DisplayName("캐시에 없는 인스턴스를 intern 하면 그 인스턴스가 캐시된다")
+    @Test
+    void intern_kbrn() {
+        KbrnCache cache = new KbrnCache(16);
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertSame(kbrn, cache.intern(kbrn));
+        assertSame(kbrn, cache.valueOf("1208147521"));
+    }
+
+    @DisplayName("유효하지 않은 값은 KBRN.valueOf, KBRN.fromLong 과 같은 예외가 발생한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @InvalidKbrnSource(checksumVariations = 2, limit = 30)
+    void invalid_value(String value) {
+        KbrnCache cache = new KbrnCache(16);
+
+        IllegalArgumentException expected = assertThrows(IllegalArgumentException.class, () -> KBRN.valueOf(value));
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> cache.valueOf(value));
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> cache.valueOf(null));
+        assertThrows(IllegalArgumentException.class, () -> cache.fromLong(1208147522L));
+        assertEquals(0, cache.missCount());
+    }
+
+    @DisplayName("용량을 넘으면 오래된 번호를 내보내고, 자주 조회되는 번호는 남긴다")
+    @Test
+    void evict_when_full() {
+        KbrnCache cache = new KbrnCache(1024);
+        KBRN[] kbrns = KbrnSetTest.randomKbrns(new Random(42L), 10_000);
+        KBRN hot = cache.valueOf("120-81-47521");
+
+        for (KBRN kbrn : kbrns) {
+            cache.intern(kbrn);
+            assertSame(hot, cache.valueOf("120-81-47521"));
+        }
+
+        assertEquals(1024, cache.capacity());
+        assertTrue(cache.evictionCount() > 0);
+        assertEquals(kbrns.length + 1, cache.missCount());
+        assertEquals(kbrns.length, cache.hitCount());
+    }
+
+    @DisplayName("비운 캐시는 새 인스턴스를 반환한다")
+    @Test
+    void clear_cache() {
+        KbrnCache cache = new KbrnCache(16);
+        KBRN kbrn = cache.valueOf("120-81-47521");
+
+        cache.clear();
+
+        assertNotSame(kbrn, cache.valueOf("120-81-47521"));
+    }
+
+    @DisplayName("여러 스레드에서 사용해도 항상 같은 번호의 인스턴스를 반환한다")
+    @Test
+    void concurrent_access() throws Exception {
+        KbrnCache cache = new KbrnCache(256);
+        KBRN[] kbrns = KbrnSetTest.randomKbrns(new Random(7L), 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 100_000; i++) {
+                        KBRN kbrn = kbrns[random.nextInt(kbrns.length)];
+                        assertEquals(kbrn, cache.valueOf(kbrn.delimitedValue()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(400_000, cache.hitCount() + cache.missCount());
+    }
+
+    @DisplayName("용량이 양수가 아니면 예외가 발생한다")
+    @Test
+    void invalid_capacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KbrnCache(0));
+        assertEquals(8, new KbrnCache(1).capacity());
+    }
+}
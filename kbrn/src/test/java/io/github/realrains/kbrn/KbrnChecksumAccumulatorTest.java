@@ -0,0 +1,107 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnChecksumAccumulator 테스트")
+class KbrnChecksumAccumulatorTest {
+
+    @DisplayName("앞 9자리를 입력하면 checksumOf 와 같은 검증번호를 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false)
+    void expected_checksum(String value) {
+        KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+        for (int i = 0; i < 9; i++) {
+            accumulator.append(value.charAt(i) - '0');
+        }
+
+        assertEquals(KbrnUtils.checksumOf(value.substring(0, 9)) - '0', accumulator.expectedChecksum());
+        accumulator.append(value.charAt(9) - '0');
+        assertTrue(accumulator.isValid());
+        assertEquals(Long.parseLong(value), accumulator.toLong());
+    }
+
+    @DisplayName("마지막 숫자를 취소하면 그 숫자를 입력하기 전과 같은 상태가 된다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false, limit = 30)
+    void undo(String value) {
+        KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+        for (int i = 0; i < value.length(); i++) {
+            for (int d = 0; d < 10; d++) {
+                accumulator.append(d);
+                assertEquals(d, accumulator.undo());
+            }
+            accumulator.append(value.charAt(i) - '0');
+        }
+
+        assertTrue(accumulator.isValid());
+        assertEquals(value.charAt(9) - '0', accumulator.undo());
+        assertEquals(9, accumulator.length());
+        assertEquals(value.charAt(9) - '0', accumulator.expectedChecksum());
+        accumulator.append((value.charAt(9) - '0' + 1) % 10);
+        assertFalse(accumulator.isValid());
+    }
+
+    @DisplayName("여러 버퍼에 나뉘어 들어온 바이트를 이어서 입력해도 결과가 같다")
+    @ParameterizedTest(name = "split = {0}")
+    @ValueSource(ints = { 1, 2, 3, 7, 10 })
+    void append_split_bytes(int split) {
+        byte[] bytes = "1208147521,2208162517".getBytes(StandardCharsets.US_ASCII);
+        KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+
+        int consumed = 0;
+        for (int offset = 0; offset < 10; offset += split) {
+            int length = Math.min(split, bytes.length - offset);
+            consumed += accumulator.append(bytes, offset, length);
+        }
+
+        assertEquals(10, consumed);
+        assertTrue(accumulator.isValid());
+        assertEquals(1208147521L, accumulator.toLong());
+        assertEquals(0, accumulator.append(bytes, 10, 5));
+    }
+
+    @DisplayName("숫자가 아닌 문자를 만나거나 10자리가 모두 입력되면 입력을 멈춘다")
+    @Test
+    void append_stops_at_non_digit() {
+        KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+        char[] chars = "120-81-47521".toCharArray();
+
+        assertEquals(3, accumulator.append(chars, 0, chars.length));
+        assertEquals(2, accumulator.append(chars, 4, 2));
+        assertEquals(5, accumulator.append(chars, 7, 5));
+        assertTrue(accumulator.isValid());
+
+        accumulator.reset();
+        char[] longer = "12081475210".toCharArray();
+        assertEquals(10, accumulator.append(longer, 0, longer.length));
+        assertTrue(accumulator.isValid());
+    }
+
+    @DisplayName("잘못된 숫자나 상태에서 호출하면 예외가 발생한다")
+    @Test
+    void invalid_state() {
+        KbrnChecksumAccumulator accumulator = new KbrnChecksumAccumulator();
+
+        assertThrows(IllegalStateException.class, accumulator::undo);
+        assertThrows(IllegalStateException.class, accumulator::expectedChecksum);
+        assertThrows(IllegalArgumentException.class, () -> accumulator.append(10));
+        assertThrows(IllegalArgumentException.class, () -> accumulator.append(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> accumulator.append(new byte[5], 3, 3));
+        assertFalse(accumulator.isValid());
+
+        assertEquals(10, accumulator.append("0000000000".getBytes(StandardCharsets.US_ASCII), 0, 10));
+        assertThrows(IllegalStateException.class, () -> accumulator.append(0));
+        assertTrue(accumulator.isValid());
+    }
+}
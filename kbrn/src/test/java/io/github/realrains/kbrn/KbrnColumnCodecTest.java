@@ -0,0 +1,211 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnColumnCodec 테스트")
+class KbrnColumnCodecTest {
+
+    private static final KbrnGenerator GENERATOR = new KbrnGenerator();
+
+    @DisplayName("압축한 열을 풀면 원래 목록과 같다")
+    @ParameterizedTest(name = "blockSize = {0}")
+    @ValueSource(ints = { 1, 2, 7, 128, 1000 })
+    void encode_and_decode(int blockSize) {
+        KbrnColumnCodec codec = new KbrnColumnCodec(blockSize);
+        long[] values = sortedValues(5_000, 42L);
+
+        byte[] column = codec.encode(values);
+        long[] decoded = new long[values.length + 2];
+
+        assertEquals(values.length, codec.size(column));
+        assertEquals((values.length + blockSize - 1) / blockSize, codec.blockCount(column));
+        assertEquals(values.length, codec.decode(column, decoded, 2));
+        assertArrayEquals(values, Arrays.copyOfRange(decoded, 2, decoded.length));
+    }
+
+    @DisplayName("블록 단위로 나누어 풀어도 전체를 푼 결과와 같다")
+    @Test
+    void decode_block() {
+        KbrnColumnCodec codec = new KbrnColumnCodec(100);
+        long[] values = sortedValues(1_050, 7L);
+        byte[] column = codec.encode(values);
+
+        long[] batch = new long[100];
+        List<Long> decoded = new ArrayList<>();
+        for (int block = 0; block < codec.blockCount(column); block++) {
+            int count = codec.decodeBlock(column, block, batch, 0);
+            assertEquals(block < 10 ? 100 : 50, count);
+            for (int i = 0; i < count; i++) {
+                decoded.add(batch[i]);
+            }
+        }
+
+        assertEquals(values.length, decoded.size());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], decoded.get(i));
+        }
+    }
+
+    @DisplayName("같은 번호, 0 으로 시작하는 번호, 가장 큰 번호도 압축하고 풀 수 있다")
+    @Test
+    void encode_edge_values() {
+        KbrnColumnCodec codec = new KbrnColumnCodec(4);
+        long max = GENERATOR.valueAt(GENERATOR.size() - 1);
+        long[] values = { 0L, 0L, 0L, 1208147521L, 1208147521L, max, max };
+
+        byte[] column = codec.encode(values);
+        long[] decoded = new long[values.length];
+        codec.decode(column, decoded, 0);
+
+        assertArrayEquals(values, decoded);
+        assertTrue(codec.contains(column, 0L));
+        assertTrue(codec.contains(column, max));
+        assertEquals(2, codec.forEachInRange(column, 1208147521L, 1208147522L, value -> { }));
+    }
+
+    @DisplayName("빈 목록도 압축하고 풀 수 있다")
+    @Test
+    void encode_empty() {
+        KbrnColumnCodec codec = new KbrnColumnCodec();
+        byte[] column = codec.encode(new long[0]);
+
+        assertEquals(0, codec.size(column));
+        assertEquals(0, codec.blockCount(column));
+        assertEquals(0, codec.decode(column, new long[0], 0));
+        assertFalse(codec.contains(column, 1208147521L));
+        assertEquals(0, codec.forEachInRange(column, 0, Long.MAX_VALUE, value -> { }));
+    }
+
+    @DisplayName("정렬되지 않은 목록은 정렬하여 압축하고 원래 위치를 기록한다")
+    @Test
+    void encode_unsorted() {
+        KbrnColumnCodec codec = new KbrnColumnCodec(16);
+        long[] values = new long[1_000];
+        Random random = new Random(3L);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = GENERATOR.valueAt(random.nextInt(500) * 1_000L);
+        }
+        long[] original = values.clone();
+        int[] permutation = new int[values.length];
+
+        byte[] column = codec.encodeUnsorted(values, 0, values.length, permutation);
+        long[] decoded = new long[values.length];
+        codec.decode(column, decoded, 0);
+
+        assertArrayEquals(original, values);
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, decoded);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[permutation[i]], decoded[i]);
+            if (i > 0 && decoded[i - 1] == decoded[i]) {
+                assertTrue(permutation[i - 1] < permutation[i]);
+            }
+        }
+    }
+
+    @DisplayName("포함 여부를 정렬된 배열의 이진 탐색과 같게 판단한다")
+    @Test
+    void contains() {
+        KbrnColumnCodec codec = new KbrnColumnCodec(32);
+        long[] values = sortedValues(2_000, 11L);
+        byte[] column = codec.encode(values);
+
+        for (long value : values) {
+            assertTrue(codec.contains(column, value));
+        }
+        Random random = new Random(13L);
+        for (int i = 0; i < 10_000; i++) {
+            long value = GENERATOR.valueAt(random.nextInt(1_000_000_000));
+            assertEquals(Arrays.binarySearch(values, value) >= 0, codec.contains(column, value));
+        }
+        assertFalse(codec.contains(column, values[0] + 1));
+        assertFalse(codec.contains(column, -1L));
+        assertFalse(codec.contains(column, 10_000_000_000L));
+    }
+
+    @DisplayName("구간 검색은 구간에 속하는 번호만 오름차순으로 전달한다")
+    @Test
+    void for_each_in_range() {
+        KbrnColumnCodec codec = new KbrnColumnCodec(64);
+        long[] values = sortedValues(3_000, 17L);
+        byte[] column = codec.encode(values);
+        Random random = new Random(19L);
+
+        for (int i = 0; i < 200; i++) {
+            long a = (long) (random.nextDouble() * 10_000_000_000L);
+            long b = (long) (random.nextDouble() * 10_000_000_000L);
+            long from = Math.min(a, b);
+            long to = i % 10 == 0 ? from + 1 + random.nextInt(100) : Math.max(a, b);
+            List<Long> actual = new ArrayList<>();
+
+            int count = codec.forEachInRange(column, from, to, actual::add);
+
+            List<Long> expected = new ArrayList<>();
+            for (long value : values) {
+                if (value >= from && value < to) {
+                    expected.add(value);
+                }
+            }
+            assertEquals(expected, actual);
+            assertEquals(expected.size(), count);
+        }
+        assertEquals(values.length, codec.forEachInRange(column, Long.MIN_VALUE, Long.MAX_VALUE, value -> { }));
+        assertEquals(1, codec.forEachInRange(column, values[5], values[5] + 1, value -> { }));
+        assertEquals(0, codec.forEachInRange(column, values[5], values[5], value -> { }));
+    }
+
+    @DisplayName("번호를 문자열로 저장할 때보다 작게 압축한다")
+    @Test
+    void compression_ratio() {
+        long[] values = sortedValues(100_000, 23L);
+
+        byte[] column = new KbrnColumnCodec().encode(values);
+
+        assertTrue(column.length < values.length * 3, "bytes = " + column.length);
+    }
+
+    @DisplayName("유효하지 않은 번호나 정렬되지 않은 목록, 압축한 열이 아닌 값에는 예외가 발생한다")
+    @Test
+    void invalid_arguments() {
+        KbrnColumnCodec codec = new KbrnColumnCodec();
+
+        assertThrows(IllegalArgumentException.class, () -> new KbrnColumnCodec(0));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new long[] { 1208147522L }));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new long[] { 2208162517L, 1208147521L }));
+        assertThrows(IllegalArgumentException.class,
+            () -> codec.encodeUnsorted(new long[] { 1208147522L }, 0, 1, new int[1]));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> codec.encodeUnsorted(new long[] { 1208147521L, 2208162517L }, 0, 2, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> codec.size(new byte[16]));
+        assertThrows(IllegalArgumentException.class, () -> codec.contains(new byte[3], 1208147521L));
+
+        byte[] column = codec.encode(new long[] { 1208147521L, 2208162517L });
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.decode(column, new long[1], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.decodeBlock(column, 1, new long[2], 0));
+    }
+
+    private static long[] sortedValues(int count, long seed) {
+        Random random = new Random(seed);
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = GENERATOR.valueAt(random.nextInt(1_000_000_000));
+        }
+        Arrays.sort(values);
+        return values;
+    }
+}
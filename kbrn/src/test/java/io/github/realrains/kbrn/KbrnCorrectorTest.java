@@ -0,0 +1,145 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnCorrector 테스트")
+class KbrnCorrectorTest {
+
+    @DisplayName("숫자 하나를 잘못 입력한 번호에 대해 원래 번호를 제안한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false, limit = 30)
+    void suggest_for_substitution(String value) {
+        KbrnCorrector corrector = new KbrnCorrector();
+        long expected = Long.parseLong(value);
+        char[] chars = value.toCharArray();
+
+        for (int i = 0; i < chars.length; i++) {
+            char original = chars[i];
+            for (char c = '0'; c <= '9'; c++) {
+                if (c == original) {
+                    continue;
+                }
+                chars[i] = c;
+                assertSuggested(corrector, new String(chars), expected);
+            }
+            chars[i] = original;
+        }
+    }
+
+    @DisplayName("이웃한 두 숫자를 바꿔 입력한 번호에 대해 원래 번호를 제안한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false, limit = 30)
+    void suggest_for_transposition(String value) {
+        KbrnCorrector corrector = new KbrnCorrector();
+        long expected = Long.parseLong(value);
+
+        for (int i = 0; i < value.length() - 1; i++) {
+            char[] chars = value.toCharArray();
+            char c = chars[i];
+            chars[i] = chars[i + 1];
+            chars[i + 1] = c;
+            String typo = new String(chars);
+            if (!KbrnUtils.isValid(typo)) {
+                assertSuggested(corrector, typo, expected);
+            }
+        }
+    }
+
+    @DisplayName("제안한 번호는 모두 유효하고 입력과 한 번의 치환 또는 전치만큼 다르다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValueSource(strings = { "1208147522", "120-81-47512", "2208162571", "0000000001", "9999999999" })
+    void suggestions_are_single_edits(String value) {
+        long[] suggestions = new long[KbrnCorrector.MAX_SUGGESTIONS];
+        int count = new KbrnCorrector().suggest(value, suggestions);
+        String typo = value.replace("-", "");
+
+        assertTrue(count >= 10);
+        Set<Long> distinct = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String candidate = KBRN.fromLong(suggestions[i]).plainValue();
+            assertTrue(isSingleEdit(typo, candidate), typo + " -> " + candidate);
+            assertTrue(distinct.add(suggestions[i]));
+        }
+    }
+
+    @DisplayName("알려진 번호 색인에 포함된 후보를 가장 먼저 제안한다")
+    @Test
+    void suggest_known_first() {
+        KbrnSet known = new KbrnSet();
+        known.add(1208147521L);
+        long[] withIndex = new long[KbrnCorrector.MAX_SUGGESTIONS];
+        long[] withoutIndex = new long[KbrnCorrector.MAX_SUGGESTIONS];
+
+        int count = new KbrnCorrector(known::contains).suggest("1208147512", withIndex);
+
+        assertEquals(count, new KbrnCorrector().suggest("1208147512", withoutIndex));
+        assertEquals(1208147521L, withIndex[0]);
+        long[] sorted = withIndex.clone();
+        long[] sortedWithout = withoutIndex.clone();
+        Arrays.sort(sorted, 0, count);
+        Arrays.sort(sortedWithout, 0, count);
+        assertArrayEquals(sortedWithout, sorted);
+    }
+
+    @DisplayName("색인이 없으면 전치 후보를 치환 후보보다 먼저 제안한다")
+    @Test
+    void suggest_transposition_first() {
+        long[] suggestions = new long[1];
+
+        assertEquals(1, new KbrnCorrector().suggest("120-81-47512", suggestions));
+        assertEquals(1208147521L, suggestions[0]);
+    }
+
+    @DisplayName("유효하거나 검증번호를 확인할 수 없는 입력에는 아무것도 제안하지 않는다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @NullAndEmptySource
+    @ValueSource(strings = { "1208147521", "120-81-47521", "120814752", "12O8147521", "120+81+47521" })
+    void suggest_nothing(String value) {
+        long[] suggestions = new long[KbrnCorrector.MAX_SUGGESTIONS];
+
+        assertEquals(0, new KbrnCorrector().suggest(value, suggestions));
+        assertArrayEquals(new long[KbrnCorrector.MAX_SUGGESTIONS], suggestions);
+    }
+
+    private static void assertSuggested(KbrnCorrector corrector, String typo, long expected) {
+        long[] suggestions = new long[KbrnCorrector.MAX_SUGGESTIONS];
+        int count = corrector.suggest(typo, suggestions);
+        for (int i = 0; i < count; i++) {
+            if (suggestions[i] == expected) {
+                return;
+            }
+        }
+        throw new AssertionError(typo + " should suggest " + expected);
+    }
+
+    private static boolean isSingleEdit(String a, String b) {
+        int first = -1;
+        int diffs = 0;
+        for (int i = 0; i < a.length(); i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                if (first < 0) {
+                    first = i;
+                }
+                diffs++;
+            }
+        }
+        if (diffs == 1) {
+            return true;
+        }
+        return diffs == 2 && first + 1 < a.length() && a.charAt(first) == b.charAt(first + 1)
+            && a.charAt(first + 1) == b.charAt(first);
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnExtractor 테스트")
+class KbrnExtractorTest {
+
+    private static final String TEXT = "세금계산서\n"
+        + "공급자 등록번호: 120-81-47521 (대표 010-1234-5678)\n"
+        + "공급받는자 2208162517, 지점 ２２０－８１－６２５１７\n"
+        + "OCR: 120 81 47521 / 120 – 81 – 47521 / 120-81-47522\n"
+        + "계좌 01208147521, 12O-81-47521, 120--81-47521, 120    81 47521";
+
+    @DisplayName("기본 형식과 구분자 형식의 사업자등록번호를 모두 찾는다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 30)
+    void extract_valid_value(String value) {
+        List<long[]> matches = extract("번호:" + value + "입니다");
+
+        assertEquals(1, matches.size());
+        assertEquals(3, matches.get(0)[0]);
+        assertEquals(3 + value.length(), matches.get(0)[1]);
+        assertEquals(KBRN.valueOf(value).toLong(), matches.get(0)[2]);
+    }
+
+    @DisplayName("공백, 여러 종류의 대시, 전각 숫자로 쓰인 번호의 위치와 값을 찾는다")
+    @Test
+    void extract_variant_forms() {
+        List<long[]> matches = extract(TEXT);
+
+        long[][] expected = {
+            { TEXT.indexOf("120-81-47521"), 1208147521L },
+            { TEXT.indexOf("2208162517"), 2208162517L },
+            { TEXT.indexOf("２２０"), 2208162517L },
+            { TEXT.indexOf("120 81 47521"), 1208147521L },
+            { TEXT.indexOf("120 – 81"), 1208147521L }
+        };
+        int[] lengths = { 12, 10, 12, 12, 16 };
+        assertEquals(expected.length, matches.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i][0], matches.get(i)[0]);
+            assertEquals(expected[i][0] + lengths[i], matches.get(i)[1]);
+            assertEquals(expected[i][1], matches.get(i)[2]);
+        }
+    }
+
+    @DisplayName("검증번호가 틀리거나 더 긴 숫자의 일부인 값은 찾지 않는다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValueSource(strings = {
+        "1208147522",          // 체크섬 오류
+        "120-81-47522",
+        "01208147521",         // 앞에 숫자가 붙음
+        "12081475210",         // 뒤에 숫자가 붙음
+        "1120-81-47521",
+        "120-81-475211",
+        "120-8147521",         // 구분자 하나 누락
+        "120--81-47521",       // 대시가 두 번
+        "120    81 47521",     // 구분 문자가 너무 김
+        "120\n81\n47521",      // 줄바꿈
+        "120/81/47521"         // 지원하지 않는 구분 문자
+    })
+    void ignore_invalid_candidates(String text) {
+        assertEquals(0, extract(text).size());
+    }
+
+    @DisplayName("Reader 에서 읽어도 버퍼 크기와 관계없이 문자 시퀀스와 같은 결과를 얻는다")
+    @ParameterizedTest(name = "bufferSize = {0}")
+    @ValueSource(ints = { 1, 3, 7, 13, 8192 })
+    void extract_from_reader(int bufferSize) throws IOException {
+        List<long[]> expected = extract(TEXT);
+        List<long[]> actual = new ArrayList<>();
+
+        long count = new KbrnExtractor(bufferSize).extract(new StringReader(TEXT),
+            (start, end, value) -> actual.add(new long[] { start, end, value }));
+
+        assertEquals(expected.size(), count);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(List.of(expected.get(i)[0], expected.get(i)[1], expected.get(i)[2]),
+                List.of(actual.get(i)[0], actual.get(i)[1], actual.get(i)[2]));
+        }
+    }
+
+    @DisplayName("버퍼 크기가 양수가 아니면 예외가 발생한다")
+    @Test
+    void invalid_buffer_size() {
+        assertThrows(IllegalArgumentException.class, () -> new KbrnExtractor(0));
+    }
+
+    private static List<long[]> extract(String text) {
+        List<long[]> matches = new ArrayList<>();
+        long count = new KbrnExtractor().extract(text, (start, end, value) -> matches.add(new long[] { start, end, value }));
+        assertEquals(matches.size(), count);
+        return matches;
+    }
+}
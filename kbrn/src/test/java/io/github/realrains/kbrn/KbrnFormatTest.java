@@ -0,0 +1,65 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("KbrnFormat 테스트")
+class KbrnFormatTest {
+
+    @DisplayName("숫자 값을 기본 형식의 바이트와 문자로 기록")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 20)
+    void write_plain(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+        byte[] bytes = new byte[12];
+        char[] chars = new char[12];
+
+        KbrnFormat.PLAIN.write(kbrn.toLong(), bytes, 1);
+        KbrnFormat.PLAIN.write(kbrn.toLong(), chars, 1);
+
+        assertEquals(kbrn.plainValue(), new String(bytes, 1, KbrnFormat.PLAIN.length(), StandardCharsets.US_ASCII));
+        assertEquals(kbrn.plainValue(), new String(chars, 1, KbrnFormat.PLAIN.length()));
+    }
+
+    @DisplayName("숫자 값을 구분자 형식의 바이트와 문자로 기록")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 20)
+    void write_delimited(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+        byte[] bytes = new byte[12];
+        char[] chars = new char[12];
+
+        KbrnFormat.DELIMITED.write(kbrn.toLong(), bytes, 0);
+        KbrnFormat.DELIMITED.write(kbrn.toLong(), chars, 0);
+
+        assertEquals(kbrn.delimitedValue(), new String(bytes, StandardCharsets.US_ASCII));
+        assertEquals(kbrn.delimitedValue(), new String(chars));
+    }
+
+    @DisplayName("앞 9자리 숫자 값으로 기록한 결과는 10자리 숫자 값으로 기록한 결과와 같다")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 20)
+    void write_body(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+        for (KbrnFormat format : KbrnFormat.values()) {
+            byte[] expectedBytes = new byte[format.length()];
+            char[] expectedChars = new char[format.length()];
+            byte[] bytes = new byte[format.length()];
+            char[] chars = new char[format.length()];
+
+            format.write(kbrn.toLong(), expectedBytes, 0);
+            format.write(kbrn.toLong(), expectedChars, 0);
+            format.writeBody(kbrn.packedBody(), bytes, 0);
+            format.writeBody(kbrn.packedBody(), chars, 0);
+
+            assertArrayEquals(expectedBytes, bytes);
+            assertArrayEquals(expectedChars, chars);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnGenerator 테스트")
+class KbrnGeneratorTest {
+
+    @DisplayName("조건이 없으면 모든 앞 9자리에 대해 하나씩 유효한 번호를 만든다")
+    @Test
+    void generate_all() {
+        KbrnGenerator generator = new KbrnGenerator();
+
+        assertEquals(1_000_000_000L, generator.size());
+        assertEquals(0L, generator.valueAt(0));
+        assertEquals(1208147521L, generator.valueAt(120814752L));
+        assertEquals(KBRN.valueOf("999999999" + KbrnUtils.checksumOf("999999999")).toLong(),
+            generator.valueAt(generator.size() - 1));
+    }
+
+    @DisplayName("사업자 유형 조건에 맞는 번호만 오름차순으로 만든다")
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(BusinessEntityType.class)
+    void generate_by_entity_type(BusinessEntityType type) {
+        KbrnGenerator generator = new KbrnGenerator().entityTypes(type).serialPrefixes("120");
+
+        long[] values = StreamSupport.longStream(generator.spliterator(), false).toArray();
+
+        assertEquals(generator.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            KBRN kbrn = KBRN.fromLong(values[i]);
+            assertEquals(type, kbrn.businessEntityType());
+            assertEquals("120", kbrn.serialPrefix());
+            assertEquals(values[i], generator.valueAt(i));
+            if (i > 0) {
+                assertTrue(values[i - 1] < values[i]);
+            }
+        }
+    }
+
+    @DisplayName("사업자 유형과 앞 3자리 조건을 함께 적용한다")
+    @Test
+    void generate_by_entity_type_and_serial_prefix() {
+        KbrnGenerator generator = new KbrnGenerator()
+            .entityTypes(BusinessEntityType.FOR_PROFIT_CORPORATE_HQ, BusinessEntityType.NON_PROFIT_CORPORATION)
+            .serialPrefixes("220", "120", "120");
+
+        assertEquals(2L * 5 * 10_000, generator.size());
+        assertEquals(1208100002L, generator.valueAt(0));
+        assertEquals("220", KBRN.fromLong(generator.valueAt(generator.size() - 1)).serialPrefix());
+        Set<BusinessEntityType> types = Set.of(BusinessEntityType.FOR_PROFIT_CORPORATE_HQ, BusinessEntityType.NON_PROFIT_CORPORATION);
+        StreamSupport.longStream(generator.spliterator(), false).forEach(value -> {
+            KBRN kbrn = KBRN.fromLong(value);
+            assertTrue(types.contains(kbrn.businessEntityType()));
+            assertTrue(Set.of("120", "220").contains(kbrn.serialPrefix()));
+        });
+    }
+
+    @DisplayName("순번 구간을 병렬로 나누어 만들어도 순차적으로 만든 결과와 같다")
+    @Test
+    void generate_range_in_parallel() {
+        KbrnGenerator generator = new KbrnGenerator().serialPrefixes("120", "121");
+
+        long[] sequential = StreamSupport.longStream(generator.spliterator(12_345, 1_234_567), false).toArray();
+        long[] parallel = StreamSupport.longStream(generator.spliterator(12_345, 1_234_567), true).toArray();
+
+        assertEquals(1_234_567 - 12_345, sequential.length);
+        assertEquals(generator.valueAt(12_345), sequential[0]);
+        assertEquals(generator.valueAt(1_234_566), sequential[sequential.length - 1]);
+        assertArrayEquals(sequential, parallel);
+    }
+
+    @DisplayName("하나씩 만들어도 한꺼번에 만든 결과와 같다")
+    @Test
+    void generate_one_by_one() {
+        KbrnGenerator generator = new KbrnGenerator();
+        Spliterator.OfLong spliterator = generator.spliterator(9_990, 10_020);
+        long[] expected = StreamSupport.longStream(generator.spliterator(9_990, 10_020), false).toArray();
+
+        long[] actual = new long[expected.length];
+        int[] count = { 0 };
+        while (spliterator.tryAdvance((long value) -> actual[count[0]++] = value)) {
+            assertEquals(expected.length - count[0], spliterator.estimateSize());
+        }
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @DisplayName("같은 시드로 만든 무작위 번호는 병렬 여부와 관계없이 같고, 모두 조건에 맞는다")
+    @Test
+    void generate_random() {
+        KbrnGenerator generator = new KbrnGenerator().entityTypes(BusinessEntityType.FOR_PROFIT_CORPORATE_BRANCH);
+
+        long[] sequential = StreamSupport.longStream(generator.randomSpliterator(100_000, 42L), false).toArray();
+        long[] parallel = StreamSupport.longStream(generator.randomSpliterator(100_000, 42L), true).toArray();
+        long[] other = StreamSupport.longStream(generator.randomSpliterator(100_000, 43L), false).toArray();
+
+        assertEquals(100_000, sequential.length);
+        assertArrayEquals(sequential, parallel);
+        assertNotEquals(sequential[0], other[0]);
+        for (long value : sequential) {
+            assertEquals(BusinessEntityType.FOR_PROFIT_CORPORATE_BRANCH, KBRN.fromLong(value).businessEntityType());
+        }
+        assertTrue(StreamSupport.longStream(generator.randomSpliterator(100_000, 42L), false).distinct().count() > 90_000);
+    }
+
+    @DisplayName("앞 3자리가 3자리 숫자가 아니면 예외가 발생한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValueSource(strings = { "", "12", "1200", "12A", "١٢٠" })
+    void invalid_serial_prefix(String prefix) {
+        assertThrows(IllegalArgumentException.class, () -> new KbrnGenerator().serialPrefixes(prefix));
+    }
+
+    @DisplayName("조건이 비어 있거나 순번과 개수가 범위를 벗어나면 예외가 발생한다")
+    @Test
+    void invalid_arguments() {
+        KbrnGenerator generator = new KbrnGenerator().serialPrefixes("120");
+
+        assertThrows(IllegalArgumentException.class, () -> generator.entityTypes());
+        assertThrows(IllegalArgumentException.class, () -> generator.serialPrefixes());
+        assertThrows(IllegalArgumentException.class, () -> generator.randomSpliterator(-1, 42L));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.valueAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.valueAt(generator.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.spliterator(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.spliterator(0, generator.size() + 1));
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnIndexReader 테스트")
+class KbrnIndexReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("기록한 사업자등록번호만 포함된 것으로 조회된다")
+    @Test
+    void contains_written_kbrns() throws IOException {
+        Random random = new Random(0);
+        TreeSet<Long> expected = new TreeSet<>();
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+        for (KBRN kbrn : KbrnSetTest.randomKbrns(random, 5_000)) {
+            writer.add(kbrn);
+            expected.add(kbrn.toLong());
+        }
+        Path path = tempDir.resolve("index.kbrn");
+        writer.write(path);
+
+        try (KbrnIndexReader reader = KbrnIndexReader.open(path)) {
+            assertEquals(expected.size(), reader.size());
+            for (long value : expected) {
+                assertTrue(reader.contains(value));
+                assertTrue(reader.contains(KBRN.fromLong(value)));
+            }
+            for (KBRN kbrn : KbrnSetTest.randomKbrns(random, 1_000)) {
+                assertEquals(expected.contains(kbrn.toLong()), reader.contains(kbrn));
+            }
+            assertFalse(reader.contains(1208147522L));
+
+            List<Long> actual = new ArrayList<>();
+            reader.forEach(actual::add);
+            assertEquals(new ArrayList<>(expected), actual);
+        }
+    }
+
+    @DisplayName("빈 인덱스 파일도 열 수 있다")
+    @Test
+    void open_empty_index() throws IOException {
+        Path path = tempDir.resolve("empty.kbrn");
+        new KbrnIndexWriter().write(path);
+
+        try (KbrnIndexReader reader = KbrnIndexReader.open(path)) {
+            assertEquals(0, reader.size());
+            assertFalse(reader.contains(KBRN.valueOf("120-81-47521")));
+        }
+    }
+
+    @DisplayName("열려 있는 인덱스 파일을 다시 기록해도 기존 객체는 기존 내용으로 조회한다")
+    @Test
+    void rewrite_while_reader_is_open() throws IOException {
+        Random random = new Random(1);
+        KBRN[] before = KbrnSetTest.randomKbrns(random, 200_000);
+        KBRN[] after = KbrnSetTest.randomKbrns(random, 1_000);
+        Path path = tempDir.resolve("blocklist.kbrn");
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+        for (KBRN kbrn : before) {
+            writer.add(kbrn);
+        }
+        int beforeCount = writer.write(path);
+
+        try (KbrnIndexReader old = KbrnIndexReader.open(path)) {
+            KbrnIndexWriter rewriter = new KbrnIndexWriter();
+            for (KBRN kbrn : after) {
+                rewriter.add(kbrn);
+            }
+            int afterCount = rewriter.write(path);
+
+            assertEquals(beforeCount, old.size());
+            for (KBRN kbrn : before) {
+                assertTrue(old.contains(kbrn));
+            }
+            try (KbrnIndexReader reloaded = KbrnIndexReader.open(path)) {
+                assertEquals(afterCount, reloaded.size());
+                for (KBRN kbrn : after) {
+                    assertTrue(reloaded.contains(kbrn));
+                }
+            }
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(path), files.collect(Collectors.toList()));
+        }
+    }
+
+    @DisplayName("닫은 인덱스 파일을 조회하면 예외가 발생한다")
+    @Test
+    void closed_reader() throws IOException {
+        Path path = tempDir.resolve("closed.kbrn");
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+        writer.add(KBRN.valueOf("120-81-47521"));
+        writer.write(path);
+
+        KbrnIndexReader reader = KbrnIndexReader.open(path);
+        assertTrue(reader.contains(1208147521L));
+        reader.close();
+        reader.close();
+
+        assertEquals(1, reader.size());
+        assertThrows(IllegalStateException.class, () -> reader.contains(1208147521L));
+        assertThrows(IllegalStateException.class, () -> reader.contains(KBRN.valueOf("120-81-47521")));
+        assertThrows(IllegalStateException.class, () -> reader.forEach(value -> { }));
+    }
+
+    @DisplayName("본문이 손상된 인덱스 파일을 열면 예외가 발생한다")
+    @Test
+    void open_corrupted_index() throws IOException {
+        Path path = tempDir.resolve("corrupted.kbrn");
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+        writer.add(KBRN.valueOf("120-81-47521"));
+        writer.write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        assertThrows(IOException.class, () -> KbrnIndexReader.open(path));
+    }
+
+    @DisplayName("인덱스 파일 형식이 아닌 파일을 열면 예외가 발생한다")
+    @Test
+    void open_non_index_file() throws IOException {
+        Path path = tempDir.resolve("sample.csv");
+        Files.write(path, "120-81-47521\n220-81-62517\n".getBytes());
+
+        assertThrows(IOException.class, () -> KbrnIndexReader.open(path));
+    }
+}
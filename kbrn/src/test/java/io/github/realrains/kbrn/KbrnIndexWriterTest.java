@@ -0,0 +1,48 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnIndexWriter 테스트")
+class KbrnIndexWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("중복을 제거하고 앞 9자리 숫자 값을 오름차순으로 기록한다")
+    @Test
+    void write_sorted_unique_bodies() throws IOException {
+        Path path = tempDir.resolve("index.kbrn");
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+        writer.add(KBRN.valueOf("220-81-62517"));
+        writer.add(KBRN.valueOf("120-81-47521"));
+        writer.add(1208147521L);
+
+        assertEquals(2, writer.write(path));
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        assertEquals(16 + 2 * 4, buffer.capacity());
+        assertEquals(0x4B42524E, buffer.getInt(0));
+        assertEquals(1, buffer.getInt(4));
+        assertEquals(2, buffer.getInt(8));
+        assertEquals(120814752, buffer.getInt(16));
+        assertEquals(220816251, buffer.getInt(20));
+    }
+
+    @DisplayName("유효하지 않은 숫자 값을 추가하면 예외가 발생한다")
+    @Test
+    void add_invalid_long_value() {
+        KbrnIndexWriter writer = new KbrnIndexWriter();
+
+        assertThrows(IllegalArgumentException.class, () -> writer.add(1208147522L));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnIntMap 테스트")
+class KbrnIntMapTest {
+
+    @DisplayName("사업자등록번호별 건수를 집계할 수 있다")
+    @Test
+    void count_by_kbrn() {
+        KbrnIntMap counts = new KbrnIntMap();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertEquals(1, counts.increment(kbrn));
+        assertEquals(3, counts.addTo(KBRN.valueOf("1208147521"), 2));
+        assertEquals(3, counts.get(kbrn));
+        assertEquals(1, counts.size());
+    }
+
+    @DisplayName("연결된 값이 없는 사업자등록번호의 값은 0 이다")
+    @Test
+    void get_absent_key() {
+        KbrnIntMap counts = new KbrnIntMap();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertEquals(0, counts.get(kbrn));
+        assertEquals(0, counts.remove(kbrn));
+        assertFalse(counts.containsKey(kbrn));
+    }
+
+    @DisplayName("put 은 이전 값을 반환하고, 제거 후에는 키가 포함되지 않는다")
+    @Test
+    void put_and_remove() {
+        KbrnIntMap counts = new KbrnIntMap();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertEquals(0, counts.put(kbrn, 7));
+        assertEquals(7, counts.put(kbrn, 9));
+        assertTrue(counts.containsKey(kbrn));
+        assertEquals(9, counts.remove(kbrn));
+        assertTrue(counts.isEmpty());
+    }
+
+    @DisplayName("집계와 제거를 반복해도 HashMap 과 같은 결과를 반환한다")
+    @Test
+    void behaves_like_hash_map() {
+        KbrnIntMap counts = new KbrnIntMap();
+        Map<KBRN, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+        KBRN[] pool = KbrnSetTest.randomKbrns(random, 2_000);
+
+        for (int i = 0; i < 50_000; i++) {
+            KBRN kbrn = pool[random.nextInt(pool.length)];
+            if (random.nextInt(4) > 0) {
+                int delta = random.nextInt(10);
+                assertEquals(expected.merge(kbrn, delta, Integer::sum), counts.addTo(kbrn, delta));
+            } else {
+                Integer removed = expected.remove(kbrn);
+                assertEquals(removed == null ? 0 : removed, counts.remove(kbrn));
+            }
+            assertEquals(expected.size(), counts.size());
+        }
+
+        Map<KBRN, Integer> actual = new HashMap<>();
+        counts.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnList 테스트")
+class KbrnListTest {
+
+    @DisplayName("객체, 숫자 값, 문자 배열로 추가한 사업자등록번호를 같은 값으로 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 50)
+    void add_and_get(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+        char[] chars = (" " + value + " ").toCharArray();
+        KbrnList list = new KbrnList();
+
+        list.add(kbrn);
+        list.add(kbrn.toLong());
+        list.add(chars, 1, value.length());
+
+        assertEquals(3, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(kbrn, list.get(i));
+            assertEquals(kbrn.toLong(), list.getLong(i));
+        }
+    }
+
+    @DisplayName("지정한 위치의 사업자등록번호를 바이트와 문자 배열에 기록한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 20)
+    void write_to_array(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+        KbrnList list = new KbrnList();
+        list.add(kbrn);
+        byte[] bytes = new byte[13];
+        char[] chars = new char[13];
+
+        assertEquals(12, list.writeTo(0, bytes, 1, KbrnFormat.DELIMITED));
+        assertEquals(10, list.writeTo(0, chars, 0, KbrnFormat.PLAIN));
+        assertEquals(kbrn.delimitedValue(), new String(bytes, 1, 12, StandardCharsets.US_ASCII));
+        assertEquals(kbrn.plainValue(), new String(chars, 0, 10));
+    }
+
+    @DisplayName("유효하지 않은 값을 추가하면 예외가 발생하고 목록은 바뀌지 않는다")
+    @Test
+    void add_invalid_value() {
+        KbrnList list = new KbrnList();
+        char[] chars = "120-81-47522".toCharArray();
+
+        assertThrows(IllegalArgumentException.class, () -> list.add(1208147522L));
+        assertThrows(IllegalArgumentException.class, () -> list.add(-1L));
+        assertThrows(IllegalArgumentException.class, () -> list.add(chars, 0, chars.length));
+        assertThrows(IllegalArgumentException.class, () -> list.add(chars, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(chars, 1, chars.length));
+        assertTrue(list.isEmpty());
+    }
+
+    @DisplayName("범위를 벗어난 위치를 조회하면 예외가 발생한다")
+    @Test
+    void index_out_of_bounds() {
+        KbrnList list = new KbrnList(4);
+        list.add(1208147521L);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.writeTo(1, new byte[12], 0, KbrnFormat.DELIMITED));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.writeTo(0, new char[11], 0, KbrnFormat.DELIMITED));
+        assertThrows(IllegalArgumentException.class, () -> new KbrnList(-1));
+    }
+
+    @DisplayName("여러 번 추가해도 ArrayList 와 같은 순서와 값을 유지한다")
+    @Test
+    void behaves_like_array_list() {
+        KbrnList list = new KbrnList();
+        List<KBRN> expected = new ArrayList<>();
+        KBRN[] pool = KbrnSetTest.randomKbrns(new Random(0), 10_000);
+
+        for (KBRN kbrn : pool) {
+            list.add(kbrn);
+            expected.add(kbrn);
+        }
+
+        List<KBRN> actual = new ArrayList<>();
+        list.forEach(actual::add);
+        assertEquals(expected, actual);
+        assertArrayEquals(expected.stream().mapToLong(KBRN::toLong).toArray(), list.toLongArray());
+    }
+
+    @DisplayName("비운 목록은 다시 사용할 수 있다")
+    @Test
+    void clear() {
+        KbrnList list = new KbrnList();
+        list.add(1208147521L);
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toLongArray().length);
+
+        list.add(2208162517L);
+        assertFalse(list.isEmpty());
+        assertEquals(2208162517L, list.getLong(0));
+    }
+
+    @DisplayName("같은 번호를 같은 순서로 가진 목록은 용량과 관계없이 같다")
+    @Test
+    void equals_and_hash_code() {
+        KbrnList a = new KbrnList();
+        KbrnList b = new KbrnList(100);
+        a.add(1208147521L);
+        a.add(2208162517L);
+        b.add(KBRN.valueOf("120-81-47521"));
+        b.add(KBRN.valueOf("220-81-62517"));
+        b.add(1208147521L);
+
+        assertNotEquals(a, b);
+        b.clear();
+        b.add(1208147521L);
+        b.add(2208162517L);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        KbrnList reversed = new KbrnList();
+        reversed.add(2208162517L);
+        reversed.add(1208147521L);
+        assertNotEquals(a, reversed);
+        assertEquals(new KbrnList(), new KbrnList(5));
+        assertNotEquals(a, null);
+    }
+
+    @DisplayName("문자열 표현은 모든 원소를 구분자 형식으로 나열한다")
+    @Test
+    void to_string() {
+        KbrnList list = new KbrnList();
+        assertEquals("KbrnList[]", list.toString());
+
+        list.add(1208147521L);
+        list.add(2208162517L);
+        assertEquals("KbrnList[120-81-47521, 220-81-62517]", list.toString());
+    }
+}
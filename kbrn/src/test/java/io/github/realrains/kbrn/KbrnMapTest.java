@@ -0,0 +1,73 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnMap 테스트")
+class KbrnMapTest {
+
+    @DisplayName("사업자등록번호에 값을 연결하고 조회할 수 있다")
+    @Test
+    void put_and_get() {
+        KbrnMap<String> map = new KbrnMap<>();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertNull(map.put(kbrn, "A"));
+        assertEquals("A", map.put(KBRN.valueOf("1208147521"), "B"));
+        assertEquals("B", map.get(kbrn));
+        assertTrue(map.containsKey(kbrn));
+        assertEquals(1, map.size());
+    }
+
+    @DisplayName("연결된 값이 없는 사업자등록번호를 조회하면 null 또는 기본값을 반환한다")
+    @Test
+    void get_absent_key() {
+        KbrnMap<String> map = new KbrnMap<>();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+
+        assertNull(map.get(kbrn));
+        assertEquals("default", map.getOrDefault(kbrn, "default"));
+        assertFalse(map.containsKey(kbrn));
+    }
+
+    @DisplayName("null 값은 연결할 수 없다")
+    @Test
+    void put_null_value() {
+        KbrnMap<String> map = new KbrnMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(KBRN.valueOf("120-81-47521"), null));
+    }
+
+    @DisplayName("추가와 제거를 반복해도 HashMap 과 같은 결과를 반환한다")
+    @Test
+    void behaves_like_hash_map() {
+        KbrnMap<Integer> map = new KbrnMap<>();
+        Map<KBRN, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+        KBRN[] pool = KbrnSetTest.randomKbrns(random, 2_000);
+
+        for (int i = 0; i < 50_000; i++) {
+            KBRN kbrn = pool[random.nextInt(pool.length)];
+            if (random.nextInt(3) > 0) {
+                assertEquals(expected.put(kbrn, i), map.put(kbrn, i));
+            } else {
+                assertEquals(expected.remove(kbrn), map.remove(kbrn));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<KBRN, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
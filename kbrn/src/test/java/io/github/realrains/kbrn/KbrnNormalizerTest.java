@@ -0,0 +1,154 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.InvalidKbrnSource;
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnNormalizer 테스트")
+class KbrnNormalizerTest {
+
+    private static final CharSequence[] MIXED = {
+        "120-81-47521",                       // 구분자 형식
+        "2208162517",                         // 기본 형식
+        new StringBuilder("220-81-62517"),    // String 이 아닌 문자 시퀀스
+        "120-81-47522",                       // 체크섬 오류
+        "",                                   // 빈 문자열
+        null,                                 // null
+        "120+81+47521",                       // 구분자 오류
+        "12O8147521"                          // 문자 오류
+    };
+
+    private static final ValidationResult[] EXPECTED_RESULTS = {
+        ValidationResult.VALID, ValidationResult.VALID, ValidationResult.VALID, ValidationResult.BAD_CHECKSUM,
+        ValidationResult.BAD_LENGTH, ValidationResult.BAD_LENGTH, ValidationResult.BAD_DELIMITER, ValidationResult.BAD_CHAR
+    };
+
+    @DisplayName("유효한 값을 KbrnUtils 의 형식 변환과 같은 문자열로 정규화한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 50)
+    void normalize_valid_value(String value) {
+        String[] plain = new String[1];
+        String[] delimited = new String[1];
+        ValidationResult[] results = new ValidationResult[1];
+
+        assertEquals(1, new KbrnNormalizer(KbrnFormat.PLAIN).normalize(new String[] { value }, plain, results));
+        assertEquals(ValidationResult.VALID, results[0]);
+        assertEquals(1, new KbrnNormalizer(KbrnFormat.DELIMITED).normalize(new String[] { value }, delimited, results));
+        assertEquals(KbrnUtils.toPlainFormat(value), plain[0]);
+        assertEquals(KbrnUtils.toDelimitedFormat(value), delimited[0]);
+    }
+
+    @DisplayName("유효하지 않은 값은 예외 없이 검증 결과만 기록한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @InvalidKbrnSource
+    void normalize_invalid_value(String value) {
+        String[] out = { "unchanged" };
+        ValidationResult[] results = new ValidationResult[1];
+
+        assertEquals(0, new KbrnNormalizer(KbrnFormat.PLAIN).normalize(new String[] { value }, out, results));
+        assertNull(out[0]);
+        assertEquals(ValidationResult.of(KbrnScanner.scan(value)), results[0]);
+    }
+
+    @DisplayName("형식이 섞인 배열과 목록을 원소마다 검증 결과와 함께 정규화한다")
+    @Test
+    void normalize_mixed_values() {
+        KbrnNormalizer normalizer = new KbrnNormalizer(KbrnFormat.DELIMITED);
+        String[] expected = { "120-81-47521", "220-81-62517", "220-81-62517", null, null, null, null, null };
+
+        String[] fromArray = new String[MIXED.length];
+        ValidationResult[] arrayResults = new ValidationResult[MIXED.length];
+        assertEquals(3, normalizer.normalize(MIXED, fromArray, arrayResults));
+        assertArrayEquals(expected, fromArray);
+        assertArrayEquals(EXPECTED_RESULTS, arrayResults);
+
+        String[] fromList = new String[MIXED.length];
+        ValidationResult[] listResults = new ValidationResult[MIXED.length];
+        assertEquals(3, normalizer.normalize(new LinkedList<>(Arrays.asList(MIXED)), fromList, listResults));
+        assertArrayEquals(expected, fromList);
+        assertArrayEquals(EXPECTED_RESULTS, listResults);
+    }
+
+    @DisplayName("이미 출력 형식인 문자열은 새로 만들지 않는다")
+    @Test
+    void reuse_string_in_output_format() {
+        String plain = "2208162517";
+        String delimited = "120-81-47521";
+        String[] out = new String[2];
+
+        new KbrnNormalizer(KbrnFormat.PLAIN).normalize(new String[] { plain, delimited }, out, new ValidationResult[2]);
+
+        assertSame(plain, out[0]);
+        assertEquals("1208147521", out[1]);
+    }
+
+    @DisplayName("바이트와 문자 배열에 원소마다 고정 길이로 기록하고 유효하지 않은 자리는 남겨둔다")
+    @Test
+    void normalize_into_buffer() {
+        KbrnNormalizer normalizer = new KbrnNormalizer(KbrnFormat.PLAIN);
+        CharSequence[] values = { "120-81-47521", "120-81-47522", "2208162517" };
+        byte[] bytes = new byte[2 + 30];
+        char[] chars = new char[30];
+        Arrays.fill(bytes, (byte) '*');
+        Arrays.fill(chars, '*');
+        ValidationResult[] results = new ValidationResult[3];
+
+        assertEquals(2, normalizer.normalize(values, bytes, 2, results));
+        assertEquals("**1208147521**********2208162517", new String(bytes, StandardCharsets.US_ASCII));
+        assertArrayEquals(new ValidationResult[] {
+            ValidationResult.VALID, ValidationResult.BAD_CHECKSUM, ValidationResult.VALID
+        }, results);
+
+        assertEquals(2, normalizer.normalize(Arrays.asList(values), chars, 0, results));
+        assertEquals("1208147521**********2208162517", new String(chars));
+    }
+
+    @DisplayName("출력 배열이나 버퍼가 부족하면 아무것도 기록하지 않고 예외가 발생한다")
+    @Test
+    void normalize_out_of_bounds() {
+        KbrnNormalizer normalizer = new KbrnNormalizer(KbrnFormat.DELIMITED);
+        String[] values = { "120-81-47521", "2208162517" };
+        ValidationResult[] results = new ValidationResult[2];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> normalizer.normalize(values, new String[1], results));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> normalizer.normalize(values, new String[2], new ValidationResult[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> normalizer.normalize(values, new byte[24], 1, results));
+        assertThrows(IndexOutOfBoundsException.class, () -> normalizer.normalize(values, new char[24], -1, results));
+        assertArrayEquals(new ValidationResult[2], results);
+    }
+
+    @DisplayName("스트림의 원소를 순서대로 위치와 함께 핸들러에 전달한다")
+    @Test
+    void normalize_stream() {
+        List<Long> indexes = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<ValidationResult> results = new ArrayList<>();
+
+        long validCount = new KbrnNormalizer(KbrnFormat.PLAIN).normalize(Stream.of(MIXED), (index, value, result) -> {
+            indexes.add(index);
+            values.add(value);
+            results.add(result);
+        });
+
+        assertEquals(3, validCount);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L), indexes);
+        assertEquals(Arrays.asList("1208147521", "2208162517", "2208162517", null, null, null, null, null), values);
+        assertEquals(List.of(EXPECTED_RESULTS), results);
+    }
+}
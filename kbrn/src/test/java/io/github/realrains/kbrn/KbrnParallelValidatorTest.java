@@ -0,0 +1,122 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KbrnParallelValidator 테스트")
+class KbrnParallelValidatorTest {
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @DisplayName("샘플 파일의 모든 줄을 유효한 사업자등록번호로 검증하고 정규화하여 기록한다")
+    @Test
+    void validate_sample_file() throws IOException, URISyntaxException {
+        Path path = Paths.get(Objects.requireNonNull(getClass().getResource("/kbrn_sample.csv")).toURI());
+        Path output = tempDir.resolve("kbrn.out");
+
+        KbrnParallelValidator.Report report = new KbrnParallelValidator(ForkJoinPool.commonPool(), 1024)
+            .validate(path, output, KbrnFormat.PLAIN);
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(lines.size(), report.lineCount());
+        assertEquals(lines.size(), report.validCount());
+        assertEquals(0, report.invalidLineNumbers().length);
+        List<String> normalized = Files.readAllLines(output);
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(KbrnUtils.toPlainFormat(lines.get(i)), normalized.get(i));
+        }
+    }
+
+    @DisplayName("구간 크기와 관계없이 KbrnBulkValidator 와 같은 결과를 입력 순서대로 합친다")
+    @ParameterizedTest(name = "segmentSize = {0}")
+    @ValueSource(ints = { 1, 5, 13, 100, 4096, 1 << 20 })
+    void validate_same_as_bulk_validator(int segmentSize) throws IOException {
+        Random random = new Random(segmentSize);
+        StringBuilder input = new StringBuilder();
+        for (KBRN kbrn : KbrnSetTest.randomKbrns(random, 500)) {
+            switch (random.nextInt(6)) {
+                case 0: input.append(kbrn.plainValue()).append('\n'); break;
+                case 1: input.append(kbrn.delimitedValue()).append("\r\n"); break;
+                case 2: input.append(kbrn.plainValue(), 0, 9).append((kbrn.checksum() - '0' + 1) % 10).append('\n'); break;
+                case 3: input.append('\n'); break;
+                case 4: input.append(kbrn.plainValue()).append(kbrn.plainValue()).append('\n'); break;
+                default: input.append(kbrn.delimitedValue().replace('-', '+')).append('\n'); break;
+            }
+        }
+        input.append("220-81-62517"); // 마지막 줄 (줄바꿈 없음)
+        Path path = tempDir.resolve("kbrn.csv");
+        Files.write(path, input.toString().getBytes(StandardCharsets.US_ASCII));
+
+        List<Long> invalidLines = new ArrayList<>();
+        StringBuilder expectedOutput = new StringBuilder();
+        KbrnBulkValidator.Summary summary = new KbrnBulkValidator().validate(path, (line, offset, value, result) -> {
+            if (result.isValid()) {
+                expectedOutput.append(KBRN.fromLong(value).delimitedValue()).append('\n');
+            } else {
+                invalidLines.add(line);
+            }
+        });
+
+        Path output = tempDir.resolve("kbrn.out");
+        KbrnParallelValidator.Report report = new KbrnParallelValidator(pool, segmentSize)
+            .validate(path, output, KbrnFormat.DELIMITED);
+
+        assertEquals(summary.lineCount(), report.lineCount());
+        assertEquals(summary.validCount(), report.validCount());
+        assertEquals(summary.invalidCount(), report.invalidCount());
+        assertArrayEquals(invalidLines.stream().mapToLong(Long::longValue).toArray(), report.invalidLineNumbers());
+        assertEquals(expectedOutput.toString(), new String(Files.readAllBytes(output), StandardCharsets.US_ASCII));
+    }
+
+    @DisplayName("빈 파일은 줄이 없는 것으로 본다")
+    @Test
+    void validate_empty_file() throws IOException {
+        Path path = Files.createFile(tempDir.resolve("empty.csv"));
+        Path output = tempDir.resolve("empty.out");
+
+        KbrnParallelValidator.Report report = new KbrnParallelValidator().validate(path, output, KbrnFormat.PLAIN);
+
+        assertEquals(0, report.lineCount());
+        assertEquals(0, Files.size(output));
+    }
+
+    @DisplayName("구간 크기가 양수가 아니면 예외가 발생한다")
+    @Test
+    void invalid_segment_size() {
+        assertThrows(IllegalArgumentException.class, () -> new KbrnParallelValidator(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.realrains.kbrn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("KbrnScanner 테스트")
+class KbrnScannerTest {
+
+    @DisplayName("문자 시퀀스, 바이트 배열, 문자 배열, 바이트 버퍼를 같은 결과로 검사한다")
+    @ParameterizedTest(name = "CASE {index} - {0} -> {1}")
+    @CsvSource({
+        "1208147521,     VALID",
+        "120-81-47521,   VALID",
+        "0000000000,     VALID",
+        "999-99-99997,   VALID",
+        "'',             BAD_LENGTH",
+        "120814752,      BAD_LENGTH",
+        "12081475210,    BAD_LENGTH",
+        "120-81-4752,    BAD_LENGTH",
+        "120-81-475210,  BAD_LENGTH",
+        "12O8147521,     BAD_CHAR",
+        "120814752/,     BAD_CHAR",
+        "120814752:,     BAD_CHAR",
+        "120-8A-47521,   BAD_CHAR",
+        "12-0814752-1,   BAD_CHAR",
+        "120+81+47521,   BAD_DELIMITER",
+        "120-8147-521,   BAD_DELIMITER",
+        "120-81-4752-,   BAD_CHAR",
+        "12A+81-47521,   BAD_CHAR",
+        "1208147522,     BAD_CHECKSUM",
+        "120-81-47522,   BAD_CHECKSUM",
+        "9999999999,     BAD_CHECKSUM"
+    })
+    void scan_all_sources(String value, ValidationResult expected) {
+        long expectedValue = expected.isValid() ? Long.parseLong(value.replace("-", "")) : -1;
+        String padded = "##" + value + "#";
+        byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        int length = value.length();
+
+        long[] results = {
+            KbrnScanner.scan(value),
+            KbrnScanner.scan(new StringBuilder(value)),
+            KbrnScanner.scan(bytes, 2, length),
+            KbrnScanner.scan(padded.toCharArray(), 2, length),
+            KbrnScanner.scan(ByteBuffer.wrap(bytes), 2, length),
+            KbrnScanner.scan(direct, 2, length)
+        };
+
+        for (long result : results) {
+            assertEquals(expected, ValidationResult.of(result));
+            assertEquals(expectedValue, Math.max(result, -1));
+        }
+    }
+
+    @DisplayName("ASCII 범위를 벗어난 바이트와 문자는 숫자나 구분자로 보지 않는다")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @CsvSource({
+        "0,  BAD_CHAR",
+        "3,  BAD_DELIMITER",
+        "11, BAD_CHAR"
+    })
+    void scan_non_ascii(int index, ValidationResult expected) {
+        char[] chars = "120-81-47521".toCharArray();
+        byte[] bytes = "120-81-47521".getBytes(StandardCharsets.US_ASCII);
+        chars[index] += 0x100;
+        bytes[index] |= (byte) 0x80;
+
+        assertEquals(expected, ValidationResult.of(KbrnScanner.scan(chars, 0, chars.length)));
+        assertEquals(expected, ValidationResult.of(KbrnScanner.scan(new String(chars))));
+        assertEquals(expected, ValidationResult.of(KbrnScanner.scan(bytes, 0, bytes.length)));
+        assertEquals(expected, ValidationResult.of(KbrnScanner.scan(ByteBuffer.wrap(bytes), 0, bytes.length)));
+    }
+
+    @DisplayName("자리별 가중합으로 계산한 검증번호가 미리 계산한 표로 얻은 검증번호와 같다")
+    @Test
+    void term_matches_checksum_tables() {
+        for (int body = 0; body < 1_000_000_000; body += 9_973) {
+            int ws = 0;
+            int rest = body;
+            for (int i = 8; i >= 0; i--) {
+                ws += KbrnScanner.term(i, rest % 10);
+                rest /= 10;
+            }
+            assertEquals(KbrnScanner.checksumDigitOf(body), KbrnScanner.checksumDigitOfSum(ws));
+            assertEquals(KbrnUtils.checksumOf(String.format("%09d", body)) - '0', KbrnScanner.checksumDigitOf(body));
+        }
+        assertEquals(1, KbrnScanner.checksumDigitOf(120_814_752));
+        assertEquals(0, KbrnScanner.term(9, 7));
+    }
+}
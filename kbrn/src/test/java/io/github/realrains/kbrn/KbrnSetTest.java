@@ -0,0 +1,93 @@
+package io.github.realrains.kbrn;
+
+import io.github.realrains.kbrn.helper.ValidKbrnSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("KbrnSet 테스트")
+class KbrnSetTest {
+
+    @DisplayName("추가한 사업자등록번호는 형식과 관계없이 포함된 것으로 판단한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = false, delimited = true)
+    void contains_added_kbrn(String value) {
+        KbrnSet set = new KbrnSet();
+
+        assertTrue(set.add(KBRN.valueOf(value)));
+        assertFalse(set.add(KBRN.valueOf(value.replace("-", ""))));
+        assertTrue(set.contains(KBRN.valueOf(value)));
+        assertTrue(set.contains(KBRN.valueOf(value).toLong()));
+        assertEquals(1, set.size());
+    }
+
+    @DisplayName("제거한 사업자등록번호는 더 이상 포함되지 않는다")
+    @Test
+    void remove_kbrn() {
+        KbrnSet set = new KbrnSet();
+        KBRN kbrn = KBRN.valueOf("120-81-47521");
+        set.add(kbrn);
+
+        assertTrue(set.remove(kbrn));
+        assertFalse(set.remove(kbrn));
+        assertFalse(set.contains(kbrn));
+        assertTrue(set.isEmpty());
+    }
+
+    @DisplayName("유효하지 않은 숫자 값은 포함되지 않은 것으로 판단하고, 추가할 때는 예외가 발생한다")
+    @Test
+    void invalid_long_value() {
+        KbrnSet set = new KbrnSet();
+
+        assertFalse(set.contains(1208147522L));
+        assertFalse(set.contains(-1L));
+        assertThrows(IllegalArgumentException.class, () -> set.add(1208147522L));
+    }
+
+    @DisplayName("추가와 제거를 반복해도 HashSet 과 같은 결과를 반환한다")
+    @Test
+    void behaves_like_hash_set() {
+        KbrnSet set = new KbrnSet();
+        Set<KBRN> expected = new HashSet<>();
+        Random random = new Random(0);
+        KBRN[] pool = randomKbrns(random, 2_000);
+
+        for (int i = 0; i < 50_000; i++) {
+            KBRN kbrn = pool[random.nextInt(pool.length)];
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(kbrn), set.add(kbrn));
+            } else {
+                assertEquals(expected.remove(kbrn), set.remove(kbrn));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+
+        Set<KBRN> actual = new HashSet<>();
+        set.forEach(actual::add);
+        assertEquals(expected, actual);
+        assertArrayEquals(
+            expected.stream().mapToLong(KBRN::toLong).sorted().toArray(),
+            Arrays.stream(set.toLongArray()).sorted().toArray()
+        );
+    }
+
+    static KBRN[] randomKbrns(Random random, int count) {
+        KBRN[] kbrns = new KBRN[count];
+        for (int i = 0; i < count; i++) {
+            String body = String.format("%09d", random.nextInt(1_000_000_000));
+            kbrns[i] = KBRN.valueOf(body + KbrnUtils.checksumOf(body));
+        }
+        return kbrns;
+    }
+}
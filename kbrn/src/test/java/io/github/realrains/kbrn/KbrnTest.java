@@ -6,6 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.ADD;
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.CHECKSUM;
@@ -13,6 +17,7 @@ import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.MOVE_HY
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.REMOVE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("KBRN 객체 테스트")
@@ -89,6 +94,25 @@ class KbrnTest {
         assertThrows(IllegalArgumentException.class, () -> KBRN.valueOf(value));
     }
 
+    @DisplayName("tryParse 는 유효한 사업자등록번호 문자 시퀀스로부터 valueOf 와 같은 KBRN 객체를 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 30)
+    void try_parse_valid_value(String value) {
+        assertEquals(Optional.of(KBRN.valueOf(value)), KBRN.tryParse(value));
+        assertEquals(Optional.of(KBRN.valueOf(value)), KBRN.tryParse(new StringBuilder(value)));
+
+        KBRN kbrn = KBRN.tryParse(value).orElseThrow();
+        assertEquals(value, value.length() == 10 ? kbrn.plainValue() : kbrn.delimitedValue());
+    }
+
+    @DisplayName("tryParse 는 유효하지 않은 값에 대해 예외 없이 빈 Optional 을 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @InvalidKbrnSource(checksumVariations = 2, limit = 50)
+    @NullAndEmptySource
+    void try_parse_invalid_value(String value) {
+        assertEquals(Optional.empty(), KBRN.tryParse(value));
+    }
+
     @DisplayName("KBRN 객체가 올바른 구분 기호 형식의 문자열을 반환한다")
     @Test
     void get_delimited_value() {
@@ -146,6 +170,33 @@ class KbrnTest {
         assertEquals('7', kbrn.checksum());
     }
 
+    @DisplayName("KBRN 객체를 10자리 숫자 값으로 변환하고 다시 복원할 수 있다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(plain = true, delimited = false)
+    void convert_kbrn_to_long_and_back(String value) {
+        KBRN kbrn = KBRN.valueOf(value);
+
+        assertEquals(Long.parseLong(value), kbrn.toLong());
+        assertEquals(kbrn, KBRN.fromLong(kbrn.toLong()));
+        assertEquals(value, KBRN.fromLong(kbrn.toLong()).plainValue());
+    }
+
+    @DisplayName("앞자리가 0 인 사업자등록번호도 숫자 값으로부터 복원할 수 있다")
+    @Test
+    void restore_kbrn_with_leading_zeros() {
+        String value = "000000001" + KbrnUtils.checksumOf("000000001");
+        KBRN kbrn = KBRN.fromLong(Long.parseLong(value));
+
+        assertEquals(value, kbrn.plainValue());
+    }
+
+    @DisplayName("검증번호가 올바르지 않거나 범위를 벗어난 숫자 값으로 KBRN 객체를 생성할 때 예외가 발생한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValueSource(longs = { 1208147522L, -1L, 10_000_000_000L })
+    void create_kbrn_from_invalid_long(long value) {
+        assertThrows(IllegalArgumentException.class, () -> KBRN.fromLong(value));
+    }
+
     @DisplayName("KBRN 객체는 정해진 형식의 문자열로 표현된다")
     @Test
     void kbrn_to_string() {
@@ -153,4 +204,68 @@ class KbrnTest {
 
         assertEquals("KBRN{'220-81-62517'}", kbrn.toString());
     }
+
+    @DisplayName("문자열 표현은 한 번 만들어지면 같은 인스턴스를 반환한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 20)
+    void cache_string_values(String value) {
+        KBRN kbrn = KBRN.fromLong(KBRN.valueOf(value).toLong());
+
+        assertEquals(value.replace("-", ""), kbrn.plainValue());
+        assertSame(kbrn.plainValue(), kbrn.plainValue());
+        assertEquals(KbrnUtils.toDelimitedFormat(value), kbrn.delimitedValue());
+        assertSame(kbrn.delimitedValue(), kbrn.delimitedValue());
+    }
+
+    @DisplayName("어떤 형식의 문자열로 생성해도 두 형식의 문자열 표현이 같다")
+    @Test
+    void string_forms_from_source_string() {
+        String plain = "1208147521";
+        String delimited = "220-81-62517";
+
+        assertEquals(plain, KBRN.valueOf(plain).plainValue());
+        assertEquals("120-81-47521", KBRN.valueOf(plain).delimitedValue());
+        assertEquals(delimited, KBRN.valueOf(delimited).delimitedValue());
+        assertEquals("2208162517", KBRN.valueOf(delimited).plainValue());
+    }
+
+    @DisplayName("KBRN 객체를 지정한 형식의 바이트와 문자로 배열에 기록한다")
+    @ParameterizedTest(name = "CASE {index} = {0}")
+    @ValidKbrnSource(limit = 20)
+    void write_to_array(String value) {
+        for (KBRN kbrn : new KBRN[] { KBRN.valueOf(value), KBRN.fromLong(KBRN.valueOf(value).toLong()) }) {
+            byte[] bytes = new byte[14];
+            char[] chars = new char[14];
+
+            assertEquals(12, kbrn.writeTo(bytes, 1, KbrnFormat.DELIMITED));
+            assertEquals(12, kbrn.writeTo(chars, 2, KbrnFormat.DELIMITED));
+            assertEquals(KbrnUtils.toDelimitedFormat(value), new String(bytes, 1, 12, StandardCharsets.US_ASCII));
+            assertEquals(KbrnUtils.toDelimitedFormat(value), new String(chars, 2, 12));
+
+            assertEquals(10, kbrn.writeTo(bytes, 0, KbrnFormat.PLAIN));
+            assertEquals(10, kbrn.writeTo(chars, 4, KbrnFormat.PLAIN));
+            assertEquals(KbrnUtils.toPlainFormat(value), new String(bytes, 0, 10, StandardCharsets.US_ASCII));
+            assertEquals(KbrnUtils.toPlainFormat(value), new String(chars, 4, 10));
+        }
+    }
+
+    @DisplayName("배열에 기록할 공간이 부족하면 예외가 발생한다")
+    @Test
+    void write_to_array_out_of_bounds() {
+        KBRN kbrn = KBRN.valueOf("220-81-62517");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> kbrn.writeTo(new byte[11], 0, KbrnFormat.DELIMITED));
+        assertThrows(IndexOutOfBoundsException.class, () -> kbrn.writeTo(new char[12], 3, KbrnFormat.PLAIN));
+        assertThrows(IndexOutOfBoundsException.class, () -> kbrn.writeTo(new byte[12], -1, KbrnFormat.PLAIN));
+    }
+
+    @DisplayName("하위 클래스에서 기본 형식이 아닌 값이나 null 로 생성하면 IllegalArgumentException 을 던진다")
+    @Test
+    void subclass_rejects_null_and_non_plain_value() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new KBRN(null) { });
+        assertEquals("Value must be in plain format (e.g., \"1234567890\") : null", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new KBRN("120-81-47521") { });
+        assertThrows(IllegalArgumentException.class, () -> new KBRN("1208147522") { });
+        assertEquals(1208147521L, new KBRN("1208147521") { }.toLong());
+    }
 }
@@ -5,9 +5,13 @@ import io.github.realrains.kbrn.helper.InvalidKbrnSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.ADD;
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.CHECKSUM;
 import static io.github.realrains.kbrn.helper.InvalidKbrnSource.Strategy.MOVE_HYPHEN;
@@ -41,6 +45,35 @@ class KbrnUtilsTest {
         assertFalse(KbrnUtils.isValid(value));
     }
 
+    @DisplayName("String 이 아닌 문자 시퀀스도 사업자등록번호인지 검사")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 30)
+    void check_valid_kbrn_char_sequence(String value) {
+        assertTrue(KbrnUtils.isValid(new StringBuilder(value)));
+    }
+
+    @DisplayName("String 이 아닌 문자 시퀀스도 올바르지 않은 사업자등록번호인지 검사")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @InvalidKbrnSource(checksumVariations = 2, limit = 100)
+    void check_invalid_kbrn_char_sequence(String value) {
+        assertFalse(KbrnUtils.isValid(new StringBuilder(value)));
+    }
+
+    @DisplayName("ASCII 숫자가 아니거나 줄바꿈이 포함된 문자열은 올바르지 않은 사업자등록번호 형식으로 판단")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValueSource(strings = {
+        "120814752١",   // 아랍-인도 숫자
+        "１２０８１４７５２１", // 전각 숫자
+        "120814752\n",       // 줄바꿈 문자
+        "120-81-4752\n",
+        "120+81+47521",      // 잘못된 구분자
+        "12081-47521"        // 구분자 누락
+    })
+    void check_non_ascii_digit_format(String value) {
+        assertFalse(KbrnUtils.isValidFormat(value));
+        assertFalse(KbrnUtils.isValid(value));
+    }
+
     @DisplayName("주어진 문자열이 올바른 사업자등록번호 형식인지 검사")
     @ParameterizedTest(name = "CASE {index} - {0}")
     @ValidKbrnSource(limit = 30)
@@ -186,4 +219,112 @@ class KbrnUtilsTest {
     void check_null_or_empty_checksum(String value) {
         assertThrows(IllegalArgumentException.class, () -> KbrnUtils.hasValidChecksum(value));
     }
+
+    @DisplayName("바이트 배열, 문자 배열, 바이트 버퍼의 구간이 유효한 사업자등록번호인지 검사")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 30)
+    void check_valid_kbrn_buffers(String value) {
+        byte[] bytes = ("  " + value + "\n").getBytes(StandardCharsets.US_ASCII);
+        char[] chars = ("  " + value + "\n").toCharArray();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.position(2).limit(2 + value.length());
+
+        assertTrue(KbrnUtils.isValid(bytes, 2, value.length()));
+        assertTrue(KbrnUtils.isValid(chars, 2, value.length()));
+        assertTrue(KbrnUtils.isValidRemaining(ByteBuffer.wrap(bytes, 2, value.length())));
+        assertTrue(KbrnUtils.isValidRemaining(direct));
+        assertEquals(2, direct.position());
+    }
+
+    @DisplayName("바이트 배열, 문자 배열, 바이트 버퍼의 구간이 올바르지 않은 사업자등록번호인지 검사")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @InvalidKbrnSource(checksumVariations = 2, limit = 100)
+    void check_invalid_kbrn_buffers(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        char[] chars = value.toCharArray();
+
+        assertFalse(KbrnUtils.isValid(bytes, 0, bytes.length));
+        assertFalse(KbrnUtils.isValid(chars, 0, chars.length));
+        assertFalse(KbrnUtils.isValidRemaining(ByteBuffer.wrap(bytes)));
+    }
+
+    @DisplayName("유효한 사업자등록번호를 10자리 숫자 값으로 변환")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 30)
+    void parse_valid_kbrn(String value) {
+        long expected = Long.parseLong(value.replace("-", ""));
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(expected, KbrnUtils.parse(value));
+        assertEquals(expected, KbrnUtils.parse(bytes, 0, bytes.length));
+        assertEquals(expected, KbrnUtils.parse(value.toCharArray(), 0, value.length()));
+        assertEquals(expected, KbrnUtils.parseRemaining(ByteBuffer.wrap(bytes)));
+        assertEquals(KBRN.valueOf(value), KBRN.fromLong(expected));
+    }
+
+    @DisplayName("올바르지 않은 사업자등록번호를 변환하면 -1 을 반환")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @InvalidKbrnSource(checksumVariations = 2, limit = 50)
+    void parse_invalid_kbrn(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(-1, KbrnUtils.parse(value));
+        assertEquals(-1, KbrnUtils.parse(bytes, 0, bytes.length));
+        assertEquals(-1, KbrnUtils.parse(value.toCharArray(), 0, value.length()));
+        assertEquals(-1, KbrnUtils.parseRemaining(ByteBuffer.wrap(bytes)));
+    }
+
+    @DisplayName("유효한 사업자등록번호를 검증하면 VALID 를 반환")
+    @ParameterizedTest(name = "CASE {index} - {0}")
+    @ValidKbrnSource(limit = 30)
+    void validate_valid_kbrn(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(ValidationResult.VALID, KbrnUtils.validate(value));
+        assertEquals(ValidationResult.VALID, KbrnUtils.validate(new StringBuilder(value)));
+        assertEquals(ValidationResult.VALID, KbrnUtils.validate(bytes, 0, bytes.length));
+        assertEquals(ValidationResult.VALID, KbrnUtils.validate(value.toCharArray(), 0, value.length()));
+    }
+
+    @DisplayName("올바르지 않은 사업자등록번호를 검증하면 처음 발견한 사유를 반환")
+    @ParameterizedTest(name = "CASE {index} - {0} -> {1}")
+    @CsvSource({
+        "'',             BAD_LENGTH",
+        "12081475210,    BAD_LENGTH",
+        "120-81-4752,    BAD_LENGTH",
+        "12O8147521,     BAD_CHAR",
+        "120-8A-47521,   BAD_CHAR",
+        "120+81+47521,   BAD_DELIMITER",
+        "120-8147-521,   BAD_DELIMITER",
+        "1208147522,     BAD_CHECKSUM",
+        "120-81-47522,   BAD_CHECKSUM"
+    })
+    void validate_invalid_kbrn(String value, ValidationResult expected) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(expected, KbrnUtils.validate(value));
+        assertEquals(expected, KbrnUtils.validate(bytes, 0, bytes.length));
+        assertEquals(expected, KbrnUtils.validate(value.toCharArray(), 0, value.length()));
+        assertEquals(KbrnUtils.isValid(value), expected.isValid());
+    }
+
+    @DisplayName("null 을 검증하면 BAD_LENGTH 를 반환")
+    @Test
+    void validate_null() {
+        assertEquals(ValidationResult.BAD_LENGTH, KbrnUtils.validate(null));
+        assertFalse(KbrnUtils.isValid(null));
+        assertEquals(-1, KbrnUtils.parse(null));
+    }
+
+    @DisplayName("배열의 범위를 벗어나는 구간을 검사하면 예외를 던짐")
+    @Test
+    void check_out_of_bounds_buffers() {
+        byte[] bytes = "1208147521".getBytes(StandardCharsets.US_ASCII);
+        char[] chars = "1208147521".toCharArray();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnUtils.isValid(bytes, 1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnUtils.isValid(chars, -1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnUtils.parse(bytes, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class, () -> KbrnUtils.validate(chars, 1, 10));
+    }
 }
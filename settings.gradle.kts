@@ -2,3 +2,6 @@ rootProject.name = "kbrn"
 
 include("kbrn")
 include("kbrn-jackson")
+include("kbrn-jackson3")
+include("kbrn-vector")
+include("kbrn-benchmarks")